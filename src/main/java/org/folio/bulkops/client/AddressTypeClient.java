@@ -16,4 +16,7 @@ public interface AddressTypeClient {
   AddressType getAddressTypeById(@PathVariable String typeId);
   @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
   AddressTypeCollection getByQuery(@RequestParam String query);
+
+  @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+  AddressTypeCollection getAddressTypes(@RequestParam("offset") int offset, @RequestParam("limit") int limit);
 }
@@ -17,4 +17,7 @@ public interface DepartmentClient {
 
   @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
   DepartmentCollection getByQuery(@RequestParam String query);
+
+  @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+  DepartmentCollection getDepartments(@RequestParam("offset") int offset, @RequestParam("limit") int limit);
 }
@@ -0,0 +1,55 @@
+package org.folio.bulkops.client;
+
+import java.io.InputStream;
+import java.nio.file.Path;
+
+/**
+ * Backend holding files of the module, selected by {@code application.remote-files-storage.type}.
+ */
+public interface FileStorage {
+
+  String write(String path, InputStream inputStream);
+
+  /**
+   * Stores content of the local file at the path, the local file is left in place.
+   */
+  String upload(String path, Path file);
+
+  InputStream read(String path);
+
+  void remove(String... paths);
+
+  default boolean isPresignedUrlSupported() {
+    return false;
+  }
+
+  /**
+   * Returns url clients can download the file from without calling the module.
+   */
+  default String getPresignedUrl(String path) {
+    throw new UnsupportedOperationException("Presigned url is not supported by " + getClass().getSimpleName());
+  }
+
+  default boolean isMultipartUploadSupported() {
+    return false;
+  }
+
+  default MultipartUpload createMultipartUpload(String path) {
+    throw new UnsupportedOperationException("Multipart upload is not supported by " + getClass().getSimpleName());
+  }
+
+  default boolean isRangedReadSupported() {
+    return false;
+  }
+
+  default long size(String path) {
+    throw new UnsupportedOperationException("Ranged read is not supported by " + getClass().getSimpleName());
+  }
+
+  /**
+   * Reads {@code length} bytes of the file starting from the offset.
+   */
+  default InputStream read(String path, long offset, long length) {
+    throw new UnsupportedOperationException("Ranged read is not supported by " + getClass().getSimpleName());
+  }
+}
@@ -17,4 +17,7 @@ public interface GroupClient {
 
   @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
   UserGroupCollection getByQuery(@RequestParam String query);
+
+  @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+  UserGroupCollection getGroups(@RequestParam("offset") int offset, @RequestParam("limit") int limit);
 }
@@ -19,4 +19,7 @@ public interface HoldingsNoteTypeClient {
 
   @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
   HoldingsNoteTypeCollection getNoteTypes(@RequestParam("limit") int limit);
+
+  @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+  HoldingsNoteTypeCollection getNoteTypes(@RequestParam("offset") int offset, @RequestParam("limit") int limit);
 }
@@ -17,4 +17,7 @@ public interface InstanceFormatsClient {
   @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
   InstanceFormats getByQuery(@RequestParam String query, @RequestParam long limit);
 
+  @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+  InstanceFormats getInstanceFormats(@RequestParam("offset") int offset, @RequestParam("limit") int limit);
+
 }
@@ -17,4 +17,7 @@ public interface InstanceStatusesClient {
   @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
   InstanceStatuses getByQuery(@RequestParam String query, @RequestParam long limit);
 
+  @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+  InstanceStatuses getInstanceStatuses(@RequestParam("offset") int offset, @RequestParam("limit") int limit);
+
 }
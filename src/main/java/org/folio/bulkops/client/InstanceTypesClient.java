@@ -20,4 +20,7 @@ public interface InstanceTypesClient {
   @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
   InstanceTypes getInstanceTypes(@RequestParam long limit);
 
+  @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+  InstanceTypes getInstanceTypes(@RequestParam("offset") int offset, @RequestParam("limit") int limit);
+
 }
@@ -19,4 +19,7 @@ public interface ItemNoteTypeClient {
 
   @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
   NoteTypeCollection getNoteTypes(@RequestParam("limit") int limit);
+
+  @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+  NoteTypeCollection getNoteTypes(@RequestParam("offset") int offset, @RequestParam("limit") int limit);
 }
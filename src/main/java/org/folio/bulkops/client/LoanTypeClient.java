@@ -13,6 +13,9 @@ public interface LoanTypeClient {
   @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
   LoanTypeCollection getByQuery(@RequestParam String query);
 
+  @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+  LoanTypeCollection getLoanTypes(@RequestParam("offset") int offset, @RequestParam("limit") int limit);
+
   @GetMapping(value = "/{id}", produces = MediaType.APPLICATION_JSON_VALUE)
   LoanType getLoanTypeById(@PathVariable String id);
 }
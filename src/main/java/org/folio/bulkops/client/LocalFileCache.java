@@ -0,0 +1,244 @@
+package org.folio.bulkops.client;
+
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+
+import org.apache.commons.io.file.PathUtils;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Node-local copies of files of the remote storage bounded by their total size, the least recently used files are
+ * evicted first. Files uploaded by this instance are cached once uploaded and files read from the storage are cached
+ * on the first read, so phases of an operation processed by the same instance read its files from local disk. Cached
+ * files are read through memory mapped buffers.
+ * <p>
+ * The storage client exposes no object versions, so entries are keyed by path and kept in sync only with writes and
+ * removals made by this instance: a file overwritten by another instance is not noticed until the entry is evicted.
+ */
+@Log4j2
+public class LocalFileCache {
+  private static final LocalFileCache DISABLED = new LocalFileCache();
+
+  private final Path directory;
+  private final long maxSize;
+  private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+  private long size;
+  private long modifications;
+
+  public LocalFileCache(Path directory, long maxSize) {
+    this.directory = directory;
+    this.maxSize = maxSize;
+    try {
+      Files.createDirectories(directory);
+      PathUtils.cleanDirectory(directory);
+    } catch (IOException e) {
+      throw new UncheckedIOException("Failed to prepare directory of local file cache " + directory, e);
+    }
+    log.info("Local file cache: directory {}, max size {} bytes", directory, maxSize);
+  }
+
+  private LocalFileCache() {
+    this.directory = null;
+    this.maxSize = 0;
+  }
+
+  public static LocalFileCache disabled() {
+    return DISABLED;
+  }
+
+  public boolean isEnabled() {
+    return directory != null;
+  }
+
+  /**
+   * Returns cached copy of the file or, if there is none, the file opened by the loader, which is cached on the way.
+   */
+  public InputStream get(String path, Function<String, InputStream> loader) throws IOException {
+    if (!isEnabled()) {
+      return loader.apply(path);
+    }
+    var cached = open(path);
+    if (cached.isPresent()) {
+      return cached.get();
+    }
+    long expectedModifications;
+    synchronized (this) {
+      expectedModifications = modifications;
+    }
+    var file = Files.createTempFile(directory, "download-", ".tmp");
+    try (var inputStream = loader.apply(path)) {
+      Files.copy(inputStream, file, REPLACE_EXISTING);
+    } catch (IOException | RuntimeException e) {
+      Files.deleteIfExists(file);
+      throw e;
+    }
+    var inputStream = map(file);
+    store(path, file, expectedModifications);
+    return inputStream;
+  }
+
+  /**
+   * Creates a file to be passed to {@link #put} once its content is uploaded to the storage.
+   */
+  Path createTempFile() throws IOException {
+    return isEnabled() ?
+      Files.createTempFile(directory, "upload-", ".tmp") :
+      Files.createTempFile("remote-storage-", ".tmp");
+  }
+
+  /**
+   * Caches the file uploaded to the path, the cache takes ownership of the file.
+   */
+  void put(String path, Path file) throws IOException {
+    if (!isEnabled()) {
+      Files.deleteIfExists(file);
+      return;
+    }
+    long expectedModifications;
+    synchronized (this) {
+      expectedModifications = ++modifications;
+    }
+    store(path, file, expectedModifications);
+  }
+
+  public void remove(String path) {
+    if (!isEnabled()) {
+      return;
+    }
+    Entry removed;
+    synchronized (this) {
+      modifications++;
+      removed = entries.remove(path);
+      if (removed != null) {
+        size -= removed.size();
+      }
+    }
+    if (removed != null) {
+      delete(removed.file());
+    }
+  }
+
+  /**
+   * Stores the file unless files were written or removed since the expected number of modifications, to not replace
+   * a newer copy with the one loaded concurrently.
+   */
+  private void store(String path, Path file, long expectedModifications) throws IOException {
+    var fileSize = Files.size(file);
+    List<Path> evicted = new ArrayList<>();
+    synchronized (this) {
+      if (modifications != expectedModifications || fileSize > maxSize) {
+        var outdated = entries.remove(path);
+        if (outdated != null) {
+          size -= outdated.size();
+          evicted.add(outdated.file());
+        }
+        evicted.add(file);
+      } else {
+        var previous = entries.put(path, new Entry(file, fileSize));
+        size += fileSize;
+        if (previous != null) {
+          size -= previous.size();
+          evicted.add(previous.file());
+        }
+        var iterator = entries.values().iterator();
+        while (size > maxSize) {
+          var eldest = iterator.next();
+          iterator.remove();
+          size -= eldest.size();
+          evicted.add(eldest.file());
+        }
+      }
+    }
+    evicted.forEach(this::delete);
+  }
+
+  private Optional<InputStream> open(String path) throws IOException {
+    Entry entry;
+    synchronized (this) {
+      entry = entries.get(path);
+    }
+    if (entry == null) {
+      return Optional.empty();
+    }
+    try {
+      return Optional.of(map(entry.file()));
+    } catch (NoSuchFileException e) {
+      // evicted after lookup
+      return Optional.empty();
+    }
+  }
+
+  private InputStream map(Path file) throws IOException {
+    try (var channel = FileChannel.open(file)) {
+      if (channel.size() <= Integer.MAX_VALUE) {
+        return new MappedInputStream(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+      }
+    }
+    return Files.newInputStream(file);
+  }
+
+  private void delete(Path file) {
+    try {
+      Files.deleteIfExists(file);
+    } catch (IOException e) {
+      log.warn("Failed to delete cached file {}: {}", file, e.getMessage());
+    }
+  }
+
+  private record Entry(Path file, long size) {
+  }
+
+  private static class MappedInputStream extends InputStream {
+    private final ByteBuffer buffer;
+
+    MappedInputStream(ByteBuffer buffer) {
+      this.buffer = buffer;
+    }
+
+    @Override
+    public int read() {
+      return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) {
+      Objects.checkFromIndexSize(off, len, b.length);
+      if (len == 0) {
+        return 0;
+      }
+      if (!buffer.hasRemaining()) {
+        return -1;
+      }
+      var count = Math.min(len, buffer.remaining());
+      buffer.get(b, off, count);
+      return count;
+    }
+
+    @Override
+    public long skip(long n) {
+      var count = (int) Math.max(0, Math.min(n, buffer.remaining()));
+      buffer.position(buffer.position() + count);
+      return count;
+    }
+
+    @Override
+    public int available() {
+      return buffer.remaining();
+    }
+  }
+}
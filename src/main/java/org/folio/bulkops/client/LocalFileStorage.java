@@ -0,0 +1,108 @@
+package org.folio.bulkops.client;
+
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Stores files in a directory of the local file system, for single instance deployments and test environments. Files
+ * are written to a temporary file moved to the path once complete, so readers never see partial content. Presigned
+ * urls are not supported, files are streamed by the module.
+ */
+@Log4j2
+public class LocalFileStorage implements FileStorage {
+
+  private final Path directory;
+
+  public LocalFileStorage(Path directory) {
+    this.directory = directory.toAbsolutePath().normalize();
+    try {
+      Files.createDirectories(this.directory);
+    } catch (IOException e) {
+      throw new UncheckedIOException("Failed to create directory of local file storage " + directory, e);
+    }
+    log.info("Local file storage: directory {}", this.directory);
+  }
+
+  @Override
+  public String write(String path, InputStream inputStream) {
+    var target = resolve(path);
+    try {
+      var tmp = createTempFile(target);
+      try {
+        Files.copy(inputStream, tmp, REPLACE_EXISTING);
+        Files.move(tmp, target, REPLACE_EXISTING, ATOMIC_MOVE);
+      } finally {
+        Files.deleteIfExists(tmp);
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException("Failed to write file " + path, e);
+    }
+    return path;
+  }
+
+  @Override
+  public String upload(String path, Path file) {
+    var target = resolve(path);
+    try {
+      var tmp = createTempFile(target);
+      try {
+        try (var source = FileChannel.open(file, READ); var destination = FileChannel.open(tmp, WRITE)) {
+          var size = source.size();
+          for (var position = 0L; position < size; ) {
+            position += source.transferTo(position, size - position, destination);
+          }
+        }
+        Files.move(tmp, target, REPLACE_EXISTING, ATOMIC_MOVE);
+      } finally {
+        Files.deleteIfExists(tmp);
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException("Failed to upload file " + path, e);
+    }
+    return path;
+  }
+
+  @Override
+  public InputStream read(String path) {
+    try {
+      return Files.newInputStream(resolve(path));
+    } catch (IOException e) {
+      throw new UncheckedIOException("Failed to read file " + path, e);
+    }
+  }
+
+  @Override
+  public void remove(String... paths) {
+    for (var path : paths) {
+      try {
+        Files.deleteIfExists(resolve(path));
+      } catch (IOException e) {
+        throw new UncheckedIOException("Failed to remove file " + path, e);
+      }
+    }
+  }
+
+  private Path resolve(String path) {
+    var resolved = directory.resolve(path).normalize();
+    if (!resolved.startsWith(directory) || resolved.equals(directory)) {
+      throw new IllegalArgumentException("Path is outside of the storage directory: " + path);
+    }
+    return resolved;
+  }
+
+  private Path createTempFile(Path target) throws IOException {
+    Files.createDirectories(target.getParent());
+    return Files.createTempFile(target.getParent(), ".", ".tmp");
+  }
+}
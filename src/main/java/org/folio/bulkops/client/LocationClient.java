@@ -17,6 +17,10 @@ public interface LocationClient {
 
   @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
   ItemLocationCollection getByQuery(@RequestParam String query);
+
+  @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+  ItemLocationCollection getLocations(@RequestParam("offset") int offset, @RequestParam("limit") int limit);
+
   @GetMapping(value = "/{id}", produces = MediaType.APPLICATION_JSON_VALUE)
   JsonNode getLocation(@PathVariable String id);
 
@@ -12,4 +12,7 @@ public interface MaterialTypeClient {
 
   @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
   MaterialTypeCollection getByQuery(@RequestParam String query);
+
+  @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+  MaterialTypeCollection getMaterialTypes(@RequestParam("offset") int offset, @RequestParam("limit") int limit);
 }
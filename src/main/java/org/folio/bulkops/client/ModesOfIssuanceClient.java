@@ -17,4 +17,7 @@ public interface ModesOfIssuanceClient {
   @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
   ModesOfIssuance getByQuery(@RequestParam String query, @RequestParam long limit);
 
+  @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+  ModesOfIssuance getModesOfIssuance(@RequestParam("offset") int offset, @RequestParam("limit") int limit);
+
 }
@@ -0,0 +1,21 @@
+package org.folio.bulkops.client;
+
+import java.util.List;
+
+/**
+ * Upload of a file of the {@link FileStorage} in parts, which may be uploaded concurrently and in any order.
+ */
+public interface MultipartUpload {
+
+  /**
+   * Uploads the first {@code length} bytes of the part and returns the tag identifying the uploaded part.
+   */
+  String uploadPart(int partNumber, byte[] part, int length);
+
+  /**
+   * Assembles the file from the parts identified by the tags, ordered by part number starting from 1.
+   */
+  void complete(List<String> partTags);
+
+  void abort();
+}
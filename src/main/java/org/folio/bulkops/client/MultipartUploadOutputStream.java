@@ -0,0 +1,153 @@
+package org.folio.bulkops.client;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Uploads bytes written to the path of the {@link FileStorage} in parts of a fixed size, up to {@code parallelism}
+ * parts at a time. The writing thread only copies bytes into part buffers and waits only when all the buffers are
+ * being uploaded, which bounds memory to {@code parallelism + 1} parts. Content smaller than a part is written with a
+ * single request without multipart upload.
+ */
+@Log4j2
+public class MultipartUploadOutputStream extends OutputStream {
+  private final FileStorage fileStorage;
+  private final String path;
+  private final int partSize;
+  private final Executor executor;
+  private final Semaphore uploadPermits;
+  private final Queue<byte[]> freeBuffers = new ConcurrentLinkedQueue<>();
+  private final List<CompletableFuture<String>> parts = new ArrayList<>();
+  private CompletableFuture<MultipartUpload> upload;
+  private volatile Throwable failure;
+  private byte[] buffer;
+  private int count;
+  private boolean closed;
+
+  public MultipartUploadOutputStream(FileStorage fileStorage, String path, int partSize, int parallelism, Executor executor) {
+    this.fileStorage = fileStorage;
+    this.path = path;
+    this.partSize = partSize;
+    this.executor = executor;
+    this.uploadPermits = new Semaphore(parallelism);
+    this.buffer = new byte[partSize];
+  }
+
+  @Override
+  public void write(int b) throws IOException {
+    ensureOpen();
+    if (count == partSize) {
+      submitPart();
+    }
+    buffer[count++] = (byte) b;
+  }
+
+  @Override
+  public void write(byte[] b, int off, int len) throws IOException {
+    Objects.checkFromIndexSize(off, len, b.length);
+    ensureOpen();
+    while (len > 0) {
+      if (count == partSize) {
+        submitPart();
+      }
+      var length = Math.min(len, partSize - count);
+      System.arraycopy(b, off, buffer, count, length);
+      count += length;
+      off += length;
+      len -= length;
+    }
+  }
+
+  @Override
+  public void close() throws IOException {
+    if (closed) {
+      return;
+    }
+    closed = true;
+    if (upload == null) {
+      fileStorage.write(path, new ByteArrayInputStream(buffer, 0, count));
+      buffer = null;
+      return;
+    }
+    try {
+      if (count > 0) {
+        submitPart();
+      }
+      var partTags = parts.stream().map(CompletableFuture::join).toList();
+      upload.join().complete(partTags);
+    } catch (IOException e) {
+      abort();
+      throw e;
+    } catch (RuntimeException e) {
+      abort();
+      throw new IOException("Failed to upload file " + path, e instanceof CompletionException ? e.getCause() : e);
+    } finally {
+      buffer = null;
+      freeBuffers.clear();
+    }
+  }
+
+  /**
+   * Hands the full buffer over to an upload task and continues with a free buffer, waiting for one only when
+   * {@code parallelism} parts are being uploaded.
+   */
+  private void submitPart() throws IOException {
+    if (failure != null) {
+      throw new IOException("Failed to upload part of file " + path, failure);
+    }
+    if (upload == null) {
+      upload = CompletableFuture.supplyAsync(() -> fileStorage.createMultipartUpload(path), executor);
+    }
+    try {
+      uploadPermits.acquire();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException("Interrupted while waiting for upload of part of file " + path);
+    }
+    var part = buffer;
+    var length = count;
+    var partNumber = parts.size() + 1;
+    parts.add(upload.thenApplyAsync(multipartUpload -> multipartUpload.uploadPart(partNumber, part, length), executor)
+      .whenComplete((tag, e) -> {
+        if (e != null) {
+          failure = e instanceof CompletionException ? e.getCause() : e;
+        }
+        freeBuffers.add(part);
+        uploadPermits.release();
+      }));
+    var free = freeBuffers.poll();
+    buffer = free != null ? free : new byte[partSize];
+    count = 0;
+  }
+
+  private void abort() {
+    CompletableFuture.allOf(parts.toArray(CompletableFuture[]::new)).handle((result, e) -> null).join();
+    var multipartUpload = upload.handle((result, e) -> result).join();
+    if (multipartUpload != null) {
+      try {
+        multipartUpload.abort();
+      } catch (RuntimeException e) {
+        log.warn("Failed to abort upload of file {}: {}", path, e.getMessage());
+      }
+    }
+  }
+
+  private void ensureOpen() throws IOException {
+    if (closed) {
+      throw new IOException("Stream is closed");
+    }
+  }
+}
@@ -17,4 +17,7 @@ public interface NatureOfContentTermsClient {
   @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
   NatureOfContentTerms getByQuery(@RequestParam String query, @RequestParam long limit);
 
+  @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+  NatureOfContentTerms getNatureOfContentTerms(@RequestParam("offset") int offset, @RequestParam("limit") int limit);
+
 }
@@ -0,0 +1,146 @@
+package org.folio.bulkops.client;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+
+/**
+ * Reads a file of the {@link FileStorage} in chunks of a fixed size downloaded ahead of the reader with ranged
+ * reads, up to {@code parallelism} chunks at a time. The next chunk is scheduled as soon as the reader takes a
+ * downloaded one, so the reader waits only when it is faster than the downloads. Chunk buffers are reused, memory is
+ * bounded to {@code parallelism + 1} chunks.
+ */
+public class ReadAheadInputStream extends InputStream {
+  private final FileStorage fileStorage;
+  private final String path;
+  private final long size;
+  private final int chunkSize;
+  private final Executor executor;
+  private final Deque<CompletableFuture<Chunk>> chunks = new ArrayDeque<>();
+  private final Queue<byte[]> freeBuffers = new ConcurrentLinkedQueue<>();
+  private long nextOffset;
+  private Chunk current;
+  private boolean closed;
+
+  public ReadAheadInputStream(FileStorage fileStorage, String path, long size, int chunkSize, int parallelism, Executor executor) {
+    this.fileStorage = fileStorage;
+    this.path = path;
+    this.size = size;
+    this.chunkSize = chunkSize;
+    this.executor = executor;
+    for (var i = 0; i < parallelism; i++) {
+      scheduleNext();
+    }
+  }
+
+  @Override
+  public int read() throws IOException {
+    if (!ensureAvailable()) {
+      return -1;
+    }
+    return current.data[current.position++] & 0xFF;
+  }
+
+  @Override
+  public int read(byte[] b, int off, int len) throws IOException {
+    Objects.checkFromIndexSize(off, len, b.length);
+    if (len == 0) {
+      return 0;
+    }
+    if (!ensureAvailable()) {
+      return -1;
+    }
+    var count = Math.min(len, current.remaining());
+    System.arraycopy(current.data, current.position, b, off, count);
+    current.position += count;
+    return count;
+  }
+
+  @Override
+  public int available() {
+    return current == null ? 0 : current.remaining();
+  }
+
+  @Override
+  public void close() {
+    closed = true;
+    chunks.forEach(chunk -> chunk.cancel(false));
+    chunks.clear();
+    current = null;
+  }
+
+  private boolean ensureAvailable() throws IOException {
+    if (closed) {
+      throw new IOException("Stream is closed");
+    }
+    while (current == null || current.remaining() == 0) {
+      if (current != null) {
+        freeBuffers.add(current.data);
+        current = null;
+      }
+      var next = chunks.poll();
+      if (next == null) {
+        return false;
+      }
+      try {
+        current = next.join();
+      } catch (CompletionException e) {
+        throw e.getCause() instanceof UncheckedIOException io ?
+          io.getCause() :
+          new IOException("Failed to read file " + path, e.getCause());
+      }
+      scheduleNext();
+    }
+    return true;
+  }
+
+  private void scheduleNext() {
+    if (nextOffset >= size) {
+      return;
+    }
+    var offset = nextOffset;
+    var length = (int) Math.min(chunkSize, size - offset);
+    nextOffset += length;
+    chunks.add(CompletableFuture.supplyAsync(() -> download(offset, length), executor));
+  }
+
+  private Chunk download(long offset, int length) {
+    var buffer = freeBuffers.poll();
+    if (buffer == null) {
+      buffer = new byte[chunkSize];
+    }
+    try (var inputStream = fileStorage.read(path, offset, length)) {
+      if (inputStream.readNBytes(buffer, 0, length) != length) {
+        throw new EOFException("File " + path + " ended before " + (offset + length) + " bytes");
+      }
+      return new Chunk(buffer, length);
+    } catch (IOException e) {
+      freeBuffers.add(buffer);
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private static class Chunk {
+    private final byte[] data;
+    private final int length;
+    private int position;
+
+    Chunk(byte[] data, int length) {
+      this.data = data;
+      this.length = length;
+    }
+
+    int remaining() {
+      return length - position;
+    }
+  }
+}
@@ -1,25 +1,79 @@
 package org.folio.bulkops.client;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
+
 import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
 import java.io.Writer;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
-import org.folio.s3.client.FolioS3Client;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
 
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 
+/**
+ * Files of the module are stored compressed with the configured {@link StorageCompression}, except files users
+ * download by presigned url ({@link #putForDownload}, {@link #writerForDownload}), which are stored as is. Files are
+ * decompressed on read whatever compression they were stored with. Files written and read are kept in the
+ * {@link LocalFileCache} when it is enabled. Files are kept in the configured {@link FileStorage}.
+ */
 @Component
 @RequiredArgsConstructor
 public class RemoteFileSystemClient {
 
   private static final int DEFAULT_CHAR_BUFFER_SIZE = 16384;
+  private static final int DEFAULT_BYTE_BUFFER_SIZE = 65536;
+  private static final DataSize MIN_MULTIPART_UPLOAD_PART_SIZE = DataSize.ofMegabytes(5);
+
+  public final FileStorage fileStorage;
+  private final LocalFileCache localFileCache;
+
+  @Value("${application.remote-files-storage.compression:none}")
+  private StorageCompression compression = StorageCompression.NONE;
+  @Value("${application.remote-files-storage.multipart-upload.enabled:false}")
+  private boolean multipartUploadEnabled;
+  @Value("${application.remote-files-storage.multipart-upload.part-size:8MB}")
+  private DataSize multipartUploadPartSize = DataSize.ofMegabytes(8);
+  @Value("${application.remote-files-storage.multipart-upload.parallelism:4}")
+  private int multipartUploadParallelism = 4;
+
+  @Value("${application.remote-files-storage.read-ahead.enabled:false}")
+  private boolean readAheadEnabled;
+  @Value("${application.remote-files-storage.read-ahead.chunk-size:8MB}")
+  private DataSize readAheadChunkSize = DataSize.ofMegabytes(8);
+  @Value("${application.remote-files-storage.read-ahead.parallelism:4}")
+  private int readAheadParallelism = 4;
 
-  public final FolioS3Client remoteFolioS3Client;
+  private final ExecutorService transferExecutor = Executors.newCachedThreadPool();
+
+  /**
+   * S3 rejects multipart uploads with parts (except the last one) smaller than 5MB, so such part size fails on start
+   * rather than on the first upload.
+   */
+  @PostConstruct
+  void validateMultipartUploadPartSize() {
+    if (multipartUploadEnabled && multipartUploadPartSize.compareTo(MIN_MULTIPART_UPLOAD_PART_SIZE) < 0) {
+      throw new IllegalStateException("Multipart upload part size must be at least " + MIN_MULTIPART_UPLOAD_PART_SIZE
+        + ", configured: " + multipartUploadPartSize);
+    }
+  }
 
   public String put(InputStream newFile, String fileNameToBeUpdated) {
-    return remoteFolioS3Client.write(fileNameToBeUpdated, newFile);
+    return put(newFile, fileNameToBeUpdated, compression);
+  }
+
+  public String putForDownload(InputStream newFile, String fileNameToBeUpdated) {
+    return put(newFile, fileNameToBeUpdated, StorageCompression.NONE);
   }
 
   public int getNumOfLines(String file) {
@@ -28,19 +82,93 @@ public class RemoteFileSystemClient {
   }
 
   public InputStream get(String fileName) {
-    return remoteFolioS3Client.read(fileName);
+    try {
+      return StorageCompression.decode(localFileCache.get(fileName, this::read), DEFAULT_BYTE_BUFFER_SIZE);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
   }
 
   public void remove(String filename) {
-    remoteFolioS3Client.remove(filename);
+    fileStorage.remove(filename);
+    localFileCache.remove(filename);
   }
 
   public void remove(String... paths) {
-    remoteFolioS3Client.remove(paths);
+    fileStorage.remove(paths);
+    for (var path : paths) {
+      localFileCache.remove(path);
+    }
+  }
+
+  public boolean isPresignedUrlSupported() {
+    return fileStorage.isPresignedUrlSupported();
+  }
+
+  public String getPresignedUrl(String path) {
+    return fileStorage.getPresignedUrl(path);
   }
 
   public Writer writer(String path) {
-    return remoteFolioS3Client.getRemoteStorageWriter(path, DEFAULT_CHAR_BUFFER_SIZE);
+    return writer(path, compression);
+  }
+
+  public Writer writerForDownload(String path) {
+    return writer(path, StorageCompression.NONE);
+  }
+
+  public OutputStream outputStream(String path) {
+    return outputStream(path, compression);
+  }
+
+  private String put(InputStream newFile, String path, StorageCompression storageCompression) {
+    if (storageCompression == StorageCompression.NONE && !localFileCache.isEnabled()) {
+      return fileStorage.write(path, newFile);
+    }
+    try (var outputStream = outputStream(path, storageCompression)) {
+      newFile.transferTo(outputStream);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    return path;
+  }
+
+  private Writer writer(String path, StorageCompression storageCompression) {
+    return new BufferedWriter(new OutputStreamWriter(outputStream(path, storageCompression), UTF_8), DEFAULT_CHAR_BUFFER_SIZE);
+  }
+
+  private OutputStream outputStream(String path, StorageCompression storageCompression) {
+    try {
+      return storageCompression.encode(storageOutputStream(path), DEFAULT_BYTE_BUFFER_SIZE);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /**
+   * Files larger than a chunk are read ahead in chunks when the storage supports ranged reads.
+   */
+  private InputStream read(String path) {
+    if (readAheadEnabled && fileStorage.isRangedReadSupported()) {
+      var size = fileStorage.size(path);
+      var chunkSize = (int) readAheadChunkSize.toBytes();
+      if (size > chunkSize) {
+        return new ReadAheadInputStream(fileStorage, path, size, chunkSize, readAheadParallelism, transferExecutor);
+      }
+    }
+    return fileStorage.read(path);
+  }
+
+  /**
+   * Files are uploaded in parts while being written when the storage supports it, unless they are staged in a local
+   * file kept by the {@link LocalFileCache} afterwards.
+   */
+  private OutputStream storageOutputStream(String path) throws IOException {
+    if (multipartUploadEnabled && fileStorage.isMultipartUploadSupported() && !localFileCache.isEnabled()) {
+      return new MultipartUploadOutputStream(fileStorage, path, (int) multipartUploadPartSize.toBytes(),
+        multipartUploadParallelism, transferExecutor);
+    }
+    return new RemoteStorageOutputStream(path, DEFAULT_BYTE_BUFFER_SIZE, fileStorage, localFileCache);
   }
 
 }
@@ -0,0 +1,53 @@
+package org.folio.bulkops.client;
+
+import java.io.BufferedOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Bytes are buffered in a local temporary file which is uploaded to the path of the {@link FileStorage} on close and
+ * then handed over to the {@link LocalFileCache}.
+ */
+public class RemoteStorageOutputStream extends FilterOutputStream {
+  private final String path;
+  private final Path tmp;
+  private final FileStorage fileStorage;
+  private final LocalFileCache localFileCache;
+  private boolean closed;
+
+  public RemoteStorageOutputStream(String path, int size, FileStorage fileStorage, LocalFileCache localFileCache) throws IOException {
+    this(path, localFileCache.createTempFile(), size, fileStorage, localFileCache);
+  }
+
+  private RemoteStorageOutputStream(String path, Path tmp, int size, FileStorage fileStorage, LocalFileCache localFileCache) throws IOException {
+    super(new BufferedOutputStream(Files.newOutputStream(tmp), size));
+    this.path = path;
+    this.tmp = tmp;
+    this.fileStorage = fileStorage;
+    this.localFileCache = localFileCache;
+  }
+
+  @Override
+  public void write(byte[] b, int off, int len) throws IOException {
+    out.write(b, off, len);
+  }
+
+  @Override
+  public void close() throws IOException {
+    if (closed) {
+      return;
+    }
+    closed = true;
+    try {
+      super.close();
+      fileStorage.upload(path, tmp);
+    } catch (IOException | RuntimeException e) {
+      localFileCache.remove(path);
+      Files.deleteIfExists(tmp);
+      throw e;
+    }
+    localFileCache.put(path, tmp);
+  }
+}
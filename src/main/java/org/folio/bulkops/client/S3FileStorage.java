@@ -0,0 +1,132 @@
+package org.folio.bulkops.client;
+
+import static java.util.Objects.nonNull;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.folio.s3.client.FolioS3Client;
+
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+
+/**
+ * Stores files with {@link FolioS3Client}. Multipart uploads and ranged reads, which the client does not expose, are
+ * made with the {@link S3Client} of the same bucket when it is provided.
+ */
+public class S3FileStorage implements FileStorage {
+
+  private final FolioS3Client remoteFolioS3Client;
+  private final S3Client s3Client;
+  private final String bucket;
+
+  public S3FileStorage(FolioS3Client remoteFolioS3Client) {
+    this(remoteFolioS3Client, null, null);
+  }
+
+  public S3FileStorage(FolioS3Client remoteFolioS3Client, S3Client s3Client, String bucket) {
+    this.remoteFolioS3Client = remoteFolioS3Client;
+    this.s3Client = s3Client;
+    this.bucket = bucket;
+  }
+
+  @Override
+  public String write(String path, InputStream inputStream) {
+    return remoteFolioS3Client.write(path, inputStream);
+  }
+
+  @Override
+  public String upload(String path, Path file) {
+    return remoteFolioS3Client.upload(path, file.toString());
+  }
+
+  @Override
+  public InputStream read(String path) {
+    return remoteFolioS3Client.read(path);
+  }
+
+  @Override
+  public void remove(String... paths) {
+    remoteFolioS3Client.remove(paths);
+  }
+
+  @Override
+  public boolean isPresignedUrlSupported() {
+    return true;
+  }
+
+  @Override
+  public String getPresignedUrl(String path) {
+    return remoteFolioS3Client.getPresignedUrl(path);
+  }
+
+  @Override
+  public boolean isMultipartUploadSupported() {
+    return nonNull(s3Client);
+  }
+
+  @Override
+  public MultipartUpload createMultipartUpload(String path) {
+    if (!isMultipartUploadSupported()) {
+      return FileStorage.super.createMultipartUpload(path);
+    }
+    var uploadId = s3Client.createMultipartUpload(request -> request.bucket(bucket).key(path)).uploadId();
+    return new S3MultipartUpload(path, uploadId);
+  }
+
+  @Override
+  public boolean isRangedReadSupported() {
+    return nonNull(s3Client);
+  }
+
+  @Override
+  public long size(String path) {
+    if (!isRangedReadSupported()) {
+      return FileStorage.super.size(path);
+    }
+    return s3Client.headObject(request -> request.bucket(bucket).key(path)).contentLength();
+  }
+
+  @Override
+  public InputStream read(String path, long offset, long length) {
+    if (!isRangedReadSupported()) {
+      return FileStorage.super.read(path, offset, length);
+    }
+    return s3Client.getObject(request -> request.bucket(bucket).key(path)
+      .range("bytes=" + offset + "-" + (offset + length - 1)));
+  }
+
+  private class S3MultipartUpload implements MultipartUpload {
+    private final String path;
+    private final String uploadId;
+
+    S3MultipartUpload(String path, String uploadId) {
+      this.path = path;
+      this.uploadId = uploadId;
+    }
+
+    @Override
+    public String uploadPart(int partNumber, byte[] part, int length) {
+      return s3Client.uploadPart(request -> request.bucket(bucket).key(path).uploadId(uploadId).partNumber(partNumber),
+        RequestBody.fromInputStream(new ByteArrayInputStream(part, 0, length), length)).eTag();
+    }
+
+    @Override
+    public void complete(List<String> partTags) {
+      var parts = IntStream.range(0, partTags.size())
+        .mapToObj(i -> CompletedPart.builder().partNumber(i + 1).eTag(partTags.get(i)).build())
+        .toList();
+      s3Client.completeMultipartUpload(request -> request.bucket(bucket).key(path).uploadId(uploadId)
+        .multipartUpload(upload -> upload.parts(parts)));
+    }
+
+    @Override
+    public void abort() {
+      s3Client.abortMultipartUpload(request -> request.bucket(bucket).key(path).uploadId(uploadId));
+    }
+  }
+}
@@ -17,4 +17,7 @@ public interface ServicePointClient {
   @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
   ServicePoints getByQuery(@RequestParam String query, @RequestParam long limit);
 
+  @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+  ServicePoints getServicePoints(@RequestParam("offset") int offset, @RequestParam("limit") int limit);
+
 }
@@ -16,4 +16,7 @@ public interface StatisticalCodeClient {
 
   @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
   StatisticalCodeCollection getByQuery(@RequestParam String query);
+
+  @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+  StatisticalCodeCollection getStatisticalCodes(@RequestParam("offset") int offset, @RequestParam("limit") int limit);
 }
@@ -0,0 +1,44 @@
+package org.folio.bulkops.client;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Compression of files stored by the module. Stored content is self-describing: a file is recognized as compressed by
+ * the signature of the codec, so files are read the same way regardless of the compression configured when they
+ * were written.
+ */
+public enum StorageCompression {
+  NONE {
+    @Override
+    OutputStream encode(OutputStream outputStream, int bufferSize) {
+      return outputStream;
+    }
+  },
+  GZIP {
+    @Override
+    OutputStream encode(OutputStream outputStream, int bufferSize) throws IOException {
+      return new GZIPOutputStream(outputStream, bufferSize);
+    }
+  };
+
+  private static final int GZIP_SIGNATURE_LENGTH = 2;
+
+  abstract OutputStream encode(OutputStream outputStream, int bufferSize) throws IOException;
+
+  static InputStream decode(InputStream inputStream, int bufferSize) throws IOException {
+    var input = new BufferedInputStream(inputStream, bufferSize);
+    input.mark(GZIP_SIGNATURE_LENGTH);
+    var signature = input.readNBytes(GZIP_SIGNATURE_LENGTH);
+    input.reset();
+    if (signature.length == GZIP_SIGNATURE_LENGTH
+      && (signature[0] & 0xFF | (signature[1] & 0xFF) << 8) == GZIPInputStream.GZIP_MAGIC) {
+      return new GZIPInputStream(input, bufferSize);
+    }
+    return input;
+  }
+}
@@ -1,27 +1,89 @@
 package org.folio.bulkops.configs;
 
-import java.util.concurrent.TimeUnit;
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
 
+import java.time.Duration;
+
+import org.folio.spring.FolioExecutionContext;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CachingConfigurer;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.interceptor.KeyGenerator;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+
 @Configuration
 @EnableCaching
-public class CacheConfig {
+@RequiredArgsConstructor
+@Log4j2
+public class CacheConfig implements CachingConfigurer {
+  public static final String NOT_FOUND_CACHE_SUFFIX = ".notFound";
+
+  private final CacheProperties cacheProperties;
+  private final FolioExecutionContext folioExecutionContext;
+  private final ObjectProvider<MeterRegistry> meterRegistry;
+
   @Bean
-  public Caffeine caffeineConfig() { //NOSONAR
-    return Caffeine.newBuilder().expireAfterWrite(30, TimeUnit.SECONDS);
+  @Override
+  public CacheManager cacheManager() {
+    return new CaffeineCacheManager() {
+      @Override
+      protected Cache<Object, Object> createNativeCaffeineCache(String name) {
+        return buildCache(name);
+      }
+
+      @Override
+      protected org.springframework.cache.Cache adaptCaffeineCache(String name, Cache<Object, Object> cache) {
+        var notFoundExpireAfterWrite = cacheProperties.getSpec(name).getNotFoundExpireAfterWrite();
+        if (isNull(notFoundExpireAfterWrite)) {
+          return super.adaptCaffeineCache(name, cache);
+        }
+        return new NegativeCachingCaffeineCache(name, cache, buildNotFoundCache(name, notFoundExpireAfterWrite), isAllowNullValues());
+      }
+    };
   }
 
   @Bean
-  public CacheManager cacheManager(Caffeine caffeine) { //NOSONAR
-    CaffeineCacheManager caffeineCacheManager = new CaffeineCacheManager();
-    caffeineCacheManager.setCaffeine(caffeine);
-    return caffeineCacheManager;
+  @Override
+  public KeyGenerator keyGenerator() {
+    return (target, method, params) -> new TenantCacheKey(folioExecutionContext.getTenantId(), method, params);
   }
+
+  private Cache<Object, Object> buildCache(String name) {
+    var spec = cacheProperties.getSpec(name);
+    var builder = Caffeine.newBuilder().recordStats();
+    if (nonNull(spec.getExpireAfterWrite())) {
+      builder.expireAfterWrite(spec.getExpireAfterWrite());
+    }
+    if (nonNull(spec.getMaximumSize())) {
+      builder.maximumSize(spec.getMaximumSize());
+    }
+    log.info("Creating cache {}: {}", name, spec);
+    Cache<Object, Object> cache = builder.build();
+    meterRegistry.ifAvailable(registry -> CaffeineCacheMetrics.monitor(registry, cache, name));
+    return cache;
+  }
+
+  private Cache<Object, String> buildNotFoundCache(String name, Duration expireAfterWrite) {
+    var spec = cacheProperties.getSpec(name);
+    var builder = Caffeine.newBuilder().recordStats().expireAfterWrite(expireAfterWrite);
+    if (nonNull(spec.getMaximumSize())) {
+      builder.maximumSize(spec.getMaximumSize());
+    }
+    Cache<Object, String> cache = builder.build();
+    meterRegistry.ifAvailable(registry -> CaffeineCacheMetrics.monitor(registry, cache, name + NOT_FOUND_CACHE_SUFFIX));
+    return cache;
+  }
+
 }
@@ -0,0 +1,52 @@
+package org.folio.bulkops.configs;
+
+import static java.util.Objects.isNull;
+import static org.apache.commons.lang3.ObjectUtils.defaultIfNull;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+@Data
+@ConfigurationProperties("application.cache")
+public class CacheProperties {
+
+  /**
+   * Settings applied to every cache, an entry in {@link #caches} overrides only the settings it sets.
+   */
+  private CacheSpec defaults = CacheSpec.withExpireAfterWrite(Duration.ofSeconds(30));
+  private Map<String, CacheSpec> caches = new HashMap<>();
+
+  public CacheSpec getSpec(String cacheName) {
+    var spec = caches.get(cacheName);
+    if (isNull(spec)) {
+      return defaults;
+    }
+    var merged = new CacheSpec();
+    merged.setExpireAfterWrite(defaultIfNull(spec.getExpireAfterWrite(), defaults.getExpireAfterWrite()));
+    merged.setMaximumSize(defaultIfNull(spec.getMaximumSize(), defaults.getMaximumSize()));
+    merged.setNotFoundExpireAfterWrite(defaultIfNull(spec.getNotFoundExpireAfterWrite(), defaults.getNotFoundExpireAfterWrite()));
+    return merged;
+  }
+
+  @Data
+  public static class CacheSpec {
+    private Duration expireAfterWrite;
+    private Long maximumSize;
+    /**
+     * Time to remember that a value was not found, so repeated lookups of the same missing value fail without
+     * calling remote module. Not found results are not cached when the value is not set.
+     */
+    private Duration notFoundExpireAfterWrite;
+
+    static CacheSpec withExpireAfterWrite(Duration expireAfterWrite) {
+      var spec = new CacheSpec();
+      spec.setExpireAfterWrite(expireAfterWrite);
+      return spec;
+    }
+  }
+}
@@ -0,0 +1,20 @@
+package org.folio.bulkops.configs;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+
+@Configuration
+public class JacksonConfig {
+
+  /**
+   * Replaces reflective property access of the application object mapper with generated accessors, it is picked up
+   * by the auto-configured mapper as any other module bean.
+   */
+  @Bean
+  public Module blackbirdModule() {
+    return new BlackbirdModule();
+  }
+}
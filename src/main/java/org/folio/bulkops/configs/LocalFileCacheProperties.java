@@ -0,0 +1,21 @@
+package org.folio.bulkops.configs;
+
+import java.nio.file.Path;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import lombok.Data;
+
+@Data
+@ConfigurationProperties("application.local-file-cache")
+public class LocalFileCacheProperties {
+
+  /**
+   * Entries are not refreshed when a file is overwritten by another instance, so the cache should be enabled only when
+   * all phases of an operation are processed by the same instance.
+   */
+  private boolean enabled;
+  private Path directory = Path.of(System.getProperty("java.io.tmpdir"), "mod-bulk-operations-files");
+  private DataSize maxSize = DataSize.ofGigabytes(1);
+}
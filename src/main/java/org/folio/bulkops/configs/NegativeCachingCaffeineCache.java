@@ -0,0 +1,79 @@
+package org.folio.bulkops.configs;
+
+import static java.util.Objects.nonNull;
+
+import java.util.concurrent.Callable;
+
+import org.apache.commons.lang3.exception.ExceptionUtils;
+import org.folio.bulkops.exception.NotFoundException;
+import org.springframework.cache.caffeine.CaffeineCache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+
+/**
+ * Caffeine cache which also remembers keys whose loading failed with {@link NotFoundException}. Until such entry
+ * expires the lookup fails immediately with the same message instead of calling remote module again. Lookups throw
+ * {@link NotFoundException} only for a 404 response or an empty query result, other failures are not remembered.
+ * Concurrent loads of the same key are coalesced by Caffeine when the cache is used with {@code sync = true}.
+ */
+public class NegativeCachingCaffeineCache extends CaffeineCache {
+  private final Cache<Object, String> notFoundEntries;
+
+  public NegativeCachingCaffeineCache(String name, Cache<Object, Object> cache, Cache<Object, String> notFoundEntries,
+                                      boolean allowNullValues) {
+    super(name, cache, allowNullValues);
+    this.notFoundEntries = notFoundEntries;
+  }
+
+  public Cache<Object, String> getNotFoundEntries() {
+    return notFoundEntries;
+  }
+
+  @Override
+  public <T> T get(Object key, Callable<T> valueLoader) {
+    var notFoundMessage = notFoundEntries.getIfPresent(key);
+    if (nonNull(notFoundMessage)) {
+      throw new NotFoundException(notFoundMessage);
+    }
+    try {
+      return super.get(key, valueLoader);
+    } catch (RuntimeException e) {
+      var notFoundException = ExceptionUtils.throwableOfType(e, NotFoundException.class);
+      if (nonNull(notFoundException)) {
+        notFoundEntries.put(key, String.valueOf(notFoundException.getMessage()));
+      }
+      throw e;
+    }
+  }
+
+  @Override
+  public void put(Object key, Object value) {
+    notFoundEntries.invalidate(key);
+    super.put(key, value);
+  }
+
+  @Override
+  public void evict(Object key) {
+    notFoundEntries.invalidate(key);
+    super.evict(key);
+  }
+
+  @Override
+  public boolean evictIfPresent(Object key) {
+    var notFoundPresent = nonNull(notFoundEntries.asMap().remove(key));
+    return super.evictIfPresent(key) || notFoundPresent;
+  }
+
+  @Override
+  public void clear() {
+    notFoundEntries.invalidateAll();
+    super.clear();
+  }
+
+  @Override
+  public boolean invalidate() {
+    var notFoundPresent = !notFoundEntries.asMap().isEmpty();
+    notFoundEntries.invalidateAll();
+    return super.invalidate() || notFoundPresent;
+  }
+}
@@ -1,9 +1,18 @@
 package org.folio.bulkops.configs;
 
+import java.net.URI;
+import java.nio.file.Path;
+
+import org.folio.bulkops.client.FileStorage;
+import org.folio.bulkops.client.LocalFileCache;
+import org.folio.bulkops.client.LocalFileStorage;
+import org.folio.bulkops.client.S3FileStorage;
 import org.folio.s3.client.FolioS3Client;
 import org.folio.s3.client.S3ClientFactory;
 import org.folio.s3.client.S3ClientProperties;
+import org.apache.commons.lang3.StringUtils;
 import org.folio.s3.exception.S3ClientException;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
 import org.springframework.context.annotation.Bean;
@@ -11,13 +20,20 @@ import org.springframework.context.annotation.Configuration;
 
 import lombok.Data;
 import lombok.extern.log4j.Log4j2;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.DefaultCredentialsProvider;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Client;
 
 @Configuration
 @Log4j2
-@ConfigurationProperties("application.remote-files-storage")
+@ConfigurationProperties(RemoteRepositoryConfig.PREFIX)
 @Data
 @ConfigurationPropertiesScan
 public class RemoteRepositoryConfig {
+  static final String PREFIX = "application.remote-files-storage";
+  static final String TYPE = "type";
 
   private String endpoint;
   private String region;
@@ -25,8 +41,14 @@ public class RemoteRepositoryConfig {
   private String accessKey;
   private String secretKey;
   private boolean awsSdk;
+  /**
+   * Storage of files: {@code s3} or {@code local} for the {@link #localDirectory}.
+   */
+  private String type = "s3";
+  private Path localDirectory;
 
   @Bean
+  @ConditionalOnProperty(prefix = PREFIX, name = TYPE, havingValue = "s3", matchIfMissing = true)
   public FolioS3Client remoteFolioS3Client() {
     log.debug("remote-files-storage: endpoint {}, region {}, bucket {}, accessKey {}, secretKey {}, awsSdk {}",
       endpoint, region, bucket, accessKey, secretKey, awsSdk);
@@ -45,4 +67,41 @@ public class RemoteRepositoryConfig {
     }
     return client;
   }
+
+  @Bean
+  @ConditionalOnProperty(prefix = PREFIX, name = TYPE, havingValue = "s3", matchIfMissing = true)
+  public FileStorage s3FileStorage(FolioS3Client remoteFolioS3Client, S3Client s3Client) {
+    return new S3FileStorage(remoteFolioS3Client, s3Client, bucket);
+  }
+
+  /**
+   * Client of the same bucket for the requests {@link FolioS3Client} does not expose, like multipart uploads.
+   */
+  @Bean
+  @ConditionalOnProperty(prefix = PREFIX, name = TYPE, havingValue = "s3", matchIfMissing = true)
+  public S3Client s3Client() {
+    var builder = S3Client.builder()
+      .region(StringUtils.isBlank(region) ? Region.US_EAST_1 : Region.of(region))
+      .forcePathStyle(!awsSdk)
+      .credentialsProvider(StringUtils.isBlank(accessKey) ?
+        DefaultCredentialsProvider.create() :
+        StaticCredentialsProvider.create(AwsBasicCredentials.create(accessKey, secretKey)));
+    if (StringUtils.isNotBlank(endpoint)) {
+      builder.endpointOverride(URI.create(endpoint));
+    }
+    return builder.build();
+  }
+
+  @Bean
+  @ConditionalOnProperty(prefix = PREFIX, name = TYPE, havingValue = "local")
+  public FileStorage localFileStorage() {
+    return new LocalFileStorage(localDirectory);
+  }
+
+  @Bean
+  public LocalFileCache localFileCache(LocalFileCacheProperties localFileCacheProperties) {
+    return localFileCacheProperties.isEnabled() ?
+      new LocalFileCache(localFileCacheProperties.getDirectory(), localFileCacheProperties.getMaxSize().toBytes()) :
+      LocalFileCache.disabled();
+  }
 }
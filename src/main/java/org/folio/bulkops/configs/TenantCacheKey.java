@@ -0,0 +1,50 @@
+package org.folio.bulkops.configs;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Cache key scoped to the tenant, cached method and its arguments. The key keeps no request credentials, entries are
+ * loaded by the caller within its own context and dropped on expiry or on reference data change events.
+ */
+public final class TenantCacheKey {
+  private final String tenantId;
+  private final Method method;
+  private final Object[] params;
+  private final int hashCode;
+
+  public TenantCacheKey(String tenantId, Method method, Object[] params) {
+    this.tenantId = tenantId;
+    this.method = method;
+    this.params = params;
+    this.hashCode = Objects.hash(tenantId, method, Arrays.deepHashCode(params));
+  }
+
+  public String getTenantId() {
+    return tenantId;
+  }
+
+  public Object[] getParams() {
+    return params;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    return o instanceof TenantCacheKey that && Objects.equals(tenantId, that.tenantId)
+      && method.equals(that.method) && Arrays.deepEquals(params, that.params);
+  }
+
+  @Override
+  public int hashCode() {
+    return hashCode;
+  }
+
+  @Override
+  public String toString() {
+    return tenantId + ":" + method.getName() + Arrays.deepToString(params);
+  }
+}
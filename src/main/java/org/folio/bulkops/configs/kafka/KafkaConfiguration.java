@@ -10,6 +10,7 @@ import org.apache.kafka.clients.producer.ProducerConfig;
 import org.apache.kafka.common.serialization.StringDeserializer;
 import org.apache.kafka.common.serialization.StringSerializer;
 import org.folio.bulkops.domain.bean.Job;
+import org.folio.bulkops.domain.bean.ReferenceDataEvent;
 import org.folio.spring.FolioExecutionContext;
 import org.folio.spring.FolioModuleMetadata;
 import org.springframework.boot.autoconfigure.kafka.KafkaProperties;
@@ -21,6 +22,8 @@ import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
 import org.springframework.kafka.core.DefaultKafkaProducerFactory;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.kafka.core.ProducerFactory;
+import org.springframework.kafka.listener.ContainerProperties;
+import org.springframework.kafka.support.serializer.ErrorHandlingDeserializer;
 import org.springframework.kafka.support.serializer.JsonDeserializer;
 import org.springframework.kafka.support.serializer.JsonSerializer;
 import org.springframework.stereotype.Component;
@@ -55,6 +58,24 @@ public class KafkaConfiguration {
     }
   }
 
+  /**
+   * Every instance consumes reference data events in a group of its own and only needs events published while it is
+   * running, so offsets are never committed: the group of a stopped instance keeps no offsets and is removed by the
+   * broker as soon as it is empty, and a started instance reads from the latest offset.
+   */
+  @Bean
+  public ConcurrentKafkaListenerContainerFactory<String, ReferenceDataEvent> referenceDataListenerContainerFactory(ObjectMapper objectMapper) {
+    Map<String, Object> props = new HashMap<>(kafkaProperties.buildConsumerProperties());
+    props.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+    props.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "latest");
+    var deserializer = new ErrorHandlingDeserializer<>(new JsonDeserializer<>(ReferenceDataEvent.class, objectMapper, false));
+    var factory = new ConcurrentKafkaListenerContainerFactory<String, ReferenceDataEvent>();
+    factory.setConsumerFactory(new DefaultKafkaConsumerFactory<>(props, new StringDeserializer(), deserializer));
+    // the listener never acknowledges, so the container commits no offsets
+    factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL);
+    return factory;
+  }
+
   @Bean
   public <V> ProducerFactory<String, V> producerFactory(
       FolioExecutionContext folioExecutionContext) {
@@ -30,6 +30,7 @@ import lombok.extern.log4j.Log4j2;
 public class KafkaService {
 
   public static final String EVENT_LISTENER_ID = "mod-data-export-events-listener";
+  public static final String REFERENCE_DATA_EVENT_LISTENER_ID = "mod-bulk-operations-reference-data-events-listener";
 
   private final KafkaAdmin kafkaAdmin;
   private final KafkaTemplate<String, Object> kafkaTemplate;
@@ -67,8 +68,13 @@ public class KafkaService {
    * Restarts kafka event listeners in mod-data-export-spring application.
    */
   public void restartEventListeners() {
-    log.info("Restarting kafka consumer to start listening created topics [id: {}]", EVENT_LISTENER_ID);
-    var listenerContainer = kafkaListenerEndpointRegistry.getListenerContainer(EVENT_LISTENER_ID);
+    restartEventListener(EVENT_LISTENER_ID);
+    restartEventListener(REFERENCE_DATA_EVENT_LISTENER_ID);
+  }
+
+  private void restartEventListener(String listenerId) {
+    log.info("Restarting kafka consumer to start listening created topics [id: {}]", listenerId);
+    var listenerContainer = kafkaListenerEndpointRegistry.getListenerContainer(listenerId);
     if (Objects.nonNull(listenerContainer)) {
       listenerContainer.stop();
       listenerContainer.start();
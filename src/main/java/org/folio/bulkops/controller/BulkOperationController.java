@@ -1,17 +1,15 @@
 package org.folio.bulkops.controller;
 
-import static org.folio.bulkops.domain.dto.EntityType.HOLDINGS_RECORD;
+import static java.lang.Boolean.TRUE;
 import static org.folio.bulkops.domain.dto.FileContentType.COMMITTED_RECORDS_FILE;
 import static org.folio.bulkops.domain.dto.FileContentType.COMMITTING_CHANGES_ERROR_FILE;
 import static org.folio.bulkops.domain.dto.FileContentType.MATCHED_RECORDS_FILE;
 import static org.folio.bulkops.domain.dto.FileContentType.PROPOSED_CHANGES_FILE;
 import static org.folio.bulkops.domain.dto.FileContentType.RECORD_MATCHING_ERROR_FILE;
 import static org.folio.bulkops.domain.dto.FileContentType.TRIGGERING_FILE;
-import static org.folio.bulkops.util.Constants.NON_PRINTING_DELIMITER;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
-import org.apache.commons.lang3.ArrayUtils;
 import org.codehaus.plexus.util.FileUtils;
 import org.folio.bulkops.client.RemoteFileSystemClient;
 import org.folio.bulkops.domain.dto.BulkOperationCollection;
@@ -21,25 +19,24 @@ import org.folio.bulkops.domain.dto.BulkOperationMarcRuleCollection;
 import org.folio.bulkops.domain.dto.BulkOperationStart;
 import org.folio.bulkops.domain.dto.BulkOperationStep;
 import org.folio.bulkops.domain.dto.EntityType;
+import org.folio.bulkops.domain.dto.ErrorSummaries;
 import org.folio.bulkops.domain.dto.Errors;
 import org.folio.bulkops.domain.dto.FileContentType;
 import org.folio.bulkops.domain.dto.IdentifierType;
 import org.folio.bulkops.domain.dto.QueryRequest;
 import org.folio.bulkops.domain.dto.UnifiedTable;
 import org.folio.bulkops.domain.dto.Users;
-import org.folio.bulkops.domain.entity.BulkOperation;
 import org.folio.bulkops.mapper.BulkOperationMapper;
 import org.folio.bulkops.rest.resource.BulkOperationsApi;
+import org.folio.bulkops.service.BulkOperationCollectionService;
 import org.folio.bulkops.service.BulkOperationService;
+import org.folio.bulkops.service.DownloadFileService;
 import org.folio.bulkops.service.ErrorService;
-import org.folio.bulkops.service.HoldingsNotesProcessor;
 import org.folio.bulkops.service.ListUsersService;
 import org.folio.bulkops.service.LogFilesService;
 import org.folio.bulkops.service.PreviewService;
 import org.folio.bulkops.service.RuleService;
-import org.folio.spring.cql.JpaCqlRepository;
-import org.folio.spring.data.OffsetRequest;
-import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.InputStreamResource;
 import org.springframework.core.io.Resource;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
@@ -48,7 +45,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.io.IOException;
+import java.net.URI;
 import java.net.URLDecoder;
 import java.nio.charset.StandardCharsets;
 import java.util.Objects;
@@ -62,18 +59,17 @@ public class BulkOperationController implements BulkOperationsApi {
   private final BulkOperationService bulkOperationService;
   private final PreviewService previewService;
   private final BulkOperationMapper bulkOperationMapper;
-  private final JpaCqlRepository<BulkOperation, UUID> bulkOperationCqlRepository;
   private final ErrorService errorService;
   private final RuleService ruleService;
   private final RemoteFileSystemClient remoteFileSystemClient;
   private final LogFilesService logFilesService;
   private final ListUsersService listUsersService;
-  private final HoldingsNotesProcessor holdingsNotesProcessor;
+  private final DownloadFileService downloadFileService;
+  private final BulkOperationCollectionService bulkOperationCollectionService;
 
   @Override
-  public ResponseEntity<BulkOperationCollection> getBulkOperationCollection(String query, Integer offset, Integer limit) {
-    var page = bulkOperationCqlRepository.findByCql(query, OffsetRequest.of(Objects.isNull(offset) ? 0 : offset, Objects.isNull(limit) ? Integer.MAX_VALUE : limit));
-    return new ResponseEntity<>(new BulkOperationCollection().bulkOperations(bulkOperationMapper.mapToDtoList(page.toList())).totalRecords((int) page.getTotalElements()), HttpStatus.OK);
+  public ResponseEntity<BulkOperationCollection> getBulkOperationCollection(String query, Integer offset, Integer limit, String cursor) {
+    return new ResponseEntity<>(bulkOperationCollectionService.getBulkOperationCollection(query, offset, limit, cursor), HttpStatus.OK);
   }
 
   @Override
@@ -81,6 +77,11 @@ public class BulkOperationController implements BulkOperationsApi {
     return new ResponseEntity<>(errorService.getErrorsPreviewByBulkOperationId(operationId, limit), HttpStatus.OK);
   }
 
+  @Override
+  public ResponseEntity<ErrorSummaries> getErrorSummaryByOperationId(UUID operationId, Integer offset, Integer limit) {
+    return new ResponseEntity<>(errorService.getErrorSummaryByBulkOperationId(operationId, offset, limit), HttpStatus.OK);
+  }
+
   @Override
   public ResponseEntity<UnifiedTable> getPreviewByOperationId(UUID operationId, BulkOperationStep step, Integer limit, Integer offset) {
     var bulkOperation = bulkOperationService.getBulkOperationOrThrow(operationId);
@@ -125,21 +126,25 @@ public class BulkOperationController implements BulkOperationsApi {
 
   @Override
   public ResponseEntity<Resource> downloadFileByOperationId(
-    UUID operationId, FileContentType fileContentType) {
+    UUID operationId, FileContentType fileContentType, Boolean redirect) {
     var bulkOperation = bulkOperationService.getOperationById(operationId);
 
     String path;
+    String downloadPath = null;
 
     if (fileContentType == TRIGGERING_FILE) {
       path = bulkOperation.getLinkToTriggeringCsvFile();
     } else if (fileContentType == MATCHED_RECORDS_FILE) {
       path = bulkOperation.getLinkToMatchedRecordsCsvFile();
+      downloadPath = bulkOperation.getLinkToMatchedRecordsDownloadCsvFile();
     } else if (fileContentType == RECORD_MATCHING_ERROR_FILE) {
       path = bulkOperation.getLinkToMatchedRecordsErrorsCsvFile();
     } else if (fileContentType == PROPOSED_CHANGES_FILE) {
       path = bulkOperation.getLinkToModifiedRecordsCsvFile();
+      downloadPath = bulkOperation.getLinkToModifiedRecordsDownloadCsvFile();
     } else if (fileContentType == COMMITTED_RECORDS_FILE) {
       path = bulkOperation.getLinkToCommittedRecordsCsvFile();
+      downloadPath = bulkOperation.getLinkToCommittedRecordsDownloadCsvFile();
     } else if (fileContentType == COMMITTING_CHANGES_ERROR_FILE) {
       path = bulkOperation.getLinkToCommittedRecordsErrorsCsvFile();
     } else {
@@ -149,21 +154,22 @@ public class BulkOperationController implements BulkOperationsApi {
     if (Objects.isNull(path)) {
       return ResponseEntity.ok().build();
     } else {
-      try (var is = remoteFileSystemClient.get(path)) {
-        var content = ArrayUtils.removeAllOccurrences(is.readAllBytes(), (byte) NON_PRINTING_DELIMITER);
-        if (isDownloadPreview(fileContentType) && HOLDINGS_RECORD.equals(bulkOperation.getEntityType())) {
-          content = holdingsNotesProcessor.processHoldingsNotes(content);
-        }
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.APPLICATION_OCTET_STREAM);
-        headers.setContentLength(content.length);
-        var decodedPath = URLDecoder.decode(path, StandardCharsets.UTF_8);
-        headers.setContentDispositionFormData(FileUtils.filename(decodedPath), FileUtils.filename(decodedPath));
-        return ResponseEntity.ok().headers(headers).body(new ByteArrayResource(content));
-      } catch (IOException e) {
-        log.error(e);
-        return new ResponseEntity<>(HttpStatus.INTERNAL_SERVER_ERROR);
+      var transformationRequired = isDownloadPreview(fileContentType) && Objects.isNull(downloadPath);
+      var pathToDownload = Objects.isNull(downloadPath) ? path : downloadPath;
+      if (TRUE.equals(redirect) && !transformationRequired && remoteFileSystemClient.isPresignedUrlSupported()) {
+        return ResponseEntity.status(HttpStatus.FOUND)
+          .location(URI.create(remoteFileSystemClient.getPresignedUrl(pathToDownload)))
+          .build();
+      }
+      var content = remoteFileSystemClient.get(pathToDownload);
+      if (transformationRequired) {
+        content = downloadFileService.toDownloadContent(content, bulkOperation.getEntityType());
       }
+      HttpHeaders headers = new HttpHeaders();
+      headers.setContentType(MediaType.APPLICATION_OCTET_STREAM);
+      var decodedPath = URLDecoder.decode(path, StandardCharsets.UTF_8);
+      headers.setContentDispositionFormData(FileUtils.filename(decodedPath), FileUtils.filename(decodedPath));
+      return ResponseEntity.ok().headers(headers).body(new InputStreamResource(content));
     }
   }
 
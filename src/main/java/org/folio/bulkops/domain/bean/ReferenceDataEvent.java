@@ -0,0 +1,34 @@
+package org.folio.bulkops.domain.bean;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.JsonNode;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.With;
+
+/**
+ * Domain event published by inventory and users modules when reference record is created, updated or deleted.
+ */
+@Data
+@With
+@Builder(toBuilder = true)
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReferenceDataEvent {
+  public static final String DELETE_ALL = "DELETE_ALL";
+
+  @JsonProperty("type")
+  private String type;
+
+  @JsonProperty("tenant")
+  private String tenant;
+
+  @JsonProperty("old")
+  private JsonNode oldValue;
+
+  @JsonProperty("new")
+  private JsonNode newValue;
+}
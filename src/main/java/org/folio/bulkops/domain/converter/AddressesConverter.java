@@ -4,9 +4,9 @@ import static java.util.Objects.isNull;
 import static org.apache.commons.lang3.StringUtils.EMPTY;
 import static org.apache.commons.lang3.StringUtils.isEmpty;
 import static org.folio.bulkops.domain.format.SpecialCharacterEscaper.escape;
+import static org.folio.bulkops.domain.format.Tokenizer.split;
 import static org.folio.bulkops.util.Constants.ARRAY_DELIMITER;
 import static org.folio.bulkops.util.Constants.ITEM_DELIMITER;
-import static org.folio.bulkops.util.Constants.ITEM_DELIMITER_PATTERN;
 
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -33,7 +33,7 @@ public  class AddressesConverter extends BaseConverter<List<Address>> {
 
   @Override
   public List<Address> convertToObject(String value) {
-    String[] addresses = value.split(ITEM_DELIMITER_PATTERN);
+    String[] addresses = split(value, ITEM_DELIMITER);
         return Arrays.stream(addresses)
           .filter(StringUtils::isNotEmpty)
           .map(this::getAddressFromString)
@@ -50,7 +50,7 @@ public  class AddressesConverter extends BaseConverter<List<Address>> {
   }
 
   private Address getAddressFromString(String stringAddress) {
-    List<String> fields = SpecialCharacterEscaper.restore(Arrays.asList(stringAddress.split(ARRAY_DELIMITER, -1)));
+    List<String> fields = SpecialCharacterEscaper.restore(Arrays.asList(split(stringAddress, ARRAY_DELIMITER, -1)));
     return Address.builder()
         .id(convertToNullableString(fields.get(ADDRESS_ID)))
           .countryId(convertToNullableString(fields.get(ADDRESS_COUNTRY_ID)))
@@ -22,10 +22,9 @@ import com.opencsv.exceptions.CsvConstraintViolationException;
 public abstract class BaseConverter<T> extends AbstractBeanField<String, T> {
 
   public static final String FAILED_FIELD_MARKER = "FAILED";
-  private volatile boolean failed = false;
 
   @Override
-  protected synchronized Object convert(String value) throws CsvConstraintViolationException {
+  protected Object convert(String value) throws CsvConstraintViolationException {
     if (StringUtils.isEmpty(value) || StringUtils.isBlank(value)) {
       var type = this.getField().getType();
       if (type == Tags.class) {
@@ -46,21 +45,24 @@ public abstract class BaseConverter<T> extends AbstractBeanField<String, T> {
     }
   }
 
+  /**
+   * Converts value to string. Failure is reported to the open {@link ConversionContext} and the field is written as
+   * {@link #FAILED_FIELD_MARKER}, without an open context {@link ConverterException} is thrown.
+   */
   @Override
-  protected synchronized String convertToWrite(Object object) {
+  protected String convertToWrite(Object object) {
     if (ObjectUtils.isEmpty(object)
       || (object.getClass() == Tags.class && ObjectUtils.isEmpty(((Tags) object).getTagList()))) {
       return EMPTY;
     }
-    if (failed) {
-      failed = false;
-      return FAILED_FIELD_MARKER;
-    }
     try {
       return convertToString((T) object);
     } catch (Exception e) {
-      failed = true;
-      throw new ConverterException(this.getField(), object, e.getMessage());
+      var failure = new ConverterException(this.getField(), object, e.getMessage());
+      if (ConversionContext.report(failure)) {
+        return FAILED_FIELD_MARKER;
+      }
+      throw failure;
     }
   }
 
@@ -14,8 +14,9 @@ import org.folio.bulkops.exception.ConverterException;
 import org.springframework.util.ObjectUtils;
 
 import java.io.Writer;
+import java.util.List;
 
-public class BulkOperationsEntityCsvWriter {
+public class BulkOperationsEntityCsvWriter implements EntityCsvWriter {
   private CustomMappingStrategy<BulkOperationsEntity> strategy;
   private StatefulBeanToCsv<BulkOperationsEntity> delegate;
 
@@ -29,19 +30,23 @@ public class BulkOperationsEntityCsvWriter {
       .build();
   }
 
-  public void write(BulkOperationsEntity entity)
-    throws ConverterException, CsvRequiredFieldEmptyException, CsvDataTypeMismatchException {
-    delegate.write(processNotes(entity));
+  @Override
+  public List<ConverterException> write(BulkOperationsEntity entity)
+    throws CsvRequiredFieldEmptyException, CsvDataTypeMismatchException {
+    try (var context = ConversionContext.open()) {
+      delegate.write(processNotes(entity));
+      return context.getFailures();
+    }
   }
 
-  private BulkOperationsEntity processNotes(BulkOperationsEntity entity) {
+  static BulkOperationsEntity processNotes(BulkOperationsEntity entity) {
     if (entity instanceof Item item) {
       return splitCirculationNotes(item);
     }
     return entity;
   }
 
-  private Item splitCirculationNotes(Item item) {
+  private static Item splitCirculationNotes(Item item) {
     var notes = item.getCirculationNotes();
     return ObjectUtils.isEmpty(notes) ? item :
       item.withCheckInNotes(notes.stream().filter(circulationNote -> IN.equals(circulationNote.getNoteType())).toList())
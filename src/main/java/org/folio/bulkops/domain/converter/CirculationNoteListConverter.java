@@ -4,7 +4,8 @@ import static org.apache.commons.lang3.ObjectUtils.isEmpty;
 import static org.apache.commons.lang3.StringUtils.EMPTY;
 import static org.apache.commons.lang3.StringUtils.SPACE;
 import static org.folio.bulkops.domain.format.SpecialCharacterEscaper.escape;
-import static org.folio.bulkops.util.Constants.ITEM_DELIMITER_PATTERN;
+import static org.folio.bulkops.domain.format.Tokenizer.split;
+import static org.folio.bulkops.util.Constants.ITEM_DELIMITER;
 import static org.folio.bulkops.util.Constants.ITEM_DELIMITER_SPACED;
 import static org.folio.bulkops.util.Constants.STAFF_ONLY;
 
@@ -18,7 +19,7 @@ import org.folio.bulkops.domain.bean.CirculationNote;
 public class CirculationNoteListConverter extends BaseConverter<List<CirculationNote>> {
   @Override
   public List<CirculationNote> convertToObject(String value) {
-    return Arrays.stream(value.split(ITEM_DELIMITER_PATTERN))
+    return Arrays.stream(split(value, ITEM_DELIMITER))
       .map(String::trim)
       .map(this::restoreCirculationNote)
       .filter(Objects::nonNull)
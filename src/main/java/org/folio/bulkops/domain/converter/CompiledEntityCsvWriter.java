@@ -0,0 +1,230 @@
+package org.folio.bulkops.domain.converter;
+
+import static com.opencsv.ICSVWriter.DEFAULT_LINE_END;
+import static com.opencsv.ICSVWriter.DEFAULT_QUOTE_CHARACTER;
+import static com.opencsv.ICSVWriter.DEFAULT_SEPARATOR;
+import static java.util.Objects.isNull;
+import static org.folio.bulkops.domain.converter.BulkOperationsEntityCsvWriter.processNotes;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.function.Function;
+
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.reflect.FieldUtils;
+import org.folio.bulkops.domain.bean.BulkOperationsEntity;
+import org.folio.bulkops.exception.ConverterException;
+
+import com.opencsv.bean.CsvCustomBindByName;
+import com.opencsv.bean.CsvCustomBindByPosition;
+import com.opencsv.bean.CsvRecurse;
+
+/**
+ * Writes the same csv as {@link BulkOperationsEntityCsvWriter} without OpenCSV bean mapping. Columns of an entity
+ * class are resolved from the binding annotations once per class, field values are read with accessors generated by
+ * {@link LambdaMetafactory} and each line is built in a buffer reused between lines. A field failed to convert is
+ * written as {@link BaseConverter#FAILED_FIELD_MARKER} in place, the entity is never written twice.
+ */
+public class CompiledEntityCsvWriter implements EntityCsvWriter {
+  private static final ClassValue<Layout> LAYOUTS = new ClassValue<>() {
+    @Override
+    protected Layout computeValue(Class<?> type) {
+      return compile(type);
+    }
+  };
+
+  private final Writer writer;
+  private final Layout layout;
+  private final StringBuilder line = new StringBuilder(1024);
+  private char[] chars = new char[1024];
+  private boolean headerWritten;
+
+  public CompiledEntityCsvWriter(Writer writer, Class<? extends BulkOperationsEntity> clazz) {
+    this.writer = writer;
+    this.layout = LAYOUTS.get(clazz);
+  }
+
+  @Override
+  public List<ConverterException> write(BulkOperationsEntity entity) {
+    if (!headerWritten) {
+      writeHeader();
+      headerWritten = true;
+    }
+    try (var context = ConversionContext.open()) {
+      var bean = processNotes(entity);
+      line.setLength(0);
+      var columns = layout.columns();
+      for (var i = 0; i < columns.length; i++) {
+        if (i > 0) {
+          line.append(DEFAULT_SEPARATOR);
+        }
+        if (columns[i] != null) {
+          appendValue(columns[i].write(bean));
+        }
+      }
+      writeLine();
+      return context.getFailures();
+    }
+  }
+
+  private void writeHeader() {
+    if (layout.header().length == 0) {
+      return;
+    }
+    line.setLength(0);
+    for (var i = 0; i < layout.header().length; i++) {
+      if (i > 0) {
+        line.append(DEFAULT_SEPARATOR);
+      }
+      appendValue(layout.header()[i]);
+    }
+    writeLine();
+  }
+
+  /**
+   * Mirrors quoting of OpenCSV writer with quotes applied only when needed: a value containing a quote, the separator
+   * or a line break is quoted with the quotes inside doubled.
+   */
+  private void appendValue(String value) {
+    if (StringUtils.isEmpty(value)) {
+      return;
+    }
+    if (StringUtils.containsNone(value, DEFAULT_QUOTE_CHARACTER, DEFAULT_SEPARATOR, '\n', '\r')) {
+      line.append(value);
+      return;
+    }
+    line.append(DEFAULT_QUOTE_CHARACTER);
+    for (var i = 0; i < value.length(); i++) {
+      var c = value.charAt(i);
+      if (c == DEFAULT_QUOTE_CHARACTER) {
+        line.append(DEFAULT_QUOTE_CHARACTER);
+      }
+      line.append(c);
+    }
+    line.append(DEFAULT_QUOTE_CHARACTER);
+  }
+
+  private void writeLine() {
+    line.append(DEFAULT_LINE_END);
+    if (chars.length < line.length()) {
+      chars = new char[Math.max(line.length(), chars.length * 2)];
+    }
+    line.getChars(0, line.length(), chars, 0);
+    try {
+      writer.write(chars, 0, line.length());
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /**
+   * Columns are placed by {@link CsvCustomBindByPosition}, fields of {@link CsvRecurse} beans included. As in
+   * {@link CustomMappingStrategy}, the header lists names of the bound fields and a line has as many columns as the
+   * header.
+   */
+  private static Layout compile(Class<?> type) {
+    var bindings = new TreeMap<Integer, Column>();
+    collectColumns(type, List.of(), bindings);
+    var header = bindings.values().stream().map(Column::name).toArray(String[]::new);
+    var columns = new Column[header.length];
+    bindings.forEach((position, column) -> {
+      if (position < columns.length) {
+        columns[position] = column;
+      }
+    });
+    return new Layout(header, columns);
+  }
+
+  private static void collectColumns(Class<?> type, List<Function<Object, Object>> path, TreeMap<Integer, Column> bindings) {
+    for (var field : FieldUtils.getAllFields(type)) {
+      var binding = field.getDeclaredAnnotation(CsvCustomBindByPosition.class);
+      if (binding != null) {
+        var fieldPath = new ArrayList<>(path);
+        fieldPath.add(accessor(field));
+        bindings.put(binding.position(), new Column(field.getDeclaredAnnotation(CsvCustomBindByName.class).column(),
+          fieldPath.toArray(Function[]::new), converter(binding, field)));
+      } else if (field.isAnnotationPresent(CsvRecurse.class)) {
+        var fieldPath = new ArrayList<>(path);
+        fieldPath.add(accessor(field));
+        collectColumns(field.getType(), fieldPath, bindings);
+      }
+    }
+  }
+
+  private static BaseConverter<?> converter(CsvCustomBindByPosition binding, Field field) {
+    try {
+      var converter = binding.converter().getDeclaredConstructor().newInstance();
+      if (converter instanceof BaseConverter<?> baseConverter) {
+        baseConverter.setType(field.getDeclaringClass());
+        baseConverter.setField(field);
+        return baseConverter;
+      }
+      throw new IllegalStateException("Converter of field " + field.getName() + " does not extend " + BaseConverter.class.getSimpleName());
+    } catch (ReflectiveOperationException e) {
+      throw new IllegalStateException("Failed to create converter of field " + field.getName(), e);
+    }
+  }
+
+  /**
+   * Reads the field with its public getter like OpenCSV does, directly if there is no getter.
+   */
+  @SuppressWarnings("unchecked")
+  private static Function<Object, Object> accessor(Field field) {
+    try {
+      var lookup = MethodHandles.lookup();
+      var getter = getter(field);
+      if (isNull(getter)) {
+        var handle = MethodHandles.privateLookupIn(field.getDeclaringClass(), lookup).unreflectGetter(field)
+          .asType(MethodType.methodType(Object.class, Object.class));
+        return bean -> {
+          try {
+            return handle.invokeExact(bean);
+          } catch (Throwable e) {
+            throw new IllegalStateException(e);
+          }
+        };
+      }
+      var handle = lookup.unreflect(getter);
+      var accessor = (Function<Object, Object>) LambdaMetafactory.metafactory(lookup, "apply",
+          MethodType.methodType(Function.class), MethodType.methodType(Object.class, Object.class), handle, handle.type().wrap())
+        .getTarget().invoke();
+      return Optional.class.equals(getter.getReturnType()) ?
+        bean -> ((Optional<?>) accessor.apply(bean)).orElse(null) :
+        accessor;
+    } catch (Throwable e) {
+      throw new IllegalStateException("Failed to create accessor of field " + field.getName(), e);
+    }
+  }
+
+  private static Method getter(Field field) {
+    try {
+      return field.getDeclaringClass().getMethod("get" + StringUtils.capitalize(field.getName()));
+    } catch (NoSuchMethodException e) {
+      return null;
+    }
+  }
+
+  private record Layout(String[] header, Column[] columns) {
+  }
+
+  private record Column(String name, Function<Object, Object>[] path, BaseConverter<?> converter) {
+
+    String write(Object bean) {
+      var value = bean;
+      for (var i = 0; i < path.length && value != null; i++) {
+        value = path[i].apply(value);
+      }
+      return converter.convertToWrite(value);
+    }
+  }
+}
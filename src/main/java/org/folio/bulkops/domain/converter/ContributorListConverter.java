@@ -1,5 +1,6 @@
 package org.folio.bulkops.domain.converter;
 
+import static org.folio.bulkops.domain.format.Tokenizer.split;
 import static org.folio.bulkops.util.Constants.ARRAY_DELIMITER;
 import static org.folio.bulkops.util.Constants.ARRAY_DELIMITER_SPACED;
 
@@ -14,7 +15,7 @@ public class ContributorListConverter extends BaseConverter<List<ContributorName
 
   @Override
   public List<ContributorName> convertToObject(String value) {
-    return Arrays.stream(value.split(ARRAY_DELIMITER))
+    return Arrays.stream(split(value, ARRAY_DELIMITER))
       .map(String::trim)
       .map(new ContributorName()::withName)
       .toList();
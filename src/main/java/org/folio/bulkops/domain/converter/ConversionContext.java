@@ -0,0 +1,55 @@
+package org.folio.bulkops.domain.converter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.folio.bulkops.exception.ConverterException;
+
+/**
+ * Collects failures of converters writing a bean on the current thread. While a context is open, a converter failing
+ * to convert a value reports the failure here and writes {@link BaseConverter#FAILED_FIELD_MARKER} instead of
+ * throwing, so converters keep no state between calls and can be shared by concurrent writers.
+ */
+public final class ConversionContext implements AutoCloseable {
+  private static final ThreadLocal<ConversionContext> CURRENT = new ThreadLocal<>();
+
+  private final List<ConverterException> failures = new ArrayList<>();
+  private final ConversionContext previous;
+
+  private ConversionContext(ConversionContext previous) {
+    this.previous = previous;
+  }
+
+  public static ConversionContext open() {
+    var context = new ConversionContext(CURRENT.get());
+    CURRENT.set(context);
+    return context;
+  }
+
+  /**
+   * Reports failure to the context of the current thread.
+   *
+   * @return true if the failure was collected, false if no context is open
+   */
+  static boolean report(ConverterException failure) {
+    var context = CURRENT.get();
+    if (context == null) {
+      return false;
+    }
+    context.failures.add(failure);
+    return true;
+  }
+
+  public List<ConverterException> getFailures() {
+    return List.copyOf(failures);
+  }
+
+  @Override
+  public void close() {
+    if (previous == null) {
+      CURRENT.remove();
+    } else {
+      CURRENT.set(previous);
+    }
+  }
+}
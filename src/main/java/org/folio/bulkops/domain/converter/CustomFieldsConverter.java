@@ -4,9 +4,9 @@ import static java.util.Objects.isNull;
 import static org.apache.commons.lang3.StringUtils.EMPTY;
 import static org.apache.commons.lang3.StringUtils.isEmpty;
 import static org.apache.commons.lang3.StringUtils.isNotEmpty;
+import static org.folio.bulkops.domain.format.Tokenizer.split;
 import static org.folio.bulkops.util.Constants.ARRAY_DELIMITER;
 import static org.folio.bulkops.util.Constants.ITEM_DELIMITER;
-import static org.folio.bulkops.util.Constants.ITEM_DELIMITER_PATTERN;
 import static org.folio.bulkops.util.Constants.KEY_VALUE_DELIMITER;
 import static org.folio.bulkops.util.Constants.LINE_BREAK;
 import static org.folio.bulkops.util.Constants.LINE_BREAK_REPLACEMENT;
@@ -35,7 +35,7 @@ public class CustomFieldsConverter extends BaseConverter<Map<String, Object>> {
 
   @Override
   public Map<String, Object> convertToObject(String value) {
-    return Arrays.stream(value.split(ITEM_DELIMITER_PATTERN))
+    return Arrays.stream(split(value, ITEM_DELIMITER))
       .map(this::restoreCustomFieldFromString)
       .filter(pair -> isNotEmpty(pair.getKey()))
       .collect(Collectors.toMap(Pair::getKey, Pair::getValue));
@@ -66,7 +66,7 @@ public class CustomFieldsConverter extends BaseConverter<Map<String, Object>> {
   }
 
   private Pair<String, String> stringToPair(String value) {
-    var tokens = value.split(KEY_VALUE_DELIMITER, -1);
+    var tokens = split(value, KEY_VALUE_DELIMITER, -1);
     if (tokens.length == 2) {
       return Pair.of(SpecialCharacterEscaper.restore(tokens[0]), SpecialCharacterEscaper.restore(tokens[1]));
     } else {
@@ -78,7 +78,7 @@ public class CustomFieldsConverter extends BaseConverter<Map<String, Object>> {
   private List<String> restoreValueIds(CustomField customField, String values) {
     return isEmpty(values) ?
       Collections.emptyList() :
-      Arrays.stream(values.split(TEMPORARY_DELIMITER))
+      Arrays.stream(split(values, TEMPORARY_DELIMITER))
         .map(token -> restoreValueId(customField, token))
         .toList();
   }
@@ -1,6 +1,7 @@
 package org.folio.bulkops.domain.converter;
 
 import static org.apache.commons.lang3.StringUtils.EMPTY;
+import static org.folio.bulkops.domain.format.Tokenizer.split;
 import static org.folio.bulkops.util.Constants.ARRAY_DELIMITER;
 
 import java.util.Arrays;
@@ -20,7 +21,7 @@ public class DepartmentsConverter extends BaseConverter<Set<UUID>> {
 
   @Override
   public Set<UUID> convertToObject(String value) {
-    String[] departmentNames = value.split(ARRAY_DELIMITER);
+    String[] departmentNames = split(value, ARRAY_DELIMITER);
     if (departmentNames.length > 0) {
       return Arrays.stream(departmentNames)
         .filter(StringUtils::isNotEmpty)
@@ -1,10 +1,10 @@
 package org.folio.bulkops.domain.converter;
 
 import static org.apache.commons.lang3.StringUtils.EMPTY;
+import static org.folio.bulkops.domain.format.Tokenizer.split;
 import static org.folio.bulkops.util.Constants.ELECTRONIC_ACCESS_HEADINGS;
 import static org.folio.bulkops.util.Constants.NEW_LINE_SEPARATOR;
 import static org.folio.bulkops.util.Constants.SPECIAL_ITEM_DELIMITER;
-import static org.folio.bulkops.util.Constants.SPECIAL_ITEM_DELIMITER_REGEX;
 
 import java.util.Arrays;
 import java.util.List;
@@ -19,9 +19,9 @@ public class ElectronicAccessListConverter extends BaseConverter<List<Electronic
 
   @Override
   public List<ElectronicAccess> convertToObject(String value) {
-    var tokens = value.split(NEW_LINE_SEPARATOR, 2);
+    var tokens = split(value, NEW_LINE_SEPARATOR, 2);
     var electronicAccessData = tokens.length == 2 ? tokens[1] : value;
-    return Arrays.stream(electronicAccessData.split(SPECIAL_ITEM_DELIMITER_REGEX))
+    return Arrays.stream(split(electronicAccessData, SPECIAL_ITEM_DELIMITER))
       .map(ElectronicAccessHelper.service()::restoreElectronicAccessItem)
       .filter(ObjectUtils::isNotEmpty)
       .toList();
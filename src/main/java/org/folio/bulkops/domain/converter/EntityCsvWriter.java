@@ -0,0 +1,22 @@
+package org.folio.bulkops.domain.converter;
+
+import java.util.List;
+
+import org.folio.bulkops.domain.bean.BulkOperationsEntity;
+import org.folio.bulkops.exception.ConverterException;
+
+import com.opencsv.exceptions.CsvDataTypeMismatchException;
+import com.opencsv.exceptions.CsvRequiredFieldEmptyException;
+
+/**
+ * Writes entities as csv lines, the header is written before the first entity.
+ */
+public interface EntityCsvWriter {
+
+  /**
+   * Writes entity as a csv line, fields failed to convert are written as {@link BaseConverter#FAILED_FIELD_MARKER}.
+   *
+   * @return failures of the fields, empty if all fields were converted
+   */
+  List<ConverterException> write(BulkOperationsEntity entity) throws CsvRequiredFieldEmptyException, CsvDataTypeMismatchException;
+}
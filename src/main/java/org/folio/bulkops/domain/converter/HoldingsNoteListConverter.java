@@ -2,9 +2,9 @@ package org.folio.bulkops.domain.converter;
 
 import static org.folio.bulkops.domain.format.SpecialCharacterEscaper.escape;
 import static org.folio.bulkops.domain.format.SpecialCharacterEscaper.restore;
+import static org.folio.bulkops.domain.format.Tokenizer.split;
 import static org.folio.bulkops.util.Constants.ARRAY_DELIMITER;
 import static org.folio.bulkops.util.Constants.ITEM_DELIMITER;
-import static org.folio.bulkops.util.Constants.ITEM_DELIMITER_PATTERN;
 import static org.folio.bulkops.util.Utils.booleanToStringNullSafe;
 
 import java.util.Arrays;
@@ -25,7 +25,7 @@ public class HoldingsNoteListConverter extends BaseConverter<List<HoldingsNote>>
 
   @Override
   public List<HoldingsNote> convertToObject(String value) {
-    return Arrays.stream(value.split(ITEM_DELIMITER_PATTERN))
+    return Arrays.stream(split(value, ITEM_DELIMITER))
       .map(this::restoreHoldingsNote)
       .filter(ObjectUtils::isNotEmpty)
       .toList();
@@ -46,7 +46,7 @@ public class HoldingsNoteListConverter extends BaseConverter<List<HoldingsNote>>
     if (ObjectUtils.isEmpty(s)) {
       return null;
     }
-    var tokens = s.split(ARRAY_DELIMITER, -1);
+    var tokens = split(s, ARRAY_DELIMITER, -1);
     if (tokens.length < NUMBER_OF_HOLDINGS_NOTE_ELEMENTS) {
       throw new EntityFormatException(String.format("Illegal number of holdings note elements: %d, expected: %d", tokens.length,
         NUMBER_OF_HOLDINGS_NOTE_ELEMENTS));
@@ -3,9 +3,9 @@ package org.folio.bulkops.domain.converter;
 import static org.apache.commons.lang3.ObjectUtils.isEmpty;
 import static org.folio.bulkops.domain.format.SpecialCharacterEscaper.escape;
 import static org.folio.bulkops.domain.format.SpecialCharacterEscaper.restore;
+import static org.folio.bulkops.domain.format.Tokenizer.split;
 import static org.folio.bulkops.util.Constants.ARRAY_DELIMITER;
 import static org.folio.bulkops.util.Constants.ITEM_DELIMITER;
-import static org.folio.bulkops.util.Constants.ITEM_DELIMITER_PATTERN;
 
 import java.util.Arrays;
 import java.util.List;
@@ -23,7 +23,7 @@ public class HoldingsStatementListConverter extends BaseConverter<List<HoldingsS
 
   @Override
   public List<HoldingsStatement> convertToObject(String value) {
-    return Arrays.stream(value.split(ITEM_DELIMITER_PATTERN))
+    return Arrays.stream(split(value, ITEM_DELIMITER))
       .map(this::restoreHoldingsStatement)
       .filter(Objects::nonNull)
       .toList();
@@ -45,7 +45,7 @@ public class HoldingsStatementListConverter extends BaseConverter<List<HoldingsS
     if (isEmpty(statementString)) {
       return null;
     }
-    var tokens = statementString.split(ARRAY_DELIMITER, -1);
+    var tokens = split(statementString, ARRAY_DELIMITER, -1);
     if (tokens.length < NUMBER_OF_HOLDINGS_STATEMENT_ELEMENTS) {
       throw new EntityFormatException(String.format("Illegal number of holdings statement elements: %d, expected: %d", tokens.length, NUMBER_OF_HOLDINGS_STATEMENT_ELEMENTS));
     }
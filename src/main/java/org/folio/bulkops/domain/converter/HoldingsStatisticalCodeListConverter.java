@@ -1,5 +1,6 @@
 package org.folio.bulkops.domain.converter;
 
+import static org.folio.bulkops.domain.format.Tokenizer.split;
 import static org.folio.bulkops.util.Constants.ARRAY_DELIMITER;
 
 import java.util.Arrays;
@@ -14,7 +15,7 @@ public class HoldingsStatisticalCodeListConverter extends BaseConverter<List<Str
 
   @Override
   public List<String> convertToObject(String value) {
-    return Arrays.stream(value.split(ARRAY_DELIMITER))
+    return Arrays.stream(split(value, ARRAY_DELIMITER))
       .map(SpecialCharacterEscaper::restore)
       .map(name -> HoldingsReferenceHelper.service().getStatisticalCodeByName(name).getId())
       .filter(Objects::nonNull)
@@ -1,6 +1,7 @@
 package org.folio.bulkops.domain.converter;
 
-import static org.folio.bulkops.util.Constants.ITEM_DELIMITER_PATTERN;
+import static org.folio.bulkops.domain.format.Tokenizer.split;
+import static org.folio.bulkops.util.Constants.ITEM_DELIMITER;
 import static org.folio.bulkops.util.Constants.ITEM_DELIMITER_SPACED;
 
 import org.apache.commons.lang3.StringUtils;
@@ -20,7 +21,7 @@ public class InstanceFormatListConverter extends BaseConverter<List<String>> {
   public List<String> convertToObject(String value) {
     return StringUtils.isEmpty(value) ?
       Collections.emptyList() :
-      Arrays.stream(value.split(ITEM_DELIMITER_PATTERN))
+      Arrays.stream(split(value, ITEM_DELIMITER))
         .map(String::trim)
         .map(InstanceReferenceHelper.service()::getInstanceFormatIdByName)
         .toList();
@@ -3,9 +3,9 @@ package org.folio.bulkops.domain.converter;
 import static org.apache.commons.lang3.StringUtils.isNotEmpty;
 import static org.folio.bulkops.domain.format.SpecialCharacterEscaper.escape;
 import static org.folio.bulkops.domain.format.SpecialCharacterEscaper.restore;
+import static org.folio.bulkops.domain.format.Tokenizer.split;
 import static org.folio.bulkops.util.Constants.ARRAY_DELIMITER;
 import static org.folio.bulkops.util.Constants.ITEM_DELIMITER;
-import static org.folio.bulkops.util.Constants.ITEM_DELIMITER_PATTERN;
 import static org.folio.bulkops.util.Utils.booleanToStringNullSafe;
 
 import java.util.Arrays;
@@ -26,7 +26,7 @@ public class ItemNoteListConverter extends BaseConverter<List<ItemNote>> {
 
   @Override
   public List<ItemNote> convertToObject(String value) {
-    return Arrays.stream(value.split(ITEM_DELIMITER_PATTERN))
+    return Arrays.stream(split(value, ITEM_DELIMITER))
       .map(this::restoreItemNote)
       .filter(Objects::nonNull)
       .toList();
@@ -44,7 +44,7 @@ public class ItemNoteListConverter extends BaseConverter<List<ItemNote>> {
 
   private ItemNote restoreItemNote(String s) {
     if (isNotEmpty(s)) {
-      var tokens = s.split(ARRAY_DELIMITER, -1);
+      var tokens = split(s, ARRAY_DELIMITER, -1);
       if (tokens.length < NUMBER_OF_ITEM_NOTE_COMPONENTS) {
         throw new EntityFormatException(String.format("Illegal number of item note elements: %d, expected: %d", tokens.length, NUMBER_OF_ITEM_NOTE_COMPONENTS));
       }
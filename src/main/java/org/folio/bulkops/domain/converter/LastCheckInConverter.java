@@ -3,6 +3,7 @@ package org.folio.bulkops.domain.converter;
 import static org.apache.commons.lang3.ObjectUtils.isEmpty;
 import static org.folio.bulkops.domain.format.SpecialCharacterEscaper.escape;
 import static org.folio.bulkops.domain.format.SpecialCharacterEscaper.restore;
+import static org.folio.bulkops.domain.format.Tokenizer.split;
 import static org.folio.bulkops.util.Constants.ARRAY_DELIMITER;
 
 import org.folio.bulkops.domain.bean.LastCheckIn;
@@ -17,7 +18,7 @@ public class LastCheckInConverter extends BaseConverter<LastCheckIn> {
 
   @Override
   public LastCheckIn convertToObject(String value) {
-    var tokens = value.split(ARRAY_DELIMITER, -1);
+    var tokens = split(value, ARRAY_DELIMITER, -1);
     if (NUMBER_OF_LAST_CHECK_IN_COMPONENTS == tokens.length) {
       return LastCheckIn.builder()
         .servicePointId(ItemReferenceHelper.service().getServicePointByName(restore(tokens[LAST_CHECK_IN_SERVICE_POINT_NAME_INDEX])).getId())
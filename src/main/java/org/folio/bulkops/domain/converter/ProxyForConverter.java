@@ -1,5 +1,6 @@
 package org.folio.bulkops.domain.converter;
 
+import static org.folio.bulkops.domain.format.Tokenizer.split;
 import static org.folio.bulkops.util.Constants.ARRAY_DELIMITER;
 
 import java.util.Arrays;
@@ -11,7 +12,7 @@ public class ProxyForConverter extends BaseConverter<List<String>> {
 
   @Override
   public List<String> convertToObject(String value) {
-    return Arrays.asList(value.split(ARRAY_DELIMITER));
+    return Arrays.asList(split(value, ARRAY_DELIMITER));
   }
 
   @Override
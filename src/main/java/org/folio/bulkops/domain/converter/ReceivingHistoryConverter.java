@@ -4,9 +4,9 @@ import static org.apache.commons.lang3.ObjectUtils.isEmpty;
 import static org.apache.commons.lang3.StringUtils.EMPTY;
 import static org.folio.bulkops.domain.format.SpecialCharacterEscaper.escape;
 import static org.folio.bulkops.domain.format.SpecialCharacterEscaper.restore;
+import static org.folio.bulkops.domain.format.Tokenizer.split;
 import static org.folio.bulkops.util.Constants.ARRAY_DELIMITER;
 import static org.folio.bulkops.util.Constants.ITEM_DELIMITER;
-import static org.folio.bulkops.util.Constants.ITEM_DELIMITER_PATTERN;
 import static org.folio.bulkops.util.Utils.booleanToStringNullSafe;
 
 import java.util.Arrays;
@@ -25,7 +25,7 @@ public class ReceivingHistoryConverter extends BaseConverter<ReceivingHistoryEnt
 
 
   private ReceivingHistoryEntry restoreReceivingHistoryEntry(String entryString) {
-    var tokens = entryString.split(ARRAY_DELIMITER);
+    var tokens = split(entryString, ARRAY_DELIMITER);
     if (tokens.length == NUMBER_OF_RECEIVING_HISTORY_ENTRY_ELEMENTS) {
       return ReceivingHistoryEntry.builder()
         .publicDisplay(isEmpty(tokens[RECEIVING_HISTORY_ENTRY_PUBLIC_DISPLAY_INDEX]) ? null : Boolean.parseBoolean(tokens[RECEIVING_HISTORY_ENTRY_PUBLIC_DISPLAY_INDEX]))
@@ -39,7 +39,7 @@ public class ReceivingHistoryConverter extends BaseConverter<ReceivingHistoryEnt
 
   @Override
   public ReceivingHistoryEntries convertToObject(String value) {
-    var tokens = value.split(ITEM_DELIMITER_PATTERN);
+    var tokens = split(value, ITEM_DELIMITER);
     if (tokens.length > 1) {
       return ReceivingHistoryEntries.builder()
         .displayType(isEmpty(tokens[0]) ? null : tokens[0])
@@ -1,6 +1,7 @@
 package org.folio.bulkops.domain.converter;
 
-import static org.folio.bulkops.util.Constants.ITEM_DELIMITER_PATTERN;
+import static org.folio.bulkops.domain.format.Tokenizer.split;
+import static org.folio.bulkops.util.Constants.ITEM_DELIMITER;
 import static org.folio.bulkops.util.Constants.ITEM_DELIMITER_SPACED;
 
 import org.apache.commons.lang3.StringUtils;
@@ -19,7 +20,7 @@ public class SeriesListConverter extends BaseConverter<List<Series>> {
   public List<Series> convertToObject(String value) {
     return StringUtils.isEmpty(value) ?
       Collections.emptyList() :
-      Arrays.stream(value.split(ITEM_DELIMITER_PATTERN))
+      Arrays.stream(split(value, ITEM_DELIMITER))
         .map(String::trim)
         .map(val -> Series.builder().value(val).build())
         .toList();
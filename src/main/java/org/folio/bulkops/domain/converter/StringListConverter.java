@@ -1,5 +1,6 @@
 package org.folio.bulkops.domain.converter;
 
+import static org.folio.bulkops.domain.format.Tokenizer.split;
 import static org.folio.bulkops.util.Constants.ARRAY_DELIMITER;
 
 import java.util.Arrays;
@@ -14,7 +15,7 @@ public class StringListConverter extends BaseConverter<List<String>> {
 
   @Override
   public List<String> convertToObject(String value) {
-    return SpecialCharacterEscaper.restore(Arrays.asList(value.split(ARRAY_DELIMITER)));
+    return SpecialCharacterEscaper.restore(Arrays.asList(split(value, ARRAY_DELIMITER)));
   }
 
   @Override
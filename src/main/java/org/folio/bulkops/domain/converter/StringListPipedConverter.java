@@ -1,6 +1,7 @@
 package org.folio.bulkops.domain.converter;
 
-import static org.folio.bulkops.util.Constants.ITEM_DELIMITER_PATTERN;
+import static org.folio.bulkops.domain.format.Tokenizer.split;
+import static org.folio.bulkops.util.Constants.ITEM_DELIMITER;
 import static org.folio.bulkops.util.Constants.ITEM_DELIMITER_SPACED;
 
 import java.util.Arrays;
@@ -13,7 +14,7 @@ public class StringListPipedConverter extends BaseConverter<List<String>> {
 
   @Override
   public List<String> convertToObject(String value) {
-    return Arrays.stream(value.split(ITEM_DELIMITER_PATTERN))
+    return Arrays.stream(split(value, ITEM_DELIMITER))
       .map(String::trim)
       .toList();
   }
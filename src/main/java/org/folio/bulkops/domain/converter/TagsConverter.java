@@ -1,5 +1,6 @@
 package org.folio.bulkops.domain.converter;
 
+import static org.folio.bulkops.domain.format.Tokenizer.split;
 import static org.folio.bulkops.util.Constants.ARRAY_DELIMITER;
 
 import java.util.Arrays;
@@ -15,7 +16,7 @@ public class TagsConverter extends BaseConverter<Tags> {
   @Override
   public Tags convertToObject(String value) {
     Tags tags = new Tags();
-    List<String> tagList = SpecialCharacterEscaper.restore(Arrays.asList(value.split(ARRAY_DELIMITER)));
+    List<String> tagList = SpecialCharacterEscaper.restore(Arrays.asList(split(value, ARRAY_DELIMITER)));
     return tags.withTagList(tagList);
   }
 
@@ -58,14 +58,17 @@ public class BulkOperation {
 
   private String linkToMatchedRecordsJsonFile;
   private String linkToMatchedRecordsCsvFile;
+  private String linkToMatchedRecordsDownloadCsvFile;
   private String linkToMatchedRecordsMarcFile;
   private String linkToMatchedRecordsErrorsCsvFile;
   private String linkToModifiedRecordsJsonFile;
   private String linkToModifiedRecordsCsvFile;
+  private String linkToModifiedRecordsDownloadCsvFile;
   private String linkToModifiedRecordsMarcFile;
   private String linkToPreviewRecordsJsonFile;
   private String linkToCommittedRecordsJsonFile;
   private String linkToCommittedRecordsCsvFile;
+  private String linkToCommittedRecordsDownloadCsvFile;
   private String linkToCommittedRecordsMarcFile;
   private String linkToCommittedRecordsErrorsCsvFile;
 
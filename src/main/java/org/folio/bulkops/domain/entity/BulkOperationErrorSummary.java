@@ -0,0 +1,39 @@
+package org.folio.bulkops.domain.entity;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.hibernate.annotations.Type;
+
+import io.hypersistence.utils.hibernate.type.json.JsonBinaryType;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.With;
+
+@Data
+@Builder
+@With
+@AllArgsConstructor
+@NoArgsConstructor
+@Entity
+@Table(name = "bulk_operation_error_summary")
+public class BulkOperationErrorSummary {
+  @Id
+  private UUID id;
+
+  private UUID bulkOperationId;
+
+  private String message;
+
+  private Integer errorCount;
+
+  @Type(JsonBinaryType.class)
+  @Column(columnDefinition = "jsonb")
+  private List<String> sampleIdentifiers;
+}
@@ -6,6 +6,7 @@ import static org.folio.bulkops.util.Constants.ARRAY_DELIMITER;
 import static org.folio.bulkops.util.Constants.ITEM_DELIMITER;
 import static org.folio.bulkops.util.Constants.KEY_VALUE_DELIMITER;
 
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -16,13 +17,38 @@ public class SpecialCharacterEscaper {
 
   private static final String[] SPECIAL_CHARACTERS = {ITEM_DELIMITER , ARRAY_DELIMITER, KEY_VALUE_DELIMITER};
   private static final String[] ESCAPED_VALUES = {"%7C", "%3B", "%3A"};
+  private static final String SPECIAL_CHARACTERS_CHARS = String.join(EMPTY, SPECIAL_CHARACTERS);
+  private static final int[] ESCAPED_VALUE_INDEXES = new int[128];
+  private static final char ESCAPE_CHARACTER = '%';
+  private static final int ESCAPED_VALUE_LENGTH = 3;
 
+  static {
+    Arrays.fill(ESCAPED_VALUE_INDEXES, -1);
+    for (int i = 0; i < SPECIAL_CHARACTERS_CHARS.length(); i++) {
+      ESCAPED_VALUE_INDEXES[SPECIAL_CHARACTERS_CHARS.charAt(i)] = i;
+    }
+  }
+
+  /**
+   * Replaces delimiters with their escaped values in a single pass, the value is returned as is when it has none.
+   */
   public static String escape(String initial) {
     if (StringUtils.isEmpty(initial)) return EMPTY;
-    for (int i = 0; i < SPECIAL_CHARACTERS.length; i++) {
-      initial = initial.replace(SPECIAL_CHARACTERS[i], ESCAPED_VALUES[i]);
+    var first = indexOfSpecialCharacter(initial);
+    if (first < 0) {
+      return initial;
     }
-    return initial;
+    var result = new StringBuilder(initial.length() + 8).append(initial, 0, first);
+    for (int i = first; i < initial.length(); i++) {
+      var c = initial.charAt(i);
+      var index = c < ESCAPED_VALUE_INDEXES.length ? ESCAPED_VALUE_INDEXES[c] : -1;
+      if (index >= 0) {
+        result.append(ESCAPED_VALUES[index]);
+      } else {
+        result.append(c);
+      }
+    }
+    return result.toString();
   }
 
   public static List<String> escape(List<String> initial) {
@@ -30,16 +56,50 @@ public class SpecialCharacterEscaper {
     return initial.stream().map(SpecialCharacterEscaper::escape).collect(Collectors.toList());
   }
 
+  /**
+   * Restores escaped delimiters in a single pass, the value is returned as is when it has none.
+   */
   public static String restore(String escaped) {
     if (StringUtils.isEmpty(escaped)) return null;
-    for (int i = 0; i < ESCAPED_VALUES.length; i++) {
-      escaped = escaped.replace(ESCAPED_VALUES[i], SPECIAL_CHARACTERS[i]);
+    StringBuilder result = null;
+    var start = 0;
+    for (int i = escaped.indexOf(ESCAPE_CHARACTER); i >= 0 && i + ESCAPED_VALUE_LENGTH <= escaped.length();
+         i = escaped.indexOf(ESCAPE_CHARACTER, i + 1)) {
+      var index = escapedValueIndex(escaped, i);
+      if (index >= 0) {
+        if (result == null) {
+          result = new StringBuilder(escaped.length());
+        }
+        result.append(escaped, start, i).append(SPECIAL_CHARACTERS_CHARS.charAt(index));
+        start = i + ESCAPED_VALUE_LENGTH;
+        i = start - 1;
+      }
     }
-    return escaped;
+    return result == null ? escaped : result.append(escaped, start, escaped.length()).toString();
   }
 
   public static List<String> restore(List<String> escaped) {
     if (escaped == null) return Collections.emptyList();
     return escaped.stream().map(SpecialCharacterEscaper::restore).collect(Collectors.toList());
   }
+
+  private static int indexOfSpecialCharacter(String value) {
+    var first = -1;
+    for (int i = 0; i < SPECIAL_CHARACTERS_CHARS.length(); i++) {
+      var index = value.indexOf(SPECIAL_CHARACTERS_CHARS.charAt(i));
+      if (index >= 0 && (first < 0 || index < first)) {
+        first = index;
+      }
+    }
+    return first;
+  }
+
+  private static int escapedValueIndex(String value, int offset) {
+    for (int i = 0; i < ESCAPED_VALUES.length; i++) {
+      if (value.startsWith(ESCAPED_VALUES[i], offset)) {
+        return i;
+      }
+    }
+    return -1;
+  }
 }
@@ -0,0 +1,53 @@
+package org.folio.bulkops.domain.format;
+
+import java.util.Arrays;
+
+import lombok.experimental.UtilityClass;
+
+/**
+ * Splits values of csv fields by literal delimiters. Tokens are the same as produced by {@link String#split(String, int)}
+ * with the quoted delimiter, but the value is scanned with {@link String#indexOf(String, int)} without regular
+ * expressions and only strings of the resulting tokens are created.
+ */
+@UtilityClass
+public class Tokenizer {
+
+  public static String[] split(String value, String delimiter) {
+    return split(value, delimiter, 0);
+  }
+
+  /**
+   * Splits the value like {@link String#split(String, int)}: a positive limit bounds the number of tokens, zero limit
+   * drops trailing empty tokens and a negative limit keeps all tokens.
+   */
+  public static String[] split(String value, String delimiter, int limit) {
+    if (delimiter.isEmpty()) {
+      throw new IllegalArgumentException("Delimiter must not be empty");
+    }
+    var maxDelimiters = limit > 0 ? limit - 1 : Integer.MAX_VALUE;
+    var delimiters = 0;
+    for (var index = value.indexOf(delimiter); index >= 0 && delimiters < maxDelimiters;
+         index = value.indexOf(delimiter, index + delimiter.length())) {
+      delimiters++;
+    }
+    if (delimiters == 0) {
+      return new String[] {value};
+    }
+    var tokens = new String[delimiters + 1];
+    var start = 0;
+    for (var i = 0; i < delimiters; i++) {
+      var end = value.indexOf(delimiter, start);
+      tokens[i] = value.substring(start, end);
+      start = end + delimiter.length();
+    }
+    tokens[delimiters] = value.substring(start);
+    if (limit == 0) {
+      var size = tokens.length;
+      while (size > 0 && tokens[size - 1].isEmpty()) {
+        size--;
+      }
+      return size == tokens.length ? tokens : Arrays.copyOf(tokens, size);
+    }
+    return tokens;
+  }
+}
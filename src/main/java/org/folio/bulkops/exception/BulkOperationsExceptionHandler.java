@@ -16,4 +16,9 @@ public class BulkOperationsExceptionHandler {
   public ResponseEntity<String> handleIllegalOperationStateException(final IllegalOperationStateException e) {
     return new ResponseEntity<>(e.getMessage(), HttpStatus.BAD_REQUEST);
   }
+
+  @ExceptionHandler(InvalidCursorException.class)
+  public ResponseEntity<String> handleInvalidCursorException(final InvalidCursorException e) {
+    return new ResponseEntity<>(e.getMessage(), HttpStatus.BAD_REQUEST);
+  }
 }
@@ -0,0 +1,7 @@
+package org.folio.bulkops.exception;
+
+public class DuplicateNameException extends RuntimeException {
+  public DuplicateNameException(String message) {
+    super(message);
+  }
+}
@@ -0,0 +1,7 @@
+package org.folio.bulkops.exception;
+
+public class InvalidCursorException extends RuntimeException {
+  public InvalidCursorException(String message) {
+    super(message);
+  }
+}
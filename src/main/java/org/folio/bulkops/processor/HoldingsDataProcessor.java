@@ -30,7 +30,7 @@ import org.folio.bulkops.exception.BulkOperationException;
 import org.folio.bulkops.exception.NotFoundException;
 import org.folio.bulkops.exception.RuleValidationException;
 import org.folio.bulkops.service.HoldingsReferenceService;
-import org.folio.bulkops.service.ItemReferenceService;
+import org.folio.bulkops.service.ItemReferenceHelper;
 import org.folio.bulkops.service.ElectronicAccessReferenceService;
 import org.springframework.stereotype.Component;
 
@@ -43,7 +43,7 @@ import lombok.extern.log4j.Log4j2;
 public class HoldingsDataProcessor extends AbstractDataProcessor<HoldingsRecord> {
 
 
-  private final ItemReferenceService itemReferenceService;
+  private final ItemReferenceHelper itemReferenceHelper;
   private final HoldingsReferenceService holdingsReferenceService;
   private final HoldingsNotesUpdater holdingsNotesUpdater;
   private final ElectronicAccessUpdaterFactory electronicAccessUpdaterFactory;
@@ -114,7 +114,7 @@ public class HoldingsDataProcessor extends AbstractDataProcessor<HoldingsRecord>
 
       if (Set.of(PERMANENT_LOCATION, TEMPORARY_LOCATION).contains(option)) {
         try {
-          itemReferenceService.getLocationById(newId);
+          itemReferenceHelper.getLocationById(newId);
         } catch (Exception e) {
           throw new RuleValidationException(format("Location %s doesn't exist", newId));
         }
@@ -23,6 +23,7 @@ import org.folio.bulkops.domain.dto.UpdateOptionType;
 import org.folio.bulkops.exception.BulkOperationException;
 import org.folio.bulkops.exception.RuleValidationException;
 import org.folio.bulkops.service.HoldingsReferenceService;
+import org.folio.bulkops.service.ItemReferenceHelper;
 import org.folio.bulkops.service.ItemReferenceService;
 import org.springframework.stereotype.Component;
 
@@ -35,6 +36,7 @@ import lombok.extern.log4j.Log4j2;
 public class ItemDataProcessor extends AbstractDataProcessor<Item> {
   private final HoldingsReferenceService holdingsReferenceService;
   private final ItemReferenceService itemReferenceService;
+  private final ItemReferenceHelper itemReferenceHelper;
   private final ItemsNotesUpdater itemsNotesUpdater;
 
   @Override
@@ -66,15 +68,15 @@ public class ItemDataProcessor extends AbstractDataProcessor<Item> {
     if (REPLACE_WITH == action.getType()) {
       return switch (option) {
         case PERMANENT_LOAN_TYPE ->
-          item -> item.setPermanentLoanType(itemReferenceService.getLoanTypeById(action.getUpdated()));
+          item -> item.setPermanentLoanType(itemReferenceHelper.getLoanTypeById(action.getUpdated()));
         case TEMPORARY_LOAN_TYPE ->
-          item -> item.setTemporaryLoanType(itemReferenceService.getLoanTypeById(action.getUpdated()));
+          item -> item.setTemporaryLoanType(itemReferenceHelper.getLoanTypeById(action.getUpdated()));
         case PERMANENT_LOCATION -> item -> {
-          item.setPermanentLocation(itemReferenceService.getLocationById(action.getUpdated()));
+          item.setPermanentLocation(itemReferenceHelper.getLocationById(action.getUpdated()));
           item.setEffectiveLocation(getEffectiveLocation(item));
         };
         case TEMPORARY_LOCATION -> item -> {
-          item.setTemporaryLocation(itemReferenceService.getLocationById(action.getUpdated()));
+          item.setTemporaryLocation(itemReferenceHelper.getLocationById(action.getUpdated()));
           item.setEffectiveLocation(getEffectiveLocation(item));
         };
         case STATUS -> item -> item.setStatus(new InventoryItemStatus()
@@ -143,7 +145,7 @@ public class ItemDataProcessor extends AbstractDataProcessor<Item> {
     if (isNull(item.getTemporaryLocation()) && isNull(item.getPermanentLocation())) {
       var holdingsRecord = holdingsReferenceService.getHoldingsRecordById(item.getHoldingsRecordId());
       var holdingsEffectiveLocationId = isNull(holdingsRecord.getTemporaryLocationId()) ? holdingsRecord.getPermanentLocationId() : holdingsRecord.getTemporaryLocationId();
-      return itemReferenceService.getLocationById(holdingsEffectiveLocationId);
+      return itemReferenceHelper.getLocationById(holdingsEffectiveLocationId);
     } else {
       return isNull(item.getTemporaryLocation()) ? item.getPermanentLocation() : item.getTemporaryLocation();
     }
@@ -0,0 +1,43 @@
+package org.folio.bulkops.repository;
+
+import java.util.UUID;
+
+import org.folio.bulkops.domain.entity.BulkOperationErrorSummary;
+import org.folio.spring.data.OffsetRequest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+public interface BulkOperationErrorSummaryRepository extends JpaRepository<BulkOperationErrorSummary, UUID> {
+
+  /**
+   * Adds count errors of the group in a single statement, so concurrent writers do not lose updates. The identifiers
+   * (json array) are appended to the samples while the group has less than maxSamples of them.
+   */
+  @Modifying
+  @Transactional
+  @Query(nativeQuery = true, value = """
+    INSERT INTO bulk_operation_error_summary (id, bulk_operation_id, message, error_count, sample_identifiers)
+    VALUES (:id, :bulkOperationId, :message, :count, CAST(:identifiers AS JSONB))
+    ON CONFLICT (bulk_operation_id, message) DO UPDATE SET
+      error_count = bulk_operation_error_summary.error_count + EXCLUDED.error_count,
+      sample_identifiers = (
+        SELECT COALESCE(jsonb_agg(sample.value ORDER BY sample.position), CAST('[]' AS JSONB))
+        FROM jsonb_array_elements(bulk_operation_error_summary.sample_identifiers || EXCLUDED.sample_identifiers)
+          WITH ORDINALITY AS sample(value, position)
+        WHERE sample.position <= :maxSamples)
+    """)
+  void increment(@Param("id") UUID id, @Param("bulkOperationId") UUID bulkOperationId, @Param("message") String message,
+                 @Param("count") int count, @Param("identifiers") String identifiers, @Param("maxSamples") int maxSamples);
+
+  Page<BulkOperationErrorSummary> findByBulkOperationIdOrderByErrorCountDesc(UUID bulkOperationId, OffsetRequest offsetRequest);
+
+  @Modifying
+  @Query("DELETE FROM BulkOperationErrorSummary s WHERE s.bulkOperationId = :bulkOperationId")
+  void deleteByBulkOperationId(@Param("bulkOperationId") UUID bulkOperationId);
+}
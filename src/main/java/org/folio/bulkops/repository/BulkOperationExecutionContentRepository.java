@@ -2,18 +2,44 @@ package org.folio.bulkops.repository;
 
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 import org.folio.bulkops.domain.entity.BulkOperationExecutionContent;
 import org.folio.spring.data.OffsetRequest;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import jakarta.persistence.QueryHint;
+
 @Repository
 public interface BulkOperationExecutionContentRepository extends JpaRepository<BulkOperationExecutionContent, UUID> {
   Page<BulkOperationExecutionContent> findByBulkOperationIdAndErrorMessageIsNotNull(UUID bulkOperationId, OffsetRequest offsetRequest);
 
+  /**
+   * Streams errors of the bulk operation through a forward-only cursor, must be consumed within a transaction.
+   */
+  @QueryHints({
+    @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+    @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+  })
+  Stream<BulkOperationExecutionContent> streamByBulkOperationIdAndErrorMessageIsNotNull(UUID bulkOperationId);
+
+  @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+  @Query("SELECT c.identifier FROM BulkOperationExecutionContent c WHERE c.bulkOperationId = :bulkOperationId")
+  Stream<String> streamIdentifiersByBulkOperationId(@Param("bulkOperationId") UUID bulkOperationId);
+
   Optional<BulkOperationExecutionContent> findFirstByBulkOperationIdAndIdentifier(UUID bulkOperationId, String identifier);
 
-  void deleteByBulkOperationId(UUID bulkOperationId);
+  /**
+   * Deletes content of the bulk operation with a single statement instead of loading and removing entities one by one.
+   */
+  @Modifying
+  @Query("DELETE FROM BulkOperationExecutionContent c WHERE c.bulkOperationId = :bulkOperationId")
+  void deleteByBulkOperationId(@Param("bulkOperationId") UUID bulkOperationId);
 }
@@ -1,14 +1,35 @@
 package org.folio.bulkops.repository;
 
 import java.util.UUID;
+import java.util.stream.Stream;
 
 import org.folio.bulkops.domain.entity.BulkOperationProcessingContent;
 import org.folio.spring.data.OffsetRequest;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import jakarta.persistence.QueryHint;
+
 @Repository
 public interface BulkOperationProcessingContentRepository extends JpaRepository<BulkOperationProcessingContent, UUID> {
   Page<BulkOperationProcessingContent> findByBulkOperationIdAndErrorMessageIsNotNull(UUID bulkOperationId, OffsetRequest offsetRequest);
+
+  /**
+   * Streams errors of the bulk operation through a forward-only cursor, must be consumed within a transaction.
+   */
+  @QueryHints({
+    @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+    @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+  })
+  Stream<BulkOperationProcessingContent> streamByBulkOperationIdAndErrorMessageIsNotNull(UUID bulkOperationId);
+
+  @Modifying
+  @Query("DELETE FROM BulkOperationProcessingContent c WHERE c.bulkOperationId = :bulkOperationId")
+  void deleteByBulkOperationId(@Param("bulkOperationId") UUID bulkOperationId);
 }
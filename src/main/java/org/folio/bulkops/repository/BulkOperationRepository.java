@@ -5,9 +5,28 @@ import java.util.UUID;
 
 import org.folio.bulkops.domain.entity.BulkOperation;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 @Repository
 public interface BulkOperationRepository extends JpaRepository<BulkOperation, UUID> {
   Optional<BulkOperation> findByDataExportJobId(UUID jobId);
+
+  @Modifying
+  @Transactional
+  @Query("UPDATE BulkOperation b SET b.linkToMatchedRecordsDownloadCsvFile = :link WHERE b.id = :id")
+  void updateLinkToMatchedRecordsDownloadCsvFile(@Param("id") UUID id, @Param("link") String link);
+
+  @Modifying
+  @Transactional
+  @Query("UPDATE BulkOperation b SET b.linkToModifiedRecordsDownloadCsvFile = :link WHERE b.id = :id")
+  void updateLinkToModifiedRecordsDownloadCsvFile(@Param("id") UUID id, @Param("link") String link);
+
+  @Modifying
+  @Transactional
+  @Query("UPDATE BulkOperation b SET b.linkToCommittedRecordsDownloadCsvFile = :link WHERE b.id = :id")
+  void updateLinkToCommittedRecordsDownloadCsvFile(@Param("id") UUID id, @Param("link") String link);
 }
@@ -0,0 +1,138 @@
+package org.folio.bulkops.repository;
+
+import static java.util.Objects.isNull;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+
+import org.folio.bulkops.domain.entity.BulkOperation;
+import org.folio.bulkops.exception.InvalidCursorException;
+import org.folio.spring.cql.Cql2JpaCriteria;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Order;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.metamodel.Attribute;
+import lombok.RequiredArgsConstructor;
+
+@Repository
+@RequiredArgsConstructor
+public class BulkOperationScrollRepository {
+  public static final String HR_ID = "hrId";
+  private static final Map<String, Function<BulkOperation, Object>> KEYSET_SORT_FIELDS = Map.of(
+    HR_ID, BulkOperation::getHrId,
+    "startTime", BulkOperation::getStartTime,
+    "endTime", BulkOperation::getEndTime);
+
+  private final EntityManager entityManager;
+
+  /**
+   * Returns a window of operations matching the CQL query after the keyset position. Operations are ordered by the
+   * sort field of the query with hrId as a tie-breaker, or by hrId descending when the query is not sorted. Empty
+   * result means the sort of the query cannot be used as a keyset (several sort fields or an unsupported one).
+   */
+  @Transactional(readOnly = true)
+  @SuppressWarnings("unchecked")
+  public Optional<Window<BulkOperation>> scrollByCql(String cql, KeysetScrollPosition position, int limit) {
+    var criteria = new Cql2JpaCriteria<>(BulkOperation.class, entityManager).toCollectCriteria(cql);
+    var root = (Root<BulkOperation>) criteria.getRoots().iterator().next();
+    var sortField = HR_ID;
+    var ascending = false;
+    var orders = criteria.getOrderList();
+    if (orders.size() == 1 && orders.get(0).getExpression() instanceof Path<?> path
+      && path.getModel() instanceof Attribute<?, ?> attribute && KEYSET_SORT_FIELDS.containsKey(attribute.getName())) {
+      sortField = attribute.getName();
+      ascending = orders.get(0).isAscending();
+    } else if (!orders.isEmpty()) {
+      return Optional.empty();
+    }
+
+    var criteriaBuilder = entityManager.getCriteriaBuilder();
+    Path<Comparable<Object>> sortPath = root.get(sortField);
+    Path<Integer> hrIdPath = root.get(HR_ID);
+    if (!position.isInitial()) {
+      if (!position.getKeys().containsKey(sortField)) {
+        throw new InvalidCursorException("Cursor does not match the sort of the query");
+      }
+      var keyset = keysetPredicate(criteriaBuilder, sortField, sortPath, hrIdPath, ascending,
+        (Comparable<Object>) toFieldType(position.getKeys().get(sortField), sortPath.getJavaType()),
+        (Integer) toFieldType(position.getKeys().get(HR_ID), Integer.class));
+      criteria.where(isNull(criteria.getRestriction()) ? keyset : criteriaBuilder.and(criteria.getRestriction(), keyset));
+    }
+    criteria.orderBy(HR_ID.equals(sortField) ?
+      List.of(order(criteriaBuilder, hrIdPath, ascending)) :
+      List.of(order(criteriaBuilder, sortPath, ascending), order(criteriaBuilder, hrIdPath, ascending)));
+
+    var operations = entityManager.createQuery(criteria)
+      .setMaxResults(limit + 1)
+      .getResultList();
+    var hasNext = operations.size() > limit;
+    var content = hasNext ? operations.subList(0, limit) : operations;
+    var keysetField = sortField;
+    return Optional.of(Window.from(content, index -> ScrollPosition.forward(keysOf(content.get(index), keysetField)), hasNext));
+  }
+
+  /**
+   * Builds condition selecting rows after the position. Postgres puts nulls first in descending order and last
+   * in ascending order, so null values of the sort field are handled accordingly.
+   */
+  private Predicate keysetPredicate(CriteriaBuilder cb, String sortField, Path<Comparable<Object>> sortPath, Path<Integer> hrIdPath,
+                                    boolean ascending, Comparable<Object> value, Integer hrId) {
+    var hrIdAfter = ascending ? cb.greaterThan(hrIdPath, hrId) : cb.lessThan(hrIdPath, hrId);
+    if (HR_ID.equals(sortField)) {
+      return hrIdAfter;
+    }
+    if (isNull(value)) {
+      return ascending ?
+        cb.and(cb.isNull(sortPath), hrIdAfter) :
+        cb.or(cb.and(cb.isNull(sortPath), hrIdAfter), cb.isNotNull(sortPath));
+    }
+    var valueAfter = ascending ? cb.greaterThan(sortPath, value) : cb.lessThan(sortPath, value);
+    var sameValue = cb.and(cb.equal(sortPath, value), hrIdAfter);
+    return ascending ?
+      cb.or(valueAfter, sameValue, cb.isNull(sortPath)) :
+      cb.or(valueAfter, sameValue);
+  }
+
+  private Order order(CriteriaBuilder cb, Path<?> path, boolean ascending) {
+    return ascending ? cb.asc(path) : cb.desc(path);
+  }
+
+  /**
+   * Keys of the position are kept as strings and numbers, so the position can be serialized as a cursor token.
+   */
+  private Map<String, Object> keysOf(BulkOperation operation, String sortField) {
+    var keys = new LinkedHashMap<String, Object>();
+    if (!HR_ID.equals(sortField)) {
+      var value = KEYSET_SORT_FIELDS.get(sortField).apply(operation);
+      keys.put(sortField, isNull(value) ? null : value.toString());
+    }
+    keys.put(HR_ID, operation.getHrId());
+    return keys;
+  }
+
+  private Object toFieldType(Object value, Class<?> type) {
+    if (isNull(value) || type.isInstance(value)) {
+      return value;
+    }
+    if (LocalDateTime.class.equals(type)) {
+      return LocalDateTime.parse(value.toString());
+    }
+    if (Integer.class.equals(type)) {
+      return value instanceof Number number ? number.intValue() : Integer.valueOf(value.toString());
+    }
+    throw new IllegalArgumentException("Unsupported keyset value type: " + type.getName());
+  }
+}
@@ -0,0 +1,54 @@
+package org.folio.bulkops.repository;
+
+import static java.util.Objects.isNull;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.folio.bulkops.domain.entity.BulkOperation;
+import org.folio.spring.cql.Cql2JpaCriteria;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.Path;
+import lombok.RequiredArgsConstructor;
+
+@Repository
+@RequiredArgsConstructor
+public class BulkOperationUsersRepository {
+  private static final String USER_ID = "userId";
+
+  private final EntityManager entityManager;
+
+  /**
+   * Returns distinct ids of users who started bulk operations matching the CQL query, ordered by id. The CQL criteria
+   * selects only the user id wrapped into {@link UserIdProjection}, so the database returns only the ids.
+   */
+  @Transactional(readOnly = true)
+  public List<UUID> findDistinctUserIdsByCql(String cql) {
+    var criteria = new Cql2JpaCriteria<>(BulkOperation.class, entityManager).toCollectCriteria(cql);
+    var root = criteria.getRoots().iterator().next();
+    Path<UUID> userId = root.get(USER_ID);
+
+    var criteriaBuilder = entityManager.getCriteriaBuilder();
+    var notNullUserId = criteriaBuilder.isNotNull(userId);
+    criteria.select(criteriaBuilder.construct(UserIdProjection.class, userId))
+      .distinct(true)
+      .where(isNull(criteria.getRestriction()) ? notNullUserId :
+        criteriaBuilder.and(criteria.getRestriction(), notNullUserId))
+      .orderBy(criteriaBuilder.asc(userId));
+    return entityManager.createQuery(criteria).getResultList().stream()
+      .map(BulkOperation::getUserId)
+      .toList();
+  }
+
+  /**
+   * Not managed result of the user ids query, the criteria is typed by the entity and can select only its subtypes.
+   */
+  public static class UserIdProjection extends BulkOperation {
+    public UserIdProjection(UUID userId) {
+      setUserId(userId);
+    }
+  }
+}
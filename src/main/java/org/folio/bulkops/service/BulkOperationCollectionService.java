@@ -0,0 +1,98 @@
+package org.folio.bulkops.service;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+import static org.folio.bulkops.repository.BulkOperationScrollRepository.HR_ID;
+
+import java.io.IOException;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import org.folio.bulkops.domain.dto.BulkOperationCollection;
+import org.folio.bulkops.domain.entity.BulkOperation;
+import org.folio.bulkops.exception.InvalidCursorException;
+import org.folio.bulkops.mapper.BulkOperationMapper;
+import org.folio.bulkops.repository.BulkOperationScrollRepository;
+import org.folio.spring.cql.JpaCqlRepository;
+import org.folio.spring.data.OffsetRequest;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
+import org.springframework.stereotype.Service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Lists bulk operations page by page. The first page of a request with a limit and pages requested by cursor are read
+ * with keyset pagination, so deep pages cost the same as the first one. Requests without a limit get the whole list as
+ * before. Offset pagination is kept for clients passing a non-zero offset and for queries sorted in a way keyset
+ * pagination does not support. The total is counted for the first page only and passed on in the cursor.
+ */
+@Service
+@RequiredArgsConstructor
+public class BulkOperationCollectionService {
+  public static final int DEFAULT_CURSOR_PAGE_SIZE = 100;
+  private static final String TOTAL_RECORDS = "totalRecords";
+
+  private final JpaCqlRepository<BulkOperation, UUID> bulkOperationCqlRepository;
+  private final BulkOperationScrollRepository bulkOperationScrollRepository;
+  private final BulkOperationMapper bulkOperationMapper;
+  private final ObjectMapper objectMapper;
+
+  public BulkOperationCollection getBulkOperationCollection(String query, Integer offset, Integer limit, String cursor) {
+    if (nonNull(cursor) || (nonNull(limit) && (isNull(offset) || offset == 0))) {
+      var pageSize = isNull(limit) ? DEFAULT_CURSOR_PAGE_SIZE : limit;
+      var keys = decodeCursor(cursor);
+      var totalRecords = isNull(cursor) ? null : (Number) keys.remove(TOTAL_RECORDS);
+      var position = isNull(cursor) ? ScrollPosition.keyset() : ScrollPosition.forward(keys);
+      var window = bulkOperationScrollRepository.scrollByCql(query, position, pageSize);
+      if (window.isPresent()) {
+        var total = isNull(totalRecords) ? bulkOperationCqlRepository.count(query) : totalRecords.longValue();
+        return new BulkOperationCollection()
+          .bulkOperations(bulkOperationMapper.mapToDtoList(window.get().getContent()))
+          .totalRecords((int) total)
+          .nextCursor(nextCursor(window.get(), total));
+      } else if (nonNull(cursor)) {
+        throw new InvalidCursorException("Cursor is not supported for the sort of the query, only a single sort by hrId, startTime or endTime is supported");
+      }
+    }
+    var page = bulkOperationCqlRepository.findByCql(query, OffsetRequest.of(isNull(offset) ? 0 : offset, isNull(limit) ? Integer.MAX_VALUE : limit));
+    return new BulkOperationCollection()
+      .bulkOperations(bulkOperationMapper.mapToDtoList(page.toList()))
+      .totalRecords((int) page.getTotalElements());
+  }
+
+  private String nextCursor(Window<BulkOperation> window, long totalRecords) {
+    if (!window.hasNext() || window.isEmpty()) {
+      return null;
+    }
+    var keys = new LinkedHashMap<>(((KeysetScrollPosition) window.positionAt(window.size() - 1)).getKeys());
+    keys.put(TOTAL_RECORDS, totalRecords);
+    try {
+      return Base64.getUrlEncoder().withoutPadding().encodeToString(objectMapper.writeValueAsBytes(keys));
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException("Failed to encode cursor", e);
+    }
+  }
+
+  private Map<String, Object> decodeCursor(String cursor) {
+    if (isNull(cursor)) {
+      return new LinkedHashMap<>();
+    }
+    try {
+      Map<String, Object> keys = objectMapper.readValue(Base64.getUrlDecoder().decode(cursor), new TypeReference<LinkedHashMap<String, Object>>() {});
+      if (isNull(keys) || isNull(keys.get(HR_ID)) || !(keys.get(TOTAL_RECORDS) instanceof Number)) {
+        throw new InvalidCursorException("Invalid cursor: " + cursor);
+      }
+      return keys;
+    } catch (IllegalArgumentException | IOException e) {
+      throw new InvalidCursorException("Invalid cursor: " + cursor);
+    }
+  }
+}
@@ -1,9 +1,8 @@
 package org.folio.bulkops.service;
 
 import static java.lang.String.format;
+import static java.util.Objects.isNull;
 import static java.util.Objects.nonNull;
-import static org.apache.commons.lang3.StringUtils.EMPTY;
-import static org.apache.commons.lang3.StringUtils.LF;
 import static org.apache.commons.lang3.StringUtils.isEmpty;
 import static org.folio.bulkops.domain.dto.ApproachType.IN_APP;
 import static org.folio.bulkops.domain.dto.ApproachType.MANUAL;
@@ -20,10 +19,12 @@ import static org.folio.bulkops.domain.dto.OperationStatusType.RETRIEVING_RECORD
 import static org.folio.bulkops.domain.dto.OperationStatusType.REVIEW_CHANGES;
 import static org.folio.bulkops.domain.dto.OperationStatusType.SAVED_IDENTIFIERS;
 import static org.folio.bulkops.domain.dto.OperationStatusType.SAVING_RECORDS_LOCALLY;
+import static org.folio.bulkops.util.Constants.CSV_LINE_ERROR_MESSAGE_PATTERN;
 import static org.folio.bulkops.util.Constants.FIELD_ERROR_MESSAGE_PATTERN;
 import static org.folio.bulkops.util.Utils.resolveEntityClass;
 import static org.folio.spring.scope.FolioExecutionScopeExecutionContextManager.getRunnableWithCurrentFolioContext;
 
+import java.io.IOException;
 import java.io.InputStreamReader;
 import java.io.Reader;
 import java.io.Writer;
@@ -48,6 +49,8 @@ import org.folio.bulkops.domain.bean.Job;
 import org.folio.bulkops.domain.bean.JobStatus;
 import org.folio.bulkops.domain.bean.StatusType;
 import org.folio.bulkops.domain.converter.BulkOperationsEntityCsvWriter;
+import org.folio.bulkops.domain.converter.CompiledEntityCsvWriter;
+import org.folio.bulkops.domain.converter.EntityCsvWriter;
 import org.folio.bulkops.domain.dto.ApproachType;
 import org.folio.bulkops.domain.dto.BulkOperationRuleCollection;
 import org.folio.bulkops.domain.dto.BulkOperationStart;
@@ -61,7 +64,6 @@ import org.folio.bulkops.domain.entity.BulkOperationDataProcessing;
 import org.folio.bulkops.domain.entity.BulkOperationExecution;
 import org.folio.bulkops.exception.BadRequestException;
 import org.folio.bulkops.exception.BulkOperationException;
-import org.folio.bulkops.exception.ConverterException;
 import org.folio.bulkops.exception.IllegalOperationStateException;
 import org.folio.bulkops.exception.NotFoundException;
 import org.folio.bulkops.exception.OptimisticLockingException;
@@ -77,9 +79,8 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
-import com.fasterxml.jackson.core.JsonFactory;
 import com.fasterxml.jackson.databind.MappingIterator;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
 import com.opencsv.bean.CsvToBean;
 import com.opencsv.bean.CsvToBeanBuilder;
 import com.opencsv.exceptions.CsvDataTypeMismatchException;
@@ -97,6 +98,10 @@ public class BulkOperationService {
   public static final String ERROR_STARTING_BULK_OPERATION = "Error starting Bulk Operation: ";
   @Value("${application.file-uploading.max-retry-count}")
   private int maxRetryCount;
+  @Value("${application.csv-writer.compiled:true}")
+  private boolean compiledCsvWriter;
+  @Value("${application.intermediate-files.smile:true}")
+  private boolean smileIntermediateFiles;
 
   private final BulkOperationRepository bulkOperationRepository;
   private final DataExportSpringClient dataExportSpringClient;
@@ -105,18 +110,21 @@ public class BulkOperationService {
   private final BulkOperationDataProcessingRepository dataProcessingRepository;
   private final BulkOperationExecutionRepository executionRepository;
   private final RemoteFileSystemClient remoteFileSystemClient;
-  private final ObjectMapper objectMapper;
   private final DataProcessorFactory dataProcessorFactory;
   private final ErrorService errorService;
+  private final EntityJsonMapper entityJsonMapper;
   private final LogFilesService logFilesService;
   private final RecordUpdateService recordUpdateService;
+  private final ProcessedIdentifierService processedIdentifierService;
   private final EntityTypeService entityTypeService;
   private final QueryService queryService;
+  private final DownloadFileService downloadFileService;
+  private final ReferenceDataSnapshotService referenceDataSnapshotService;
 
   private static final int OPERATION_UPDATING_STEP = 100;
-  private static final String PREVIEW_JSON_PATH_TEMPLATE = "%s/json/%s-Updates-Preview-%s.json";
+  private static final String PREVIEW_JSON_PATH_TEMPLATE = "%s/json/%s-Updates-Preview-%s.%s";
   private static final String PREVIEW_CSV_PATH_TEMPLATE = "%s/%s-Updates-Preview-%s.csv";
-  private static final String CHANGED_JSON_PATH_TEMPLATE = "%s/json/%s-Changed-Records-%s.json";
+  private static final String CHANGED_JSON_PATH_TEMPLATE = "%s/json/%s-Changed-Records-%s.%s";
   private static final String CHANGED_CSV_PATH_TEMPLATE = "%s/%s-Changed-Records-%s.csv";
 
   private final ExecutorService executor = Executors.newCachedThreadPool();
@@ -137,6 +145,7 @@ public class BulkOperationService {
         try {
           var linkToThePreviewFile = remoteFileSystemClient.put(multipartFile.getInputStream(), String.format(PREVIEW_CSV_PATH_TEMPLATE, operation.getId(), LocalDate.now(), FilenameUtils.getBaseName(operation.getLinkToTriggeringCsvFile())));
           operation.setLinkToModifiedRecordsCsvFile(linkToThePreviewFile);
+          operation.setLinkToModifiedRecordsDownloadCsvFile(null);
 
           var numOfLines = remoteFileSystemClient.getNumOfLines(linkToThePreviewFile) - 1;
           if (operation.getTotalNumOfRecords() == 0) {
@@ -160,7 +169,7 @@ public class BulkOperationService {
         .startTime(LocalDateTime.now())
         .build());
       try {
-        var linkToTriggeringFile = remoteFileSystemClient.put(multipartFile.getInputStream(), operation.getId() + "/" + multipartFile.getOriginalFilename());
+        var linkToTriggeringFile = remoteFileSystemClient.putForDownload(multipartFile.getInputStream(), operation.getId() + "/" + multipartFile.getOriginalFilename());
         operation.setLinkToTriggeringCsvFile(linkToTriggeringFile);
       } catch (Exception e) {
         log.error(ERROR_STARTING_BULK_OPERATION + e);
@@ -177,7 +186,12 @@ public class BulkOperationService {
 
     operation.setUserId(xOkapiUserId);
 
-    return bulkOperationRepository.save(operation);
+    var savedOperation = bulkOperationRepository.save(operation);
+    if (manual && isNull(errorMessage)) {
+      downloadFileService.materializeAfterCommit(savedOperation, savedOperation.getLinkToModifiedRecordsCsvFile(),
+        bulkOperationRepository::updateLinkToModifiedRecordsDownloadCsvFile);
+    }
+    return savedOperation;
   }
 
   public BulkOperation triggerByQuery(UUID userId, QueryRequest queryRequest) {
@@ -217,16 +231,16 @@ public class BulkOperationService {
       .build());
 
     var triggeringFileName = FilenameUtils.getBaseName(operation.getLinkToTriggeringCsvFile());
-    var modifiedJsonFileName = String.format(PREVIEW_JSON_PATH_TEMPLATE, operationId, LocalDate.now(), triggeringFileName);
+    var modifiedJsonFileName = String.format(PREVIEW_JSON_PATH_TEMPLATE, operationId, LocalDate.now(), triggeringFileName, intermediateFileExtension());
     var modifiedPreviewCsvFileName = String.format(PREVIEW_CSV_PATH_TEMPLATE, operationId, LocalDate.now(), triggeringFileName);
 
     try (var readerForMatchedJsonFile = remoteFileSystemClient.get(operation.getLinkToMatchedRecordsJsonFile());
          var writerForModifiedPreviewCsvFile = remoteFileSystemClient.writer(modifiedPreviewCsvFileName);
-         var writerForModifiedJsonFile = remoteFileSystemClient.writer(modifiedJsonFileName)) {
+         var modifiedJsonWriter = intermediateRecordsWriter(modifiedJsonFileName, clazz)) {
 
-      var csvWriter = new BulkOperationsEntityCsvWriter(writerForModifiedPreviewCsvFile, clazz);
+      var csvWriter = csvWriter(writerForModifiedPreviewCsvFile, clazz);
 
-      var iterator = objectMapper.readValues(new JsonFactory().createParser(readerForMatchedJsonFile), clazz);
+      var iterator = entityJsonMapper.readValues(readerForMatchedJsonFile, clazz);
 
       var processedNumOfRecords = 0;
 
@@ -241,8 +255,7 @@ public class BulkOperationService {
         if (Objects.nonNull(modified)) {
           // Prepare CSV for download and preview
           writeToCsv(operation, csvWriter, modified.getPreview());
-          var modifiedRecord = objectMapper.writeValueAsString(modified.getUpdated()) + LF;
-          writerForModifiedJsonFile.write(modifiedRecord);
+          modifiedJsonWriter.write(modified.getUpdated());
         }
 
         processedNumOfRecords++;
@@ -275,20 +288,40 @@ public class BulkOperationService {
       operation.setEndTime(LocalDateTime.now());
       operation.setErrorMessage("Confirm changes operation failed, reason: " + e.getMessage());
     } finally {
+      errorService.flushErrorSummary(operationId);
       bulkOperationRepository.save(operation);
+      if (OperationStatusType.REVIEW_CHANGES.equals(operation.getStatus())) {
+        downloadFileService.materializeAfterCommit(operation, operation.getLinkToModifiedRecordsCsvFile(),
+          bulkOperationRepository::updateLinkToModifiedRecordsDownloadCsvFile);
+      }
     }
   }
 
-  public void writeToCsv(BulkOperation operation, BulkOperationsEntityCsvWriter csvWriter, BulkOperationsEntity bean) throws CsvRequiredFieldEmptyException, CsvDataTypeMismatchException {
-    try {
-      csvWriter.write(bean);
-    } catch (ConverterException e) {
+  /**
+   * Records files read back only by this module (modified and committed records) are written in the internal binary
+   * format unless it is disabled, matched records come from data export as json and are read in either format.
+   */
+  private SequenceWriter intermediateRecordsWriter(String path, Class<? extends BulkOperationsEntity> clazz) throws IOException {
+    return smileIntermediateFiles ?
+      entityJsonMapper.writeInternalValues(remoteFileSystemClient.outputStream(path), clazz) :
+      entityJsonMapper.writeValues(remoteFileSystemClient.writer(path), clazz);
+  }
+
+  private String intermediateFileExtension() {
+    return smileIntermediateFiles ? "smile" : "json";
+  }
+
+  private EntityCsvWriter csvWriter(Writer writer, Class<? extends BulkOperationsEntity> clazz) {
+    return compiledCsvWriter ? new CompiledEntityCsvWriter(writer, clazz) : new BulkOperationsEntityCsvWriter(writer, clazz);
+  }
+
+  public void writeToCsv(BulkOperation operation, EntityCsvWriter csvWriter, BulkOperationsEntity bean) throws CsvRequiredFieldEmptyException, CsvDataTypeMismatchException {
+    for (var e : csvWriter.write(bean)) {
       if (APPLY_CHANGES.equals(operation.getStatus())) {
         log.error("Record {}, field: {}, converter exception: {}", bean.getIdentifier(operation.getIdentifierType()), e.getField().getName(), e.getMessage());
       } else {
         errorService.saveError(operation.getId(), bean.getIdentifier(operation.getIdentifierType()), format(FIELD_ERROR_MESSAGE_PATTERN, e.getField().getName(), e.getMessage()));
       }
-      writeToCsv(operation, csvWriter, bean);
     }
   }
 
@@ -325,21 +358,19 @@ public class BulkOperationService {
         .build());
 
       var triggeringFileName = FilenameUtils.getBaseName(operation.getLinkToTriggeringCsvFile());
-      var resultJsonFileName = String.format(CHANGED_JSON_PATH_TEMPLATE, operation.getId(), LocalDate.now(), triggeringFileName);
+      var resultJsonFileName = String.format(CHANGED_JSON_PATH_TEMPLATE, operation.getId(), LocalDate.now(), triggeringFileName, intermediateFileExtension());
       var resultCsvFileName = String.format(CHANGED_CSV_PATH_TEMPLATE, operation.getId(), LocalDate.now(), triggeringFileName);
 
-      try (var originalFileReader = new InputStreamReader(remoteFileSystemClient.get(operation.getLinkToMatchedRecordsJsonFile()));
-           var modifiedFileReader = new InputStreamReader(remoteFileSystemClient.get(operation.getLinkToModifiedRecordsJsonFile()));
+      try (var processedIdentifiers = processedIdentifierService.track(operationId);
+           var originalFileStream = remoteFileSystemClient.get(operation.getLinkToMatchedRecordsJsonFile());
+           var modifiedFileStream = remoteFileSystemClient.get(operation.getLinkToModifiedRecordsJsonFile());
            var writerForResultCsvFile = remoteFileSystemClient.writer(resultCsvFileName);
-           var writerForResultJsonFile = remoteFileSystemClient.writer(resultJsonFileName)) {
-
-        var originalFileParser = new JsonFactory().createParser(originalFileReader);
-        var originalFileIterator = objectMapper.readValues(originalFileParser, entityClass);
+           var resultJsonWriter = intermediateRecordsWriter(resultJsonFileName, entityClass)) {
 
-        var modifiedFileParser = new JsonFactory().createParser(modifiedFileReader);
-        var modifiedFileIterator = objectMapper.readValues(modifiedFileParser, entityClass);
+        var originalFileIterator = entityJsonMapper.readValues(originalFileStream, entityClass);
+        var modifiedFileIterator = entityJsonMapper.readValues(modifiedFileStream, entityClass);
 
-        var csvWriter = new BulkOperationsEntityCsvWriter(writerForResultCsvFile, entityClass);
+        var csvWriter = csvWriter(writerForResultCsvFile, entityClass);
 
         int processedNumOfRecords = 0;
 
@@ -352,8 +383,7 @@ public class BulkOperationService {
           try {
             var result = recordUpdateService.updateEntity(original, modified, operation);
             if (result != original) {
-              var hasNextRecord = hasNextRecord(originalFileIterator, modifiedFileIterator);
-              writerForResultJsonFile.write(objectMapper.writeValueAsString(result) + (hasNextRecord ? LF : EMPTY));
+              resultJsonWriter.write(result);
               writeToCsv(operation, csvWriter, result);
             }
           } catch (OptimisticLockingException e) {
@@ -388,6 +418,7 @@ public class BulkOperationService {
       executionRepository.save(execution);
     }
 
+    errorService.flushErrorSummary(operationId);
     var linkToCommittingErrorsFile = errorService.uploadErrorsToStorage(operationId);
     operation.setLinkToCommittedRecordsErrorsCsvFile(linkToCommittingErrorsFile);
 
@@ -399,6 +430,8 @@ public class BulkOperationService {
       operation.setCommittedNumOfErrors(operationOpt.get().getCommittedNumOfErrors());
     }
     bulkOperationRepository.save(operation);
+    downloadFileService.materializeAfterCommit(operation, operation.getLinkToCommittedRecordsCsvFile(),
+      bulkOperationRepository::updateLinkToCommittedRecordsDownloadCsvFile);
   }
 
   public BulkOperation startBulkOperation(UUID bulkOperationId, UUID xOkapiUserId, BulkOperationStart bulkOperationStart) {
@@ -425,10 +458,10 @@ public class BulkOperationService {
       operation.setCommittedNumOfErrors(0);
       if (DATA_MODIFICATION.equals(operation.getStatus()) || REVIEW_CHANGES.equals(operation.getStatus())) {
         if (MANUAL == approach) {
-          executor.execute(getRunnableWithCurrentFolioContext(() -> apply(operation)));
+          executor.execute(getRunnableWithCurrentFolioContext(() -> withReferenceDataSnapshot(operation, () -> apply(operation))));
         } else {
           logFilesService.removeModifiedFiles(operation);
-          executor.execute(getRunnableWithCurrentFolioContext(() -> confirm(operation)));
+          executor.execute(getRunnableWithCurrentFolioContext(() -> withReferenceDataSnapshot(operation, () -> confirm(operation))));
         }
         return operation;
       } else {
@@ -436,7 +469,7 @@ public class BulkOperationService {
       }
     } else if (BulkOperationStep.COMMIT == step) {
       if (REVIEW_CHANGES.equals(operation.getStatus())) {
-        executor.execute(getRunnableWithCurrentFolioContext(() -> commit(operation)));
+        executor.execute(getRunnableWithCurrentFolioContext(() -> withReferenceDataSnapshot(operation, () -> commit(operation))));
         return operation;
       } else {
         throw new BadRequestException(format(STEP_S_IS_NOT_APPLICABLE_FOR_BULK_OPERATION_STATUS, step, operation.getStatus()));
@@ -481,15 +514,20 @@ public class BulkOperationService {
     return errorMessage;
   }
 
+  private void withReferenceDataSnapshot(BulkOperation operation, Runnable step) {
+    try (var snapshot = ReferenceDataSnapshot.activate(() -> referenceDataSnapshotService.getSnapshot(operation.getEntityType()))) {
+      step.run();
+    }
+  }
+
   public void apply(BulkOperation operation) {
     operation.setProcessedNumOfRecords(0);
     var bulkOperationId = operation.getId();
     var linkToModifiedRecordsCsvFile = operation.getLinkToModifiedRecordsCsvFile();
-    var linkToModifiedRecordsJsonFile = String.format(PREVIEW_JSON_PATH_TEMPLATE, bulkOperationId, LocalDate.now(), FilenameUtils.getBaseName(operation.getLinkToTriggeringCsvFile()));
+    var linkToModifiedRecordsJsonFile = String.format(PREVIEW_JSON_PATH_TEMPLATE, bulkOperationId, LocalDate.now(), FilenameUtils.getBaseName(operation.getLinkToTriggeringCsvFile()), intermediateFileExtension());
+    var clazz = resolveEntityClass(operation.getEntityType());
     try (Reader readerForModifiedCsvFile = new InputStreamReader(remoteFileSystemClient.get(linkToModifiedRecordsCsvFile));
-         Writer writerForModifiedJsonFile = remoteFileSystemClient.writer(linkToModifiedRecordsJsonFile)) {
-
-      var clazz = resolveEntityClass(operation.getEntityType());
+         var modifiedJsonWriter = intermediateRecordsWriter(linkToModifiedRecordsJsonFile, clazz)) {
 
       CsvToBean<BulkOperationsEntity> csvToBean = new CsvToBeanBuilder<BulkOperationsEntity>(readerForModifiedCsvFile)
         .withType(clazz)
@@ -503,16 +541,14 @@ public class BulkOperationService {
 
       while (modifiedCsvFileIterator.hasNext()) {
         var modifiedEntity = modifiedCsvFileIterator.next();
-        var modifiedEntityString = objectMapper.writeValueAsString(modifiedEntity) + (modifiedCsvFileIterator.hasNext() ? LF : EMPTY);
-
-        writerForModifiedJsonFile.write(modifiedEntityString);
+        modifiedJsonWriter.write(modifiedEntity);
         processedNumOfRecords++;
         if (processedNumOfRecords - operation.getProcessedNumOfRecords() > OPERATION_UPDATING_STEP) {
           operation.setProcessedNumOfRecords(processedNumOfRecords);
           bulkOperationRepository.save(operation);
         }
       }
-      csvToBean.getCapturedExceptions().forEach(e -> errorService.saveError(operation.getId(), Utils.getIdentifierForManualApproach(e.getLine(), operation.getIdentifierType()), e.getMessage()));
+      csvToBean.getCapturedExceptions().forEach(e -> errorService.saveError(operation.getId(), Utils.getIdentifierForManualApproach(e.getLine(), operation.getIdentifierType()), format(CSV_LINE_ERROR_MESSAGE_PATTERN, e.getMessage(), e.getLineNumber())));
       csvToBean.getCapturedExceptions().clear();
       operation.setProcessedNumOfRecords(processedNumOfRecords);
       operation.setStatus(REVIEW_CHANGES);
@@ -523,6 +559,7 @@ public class BulkOperationService {
 
       throw new ServerErrorException(e.getMessage());
     } finally {
+      errorService.flushErrorSummary(operation.getId());
       bulkOperationRepository.save(operation);
     }
   }
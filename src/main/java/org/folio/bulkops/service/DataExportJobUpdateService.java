@@ -14,6 +14,9 @@ import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.apache.commons.io.FilenameUtils;
+import org.apache.commons.io.IOUtils;
+import org.apache.commons.io.input.CloseShieldInputStream;
+import org.apache.commons.io.input.TeeInputStream;
 import org.apache.commons.lang3.ObjectUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.folio.bulkops.client.RemoteFileSystemClient;
@@ -45,6 +48,8 @@ public class DataExportJobUpdateService {
   }
   private final BulkOperationRepository bulkOperationRepository;
   private final RemoteFileSystemClient remoteFileSystemClient;
+  private final DownloadFileService downloadFileService;
+  private final ErrorService errorService;
 
   @Transactional
   public void handleReceivedJobExecutionUpdate(Job jobExecutionUpdate) {
@@ -87,8 +92,12 @@ public class DataExportJobUpdateService {
 
       var errorsUrl = jobUpdate.getFiles().get(1);
       if (StringUtils.isNotEmpty(errorsUrl)) {
-        try (var is = new URL(errorsUrl).openStream()) {
-          var linkToMatchingErrorsFile = remoteFileSystemClient.put(is, operation.getId() + "/" + FilenameUtils.getName(errorsUrl.split("\\?")[0]));
+        try (var is = new URL(errorsUrl).openStream();
+             var matchingErrors = errorService.matchingErrorsOutputStream(operation.getId());
+             var teeInputStream = new TeeInputStream(is, matchingErrors)) {
+          var linkToMatchingErrorsFile = remoteFileSystemClient.putForDownload(CloseShieldInputStream.wrap(teeInputStream), operation.getId() + "/" + FilenameUtils.getName(errorsUrl.split("\\?")[0]));
+          // parse the rest of the file if the storage client did not read it to the end
+          IOUtils.consume(teeInputStream);
           operation.setLinkToMatchedRecordsErrorsCsvFile(linkToMatchingErrorsFile);
         }
       }
@@ -103,6 +112,8 @@ public class DataExportJobUpdateService {
       operation.setStatus(OperationStatusType.DATA_MODIFICATION);
       operation.setLinkToMatchedRecordsJsonFile(linkToOriginFile);
       operation.setLinkToMatchedRecordsCsvFile(linkToMatchingRecordsFile);
+      downloadFileService.materializeAfterCommit(operation, linkToMatchingRecordsFile,
+        bulkOperationRepository::updateLinkToMatchedRecordsDownloadCsvFile);
       operation.setLinkToMatchedRecordsMarcFile(linkToMatchingRecordsMarcFile);
       if (nonNull(progress)) {
         operation.setMatchedNumOfRecords(isNull(progress.getSuccess()) ? 0 : progress.getSuccess());
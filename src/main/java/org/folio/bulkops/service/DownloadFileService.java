@@ -0,0 +1,93 @@
+package org.folio.bulkops.service;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+import static org.folio.spring.scope.FolioExecutionScopeExecutionContextManager.getRunnableWithCurrentFolioContext;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.apache.commons.io.FilenameUtils;
+import org.folio.bulkops.client.RemoteFileSystemClient;
+import org.folio.bulkops.domain.dto.EntityType;
+import org.folio.bulkops.domain.entity.BulkOperation;
+import org.folio.bulkops.util.NonPrintingDelimiterFilterInputStream;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.BiConsumer;
+
+/**
+ * Produces user-facing versions of matched, proposed and committed csv files: non-printing delimiters are removed
+ * and notes are split into columns by note type. The result is stored once per file, so downloads do not need
+ * to repeat the transformation.
+ */
+@Service
+@RequiredArgsConstructor
+@Log4j2
+public class DownloadFileService {
+  private static final String DOWNLOAD_PATH_TEMPLATE = "%s/download/%s";
+
+  private final RemoteFileSystemClient remoteFileSystemClient;
+  private final NotesProcessor notesProcessor;
+
+  private final ExecutorService executor = Executors.newCachedThreadPool();
+
+  public InputStream toDownloadContent(InputStream content, EntityType entityType) {
+    return notesProcessor.processNotes(new NonPrintingDelimiterFilterInputStream(content), entityType);
+  }
+
+  /**
+   * Writes download-ready version of the file.
+   *
+   * @return path to the download-ready file or null if it could not be created, in this case the transformation
+   * is performed on download
+   */
+  public String materialize(BulkOperation operation, String path) {
+    if (isNull(path)) {
+      return null;
+    }
+    var downloadPath = String.format(DOWNLOAD_PATH_TEMPLATE, operation.getId(), FilenameUtils.getName(path));
+    try (var reader = new InputStreamReader(toDownloadContent(remoteFileSystemClient.get(path), operation.getEntityType()), UTF_8);
+         var writer = remoteFileSystemClient.writerForDownload(downloadPath)) {
+      reader.transferTo(writer);
+    } catch (Exception e) {
+      log.error("Failed to create download file for {}", path, e);
+      return null;
+    }
+    return downloadPath;
+  }
+
+  /**
+   * Writes download-ready version of the file in background once the current transaction is committed or right away
+   * if there is no transaction, so neither the transaction nor the caller waits for the storage. The path is passed
+   * to the linkUpdater when the file is written, until then the transformation is performed on download.
+   */
+  public void materializeAfterCommit(BulkOperation operation, String path, BiConsumer<UUID, String> linkUpdater) {
+    if (isNull(path)) {
+      return;
+    }
+    var task = getRunnableWithCurrentFolioContext(() -> {
+      var downloadPath = materialize(operation, path);
+      if (nonNull(downloadPath)) {
+        linkUpdater.accept(operation.getId(), downloadPath);
+      }
+    });
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCommit() {
+          executor.execute(task);
+        }
+      });
+    } else {
+      executor.execute(task);
+    }
+  }
+}
@@ -15,7 +15,7 @@ import org.springframework.stereotype.Service;
 public class ElectronicAccessReferenceService {
   private final ElectronicAccessRelationshipClient relationshipClient;
 
-  @Cacheable(cacheNames = "electronicAccessRelationshipNames")
+  @Cacheable(cacheNames = "electronicAccessRelationshipNames", sync = true)
   public String getRelationshipNameById(String id) {
     try {
       return relationshipClient.getById(id).getName();
@@ -25,7 +25,7 @@ public class ElectronicAccessReferenceService {
     }
   }
 
-  @Cacheable(cacheNames = "electronicAccessRelationshipIds")
+  @Cacheable(cacheNames = "electronicAccessRelationshipIds", sync = true)
   public String getRelationshipIdByName(String name) {
     var relationShips = relationshipClient.getByQuery(String.format(QUERY_PATTERN_NAME, name));
     return relationShips.getElectronicAccessRelationships().isEmpty() ?
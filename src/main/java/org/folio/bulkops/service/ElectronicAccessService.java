@@ -4,6 +4,7 @@ import static java.util.Objects.isNull;
 import static org.apache.commons.lang3.ObjectUtils.isEmpty;
 import static org.apache.commons.lang3.StringUtils.EMPTY;
 import static org.apache.commons.lang3.StringUtils.isNotEmpty;
+import static org.folio.bulkops.domain.format.Tokenizer.split;
 import static org.folio.bulkops.util.Constants.SPECIAL_ARRAY_DELIMITER;
 
 import org.folio.bulkops.domain.bean.ElectronicAccess;
@@ -38,7 +39,7 @@ public class ElectronicAccessService {
 
   public ElectronicAccess restoreElectronicAccessItem(String s) {
     if (isNotEmpty(s)) {
-      var tokens = s.split(SPECIAL_ARRAY_DELIMITER, -1);
+      var tokens = split(s, SPECIAL_ARRAY_DELIMITER, -1);
       if (NUMBER_OF_ELECTRONIC_ACCESS_COMPONENTS == tokens.length) {
         var uri = tokens[ELECTRONIC_ACCESS_URI_INDEX];
         return ElectronicAccess.builder()
@@ -0,0 +1,96 @@
+package org.folio.bulkops.service;
+
+import static org.apache.commons.lang3.StringUtils.LF;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+
+/**
+ * Reads and writes files of entities. Files shared with other modules and users hold one json record per line,
+ * intermediate files read back only by this module are written in the internal format: {@link #INTERNAL_FORMAT_MARKER}
+ * followed by a stream of Smile encoded records. Readers and writers are configured once per entity class and reused,
+ * records of a file are streamed through a single parser or generator.
+ */
+@Component
+public class EntityJsonMapper {
+  /**
+   * Starts files of the internal format, the last byte is the version of the format.
+   */
+  static final byte[] INTERNAL_FORMAT_MARKER = {'B', 'O', 'P', 'S', 1};
+  private static final int VERSION_INDEX = INTERNAL_FORMAT_MARKER.length - 1;
+
+  private final ObjectMapper objectMapper;
+  private final ObjectMapper smileMapper;
+  private final Map<Class<?>, ObjectReader> readers = new ConcurrentHashMap<>();
+  private final Map<Class<?>, ObjectWriter> writers = new ConcurrentHashMap<>();
+  private final Map<Class<?>, ObjectReader> smileReaders = new ConcurrentHashMap<>();
+  private final Map<Class<?>, ObjectWriter> smileWriters = new ConcurrentHashMap<>();
+
+  public EntityJsonMapper(ObjectMapper objectMapper) {
+    this.objectMapper = objectMapper;
+    this.smileMapper = objectMapper.copyWith(SmileFactory.builder()
+      .enable(SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES)
+      .build());
+  }
+
+  /**
+   * Reads records of a file in the internal format or, for files without the marker, json records.
+   */
+  public <T> MappingIterator<T> readValues(InputStream inputStream, Class<T> type) throws IOException {
+    var input = inputStream.markSupported() ? inputStream : new BufferedInputStream(inputStream);
+    input.mark(INTERNAL_FORMAT_MARKER.length);
+    var head = input.readNBytes(INTERNAL_FORMAT_MARKER.length);
+    if (head.length == INTERNAL_FORMAT_MARKER.length
+      && Arrays.equals(head, 0, VERSION_INDEX, INTERNAL_FORMAT_MARKER, 0, VERSION_INDEX)) {
+      if (head[VERSION_INDEX] != INTERNAL_FORMAT_MARKER[VERSION_INDEX]) {
+        throw new IllegalStateException("Unsupported version of records file format: " + head[VERSION_INDEX]);
+      }
+      return smileReaders.computeIfAbsent(type, smileMapper::readerFor).readValues(input);
+    }
+    input.reset();
+    return readers.computeIfAbsent(type, objectMapper::readerFor).readValues(input);
+  }
+
+  /**
+   * Returns writer of json records separated with line feeds, closing it closes the target writer.
+   */
+  public SequenceWriter writeValues(Writer writer, Class<?> type) throws IOException {
+    return writers.computeIfAbsent(type, this::createWriter).writeValues(writer);
+  }
+
+  /**
+   * Returns writer of records in the internal format, closing it closes the target stream.
+   */
+  public SequenceWriter writeInternalValues(OutputStream outputStream, Class<?> type) throws IOException {
+    outputStream.write(INTERNAL_FORMAT_MARKER);
+    return smileWriters.computeIfAbsent(type, this::createSmileWriter).writeValues(outputStream);
+  }
+
+  private ObjectWriter createWriter(Class<?> type) {
+    return objectMapper.writerFor(type)
+      .withRootValueSeparator(LF)
+      .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+  }
+
+  private ObjectWriter createSmileWriter(Class<?> type) {
+    return smileMapper.writerFor(type)
+      .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+  }
+}
@@ -8,13 +8,20 @@ import static org.folio.bulkops.domain.dto.OperationStatusType.DATA_MODIFICATION
 import static org.folio.bulkops.domain.dto.OperationStatusType.REVIEW_CHANGES;
 import static org.folio.bulkops.util.Constants.MSG_NO_CHANGE_REQUIRED;
 
-import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Iterator;
 import java.util.UUID;
-import java.util.stream.Collectors;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.regex.Pattern;
 
 import org.apache.commons.io.FilenameUtils;
 import org.apache.commons.lang3.StringUtils;
@@ -22,11 +29,17 @@ import org.folio.bulkops.client.BulkEditClient;
 import org.folio.bulkops.client.RemoteFileSystemClient;
 import org.folio.bulkops.domain.bean.StateType;
 import org.folio.bulkops.domain.dto.Error;
+import org.folio.bulkops.domain.dto.ErrorSummaries;
+import org.folio.bulkops.domain.dto.ErrorSummary;
 import org.folio.bulkops.domain.dto.Errors;
 import org.folio.bulkops.domain.dto.Parameter;
 import org.folio.bulkops.domain.entity.BulkOperation;
+import org.folio.bulkops.domain.entity.BulkOperationErrorSummary;
 import org.folio.bulkops.domain.entity.BulkOperationExecutionContent;
+import org.folio.bulkops.domain.entity.BulkOperationProcessingContent;
 import org.folio.bulkops.exception.NotFoundException;
+import org.folio.bulkops.exception.ServerErrorException;
+import org.folio.bulkops.repository.BulkOperationErrorSummaryRepository;
 import org.folio.bulkops.repository.BulkOperationExecutionContentRepository;
 import org.folio.bulkops.repository.BulkOperationProcessingContentRepository;
 import org.folio.bulkops.repository.BulkOperationRepository;
@@ -38,6 +51,10 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.ObjectUtils;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 
 @Service
@@ -46,15 +63,27 @@ public class ErrorService {
   private static final String POSTFIX_ERROR_MESSAGE_NON_NULL = " AND errorMessage<null";
   public static final String IDENTIFIER = "IDENTIFIER";
   public static final String LINK = "LINK";
+  private static final int MATCHING_ERRORS_BATCH_SIZE = 1000;
+  private static final int MAX_SUMMARY_SAMPLES = 10;
+  private static final int ERROR_SUMMARY_BATCH_SIZE = 100;
+  private static final int MAX_SUMMARY_MESSAGE_LENGTH = 1000;
+  private static final String UUID_PLACEHOLDER = "<id>";
+  private static final Pattern LINE_NUMBER_SUFFIX = Pattern.compile("\\s\\(line \\d+\\)$");
+  private static final Pattern UUID_PATTERN = Pattern.compile("[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}");
   private final BulkOperationRepository operationRepository;
   private final RemoteFileSystemClient remoteFileSystemClient;
   private final BulkOperationExecutionContentRepository executionContentRepository;
   private final JpaCqlRepository<BulkOperationExecutionContent, UUID> executionContentCqlRepository;
   private final BulkOperationProcessingContentRepository processingContentRepository;
   private final BulkEditClient bulkEditClient;
+  private final BulkOperationErrorSummaryRepository errorSummaryRepository;
+  private final EntityManager entityManager;
+  private final ProcessedIdentifierService processedIdentifierService;
+  private final ObjectMapper objectMapper;
+  private final Map<UUID, ErrorSummaryBatch> pendingErrorSummaries = new ConcurrentHashMap<>();
 
   public void saveError(UUID bulkOperationId, String identifier,  String errorMessage, String uiErrorMessage, String link) {
-    if (MSG_NO_CHANGE_REQUIRED.equals(errorMessage) && executionContentRepository.findFirstByBulkOperationIdAndIdentifier(bulkOperationId, identifier).isPresent()) {
+    if (MSG_NO_CHANGE_REQUIRED.equals(errorMessage) && processedIdentifierService.isProcessed(bulkOperationId, identifier)) {
       return;
     }
     operationRepository.findById(bulkOperationId).ifPresent(bulkOperation -> {
@@ -70,33 +99,145 @@ public class ErrorService {
         .uiErrorMessage(uiErrorMessage)
         .linkToFailedEntity(link)
       .build());
+    processedIdentifierService.add(bulkOperationId, identifier);
+    var summaryMessage = StringUtils.isNotBlank(uiErrorMessage) ? uiErrorMessage : errorMessage;
+    if (Objects.nonNull(summaryMessage)) {
+      var message = normalizeSummaryMessage(summaryMessage);
+      var batch = pendingErrorSummaries.compute(bulkOperationId,
+        (id, pending) -> (Objects.isNull(pending) ? new ErrorSummaryBatch() : pending).add(message, identifier));
+      if (batch.size() >= ERROR_SUMMARY_BATCH_SIZE) {
+        flushErrorSummary(bulkOperationId);
+      }
+    }
+  }
+
+  /**
+   * Saves error summary counters collected by {@link #saveError} which are not saved yet, the counters are saved
+   * per batch of errors to avoid an upsert of the same summary row per error.
+   */
+  public void flushErrorSummary(UUID bulkOperationId) {
+    var batch = pendingErrorSummaries.remove(bulkOperationId);
+    if (Objects.nonNull(batch)) {
+      saveErrorSummary(bulkOperationId, batch.groups());
+    }
+  }
+
+  private void saveErrorSummary(UUID bulkOperationId, Map<String, ErrorSummaryBatch.Group> groups) {
+    groups.forEach((message, group) -> {
+      try {
+        errorSummaryRepository.increment(UUID.randomUUID(), bulkOperationId, message, group.count,
+          objectMapper.writeValueAsString(group.samples), MAX_SUMMARY_SAMPLES);
+      } catch (JsonProcessingException e) {
+        throw new ServerErrorException("Failed to save error summary of bulk operation " + bulkOperationId, e);
+      }
+    });
+  }
+
+  /**
+   * Normalizes error message to group errors which differ only by line number or record ids.
+   */
+  private String normalizeSummaryMessage(String message) {
+    var normalized = LINE_NUMBER_SUFFIX.matcher(message).replaceFirst(EMPTY);
+    normalized = UUID_PATTERN.matcher(normalized).replaceAll(UUID_PLACEHOLDER);
+    return StringUtils.truncate(StringUtils.normalizeSpace(normalized), MAX_SUMMARY_MESSAGE_LENGTH);
   }
 
   public void saveError(UUID bulkOperationId, String identifier,  String errorMessage) {
     saveError(bulkOperationId, identifier, errorMessage, null, null);
   }
 
+  /**
+   * Returns stream saving record matching errors written to it (lines of the data export errors file) as processing
+   * content of the bulk operation, so errors preview does not need to call data export. Previously saved matching
+   * errors and error summary of the operation are removed. Errors are saved in batches together with the error
+   * summary of the batch, the stream must be closed to save the last one.
+   */
+  @Transactional
+  public MatchingErrorsOutputStream matchingErrorsOutputStream(UUID bulkOperationId) {
+    processingContentRepository.deleteByBulkOperationId(bulkOperationId);
+    pendingErrorSummaries.remove(bulkOperationId);
+    errorSummaryRepository.deleteByBulkOperationId(bulkOperationId);
+    return new MatchingErrorsOutputStream(bulkOperationId, MATCHING_ERRORS_BATCH_SIZE, errors -> saveMatchingErrors(bulkOperationId, errors));
+  }
+
+  private void saveMatchingErrors(UUID bulkOperationId, List<BulkOperationProcessingContent> errors) {
+    processingContentRepository.saveAllAndFlush(errors);
+    errors.forEach(entityManager::detach);
+    var summary = new ErrorSummaryBatch();
+    errors.stream()
+      .filter(error -> StringUtils.isNotBlank(error.getErrorMessage()))
+      .forEach(error -> summary.add(normalizeSummaryMessage(error.getErrorMessage()), error.getIdentifier()));
+    saveErrorSummary(bulkOperationId, summary.groups());
+  }
+
   @Transactional
   public void deleteErrorsByBulkOperationId(UUID bulkOperationId) {
+    pendingErrorSummaries.remove(bulkOperationId);
     executionContentRepository.deleteByBulkOperationId(bulkOperationId);
+    errorSummaryRepository.deleteByBulkOperationId(bulkOperationId);
+  }
+
+  public ErrorSummaries getErrorSummaryByBulkOperationId(UUID bulkOperationId, int offset, int limit) {
+    flushErrorSummary(bulkOperationId);
+    var summaryPage = errorSummaryRepository.findByBulkOperationIdOrderByErrorCountDesc(bulkOperationId, OffsetRequest.of(offset, limit));
+    return new ErrorSummaries()
+      .errorSummaries(summaryPage.stream()
+        .map(this::toErrorSummary)
+        .toList())
+      .totalRecords((int) summaryPage.getTotalElements());
+  }
+
+  private ErrorSummary toErrorSummary(BulkOperationErrorSummary summary) {
+    return new ErrorSummary()
+      .message(summary.getMessage())
+      .count(summary.getErrorCount())
+      .identifiers(summary.getSampleIdentifiers());
   }
 
   public Errors getErrorsPreviewByBulkOperationId(UUID bulkOperationId, int limit) {
     var bulkOperation = operationRepository.findById(bulkOperationId)
       .orElseThrow(() -> new NotFoundException("BulkOperation was not found by id=" + bulkOperationId));
-    if (DATA_MODIFICATION == bulkOperation.getStatus() || COMPLETED_WITH_ERRORS == bulkOperation.getStatus() && noCommittedErrors(bulkOperation)) {
-      var errors = bulkEditClient.getErrorsPreview(bulkOperation.getDataExportJobId(), limit);
-      return new Errors().errors(errors.getErrors().stream()
-          .map(this::prepareInternalErrorRepresentation)
+    if (isDataExportErrors(bulkOperation)) {
+      var errorPage = processingContentRepository.findByBulkOperationIdAndErrorMessageIsNotNull(bulkOperationId, OffsetRequest.of(0, limit));
+      if (errorPage.isEmpty() && isMatchingErrorsNotSaved(bulkOperation)) {
+        return getDataExportErrors(bulkOperation, limit);
+      }
+      return new Errors()
+        .errors(errorPage.stream()
+          .map(content -> new Error().message(content.getErrorMessage())
+            .parameters(List.of(new Parameter().key(IDENTIFIER).value(content.getIdentifier()))))
           .toList())
-        .totalRecords(errors.getTotalRecords());
-    } else if (REVIEW_CHANGES == bulkOperation.getStatus() || COMPLETED == bulkOperation.getStatus() || COMPLETED_WITH_ERRORS == bulkOperation.getStatus()) {
+        .totalRecords((int) errorPage.getTotalElements());
+    } else if (isExecutionErrors(bulkOperation)) {
       return getExecutionErrors(bulkOperationId, limit);
     } else {
       throw new NotFoundException("Errors preview is not available");
     }
   }
 
+  /**
+   * Matching errors of operations created before errors were saved locally are only available in data export.
+   */
+  private boolean isMatchingErrorsNotSaved(BulkOperation bulkOperation) {
+    return bulkOperation.getMatchedNumOfErrors() > 0;
+  }
+
+  private Errors getDataExportErrors(BulkOperation bulkOperation, int limit) {
+    var errors = bulkEditClient.getErrorsPreview(bulkOperation.getDataExportJobId(), limit);
+    return new Errors().errors(errors.getErrors().stream()
+        .map(this::prepareInternalErrorRepresentation)
+        .toList())
+      .totalRecords(errors.getTotalRecords());
+  }
+
+  private boolean isDataExportErrors(BulkOperation bulkOperation) {
+    return DATA_MODIFICATION == bulkOperation.getStatus() || COMPLETED_WITH_ERRORS == bulkOperation.getStatus() && noCommittedErrors(bulkOperation);
+  }
+
+  private boolean isExecutionErrors(BulkOperation bulkOperation) {
+    return REVIEW_CHANGES == bulkOperation.getStatus() || COMPLETED == bulkOperation.getStatus() || COMPLETED_WITH_ERRORS == bulkOperation.getStatus();
+  }
+
   private boolean noCommittedErrors(BulkOperation bulkOperation) {
     return Objects.isNull(bulkOperation.getCommittedNumOfErrors()) || bulkOperation.getCommittedNumOfErrors() == 0;
   }
@@ -106,10 +247,43 @@ public class ErrorService {
     return new Error().message(error[1]).parameters(List.of(new Parameter().key(IDENTIFIER).value(error[0])));
   }
 
+  @Transactional(readOnly = true)
   public String getErrorsCsvByBulkOperationId(UUID bulkOperationId) {
-    return getErrorsPreviewByBulkOperationId(bulkOperationId, Integer.MAX_VALUE).getErrors().stream()
-      .map(error -> String.join(Constants.COMMA_DELIMETER, ObjectUtils.isEmpty(error.getParameters()) ? EMPTY : error.getParameters().get(0).getValue(), error.getMessage()))
-      .collect(Collectors.joining(Constants.NEW_LINE_SEPARATOR));
+    var writer = new StringWriter();
+    writeErrorsCsvByBulkOperationId(bulkOperationId, writer);
+    return writer.toString();
+  }
+
+  /**
+   * Writes errors of the bulk operation as csv lines. Errors of the execution are streamed from the database,
+   * so memory consumption does not depend on the number of errors.
+   */
+  @Transactional(readOnly = true)
+  public void writeErrorsCsvByBulkOperationId(UUID bulkOperationId, Writer writer) {
+    var bulkOperation = operationRepository.findById(bulkOperationId)
+      .orElseThrow(() -> new NotFoundException("BulkOperation was not found by id=" + bulkOperationId));
+    if (isDataExportErrors(bulkOperation)) {
+      try (var contents = processingContentRepository.streamByBulkOperationIdAndErrorMessageIsNotNull(bulkOperationId)) {
+        var lines = contents
+          .map(detached(content -> String.join(Constants.COMMA_DELIMETER, content.getIdentifier(), content.getErrorMessage())))
+          .iterator();
+        if (!lines.hasNext() && isMatchingErrorsNotSaved(bulkOperation)) {
+          lines = getDataExportErrors(bulkOperation, Integer.MAX_VALUE).getErrors().stream()
+            .map(error -> String.join(Constants.COMMA_DELIMETER, ObjectUtils.isEmpty(error.getParameters()) ? EMPTY : error.getParameters().get(0).getValue(), error.getMessage()))
+            .iterator();
+        }
+        writeLines(lines, writer);
+      }
+    } else if (isExecutionErrors(bulkOperation)) {
+      try (var contents = executionContentRepository.streamByBulkOperationIdAndErrorMessageIsNotNull(bulkOperationId)) {
+        writeLines(contents
+          .map(detached(content -> String.join(Constants.COMMA_DELIMETER, content.getIdentifier(),
+            StringUtils.isNotBlank(content.getUiErrorMessage()) ? content.getUiErrorMessage() : content.getErrorMessage())))
+          .iterator(), writer);
+      }
+    } else {
+      throw new NotFoundException("Errors preview is not available");
+    }
   }
 
   private Errors getExecutionErrors(UUID bulkOperationId, int limit) {
@@ -145,19 +319,81 @@ public class ErrorService {
     return executionContentCqlRepository.findByCql(cql.contains("errorMessage") ? cql : cql + POSTFIX_ERROR_MESSAGE_NON_NULL, OffsetRequest.of(offset, limit));
   }
 
+  @Transactional(readOnly = true)
   public String uploadErrorsToStorage(UUID bulkOperationId) {
-    var contents = executionContentRepository.findByBulkOperationIdAndErrorMessageIsNotNull(bulkOperationId, OffsetRequest.of(0, Integer.MAX_VALUE));
-    if (!contents.isEmpty()) {
-      var errorsString = contents.stream()
-        .map(content -> String.join(Constants.COMMA_DELIMETER, content.getIdentifier(), content.getErrorMessage()))
-        .collect(Collectors.joining(LF));
+    try (var contents = executionContentRepository.streamByBulkOperationIdAndErrorMessageIsNotNull(bulkOperationId)) {
+      var iterator = contents
+        .map(detached(content -> String.join(Constants.COMMA_DELIMETER, content.getIdentifier(), content.getErrorMessage())))
+        .iterator();
+      if (!iterator.hasNext()) {
+        return null;
+      }
       var errorsFileName = LocalDate.now() + operationRepository.findById(bulkOperationId)
         .map(BulkOperation::getLinkToTriggeringCsvFile)
         .map(FilenameUtils::getName)
         .map(fileName -> "-Committing-changes-Errors-" + fileName)
         .orElse("-Errors.csv");
-      return remoteFileSystemClient.put(new ByteArrayInputStream(errorsString.getBytes()), bulkOperationId + "/" + errorsFileName);
+      var path = bulkOperationId + "/" + errorsFileName;
+      try (var writer = remoteFileSystemClient.writerForDownload(path)) {
+        writeLines(iterator, writer);
+      } catch (IOException e) {
+        throw new ServerErrorException("Failed to upload errors file " + path, e);
+      }
+      return path;
+    }
+  }
+
+  /**
+   * Detaches streamed content once it is converted, so the persistence context does not grow with the number of errors.
+   */
+  private <T> Function<T, String> detached(Function<T, String> toLine) {
+    return content -> {
+      var line = toLine.apply(content);
+      entityManager.detach(content);
+      return line;
+    };
+  }
+
+  private void writeLines(Iterator<String> lines, Writer writer) {
+    try {
+      while (lines.hasNext()) {
+        var line = lines.next();
+        writer.write(line + (lines.hasNext() ? LF : EMPTY));
+      }
+    } catch (IOException e) {
+      throw new ServerErrorException("Failed to write errors", e);
+    }
+  }
+
+  /**
+   * Error counters and sample identifiers per summary message collected since the last save. The batch is changed
+   * only inside compute of the pending batches map and is not changed after it is removed from the map.
+   */
+  static class ErrorSummaryBatch {
+    private final Map<String, Group> groups = new LinkedHashMap<>();
+    private int size;
+
+    ErrorSummaryBatch add(String message, String identifier) {
+      var group = groups.computeIfAbsent(message, m -> new Group());
+      group.count++;
+      if (group.samples.size() < MAX_SUMMARY_SAMPLES) {
+        group.samples.add(identifier);
+      }
+      size++;
+      return this;
+    }
+
+    int size() {
+      return size;
+    }
+
+    Map<String, Group> groups() {
+      return groups;
+    }
+
+    static class Group {
+      private int count;
+      private final List<String> samples = new ArrayList<>();
     }
-    return null;
   }
 }
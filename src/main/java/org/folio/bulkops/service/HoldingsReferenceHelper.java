@@ -8,6 +8,10 @@ import org.springframework.stereotype.Component;
 
 import java.util.List;
 
+/**
+ * Resolves holdings reference data from the {@link ReferenceDataSnapshot} of the current bulk operation step before
+ * the cached lookups of {@link HoldingsReferenceService}, so a cached value does not hide the snapshot one.
+ */
 @Component
 @RequiredArgsConstructor
 @Log4j2
@@ -24,31 +28,44 @@ public class HoldingsReferenceHelper implements InitializingBean {
   }
 
   public ItemLocation getLocationById(String id) {
-    return holdingsReferenceService.getLocationById(id);
+    return ReferenceDataSnapshot.current().flatMap(snapshot -> snapshot.getLocations().findById(id))
+      .orElseGet(() -> holdingsReferenceService.getLocationById(id));
   }
 
   public ItemLocation getLocationByName(String name) {
-    return holdingsReferenceService.getLocationIdByName(name);
+    return ReferenceDataSnapshot.current().flatMap(snapshot -> snapshot.getLocations().findByName(name))
+      .orElseGet(() -> holdingsReferenceService.getLocationIdByName(name));
   }
 
   public String getCallNumberTypeNameById(String id) {
-    return holdingsReferenceService.getCallNumberTypeNameById(id);
+    return ReferenceDataSnapshot.current().flatMap(snapshot -> snapshot.getCallNumberTypes().findById(id))
+      .map(CallNumberType::getName)
+      .orElseGet(() -> holdingsReferenceService.getCallNumberTypeNameById(id));
   }
 
   public String getCallNumberTypeIdByName(String name) {
-    return holdingsReferenceService.getCallNumberTypeIdByName(name);
+    return ReferenceDataSnapshot.current().flatMap(snapshot -> snapshot.getCallNumberTypes().findByName(name))
+      .map(CallNumberType::getId)
+      .orElseGet(() -> holdingsReferenceService.getCallNumberTypeIdByName(name));
   }
 
   public String getNoteTypeNameById(String id) {
-    return holdingsReferenceService.getNoteTypeNameById(id);
+    return ReferenceDataSnapshot.current().flatMap(snapshot -> snapshot.getHoldingsNoteTypes().findById(id))
+      .map(HoldingsNoteType::getName)
+      .orElseGet(() -> holdingsReferenceService.getNoteTypeNameById(id));
   }
 
   public String getNoteTypeIdByName(String name) {
-    return holdingsReferenceService.getNoteTypeIdByName(name);
+    return ReferenceDataSnapshot.current().flatMap(snapshot -> snapshot.getHoldingsNoteTypes().findByName(name))
+      .map(HoldingsNoteType::getId)
+      .orElseGet(() -> holdingsReferenceService.getNoteTypeIdByName(name));
   }
 
   public List<HoldingsNoteType> getHoldingsNoteTypes() {
-    return holdingsReferenceService.getAllHoldingsNoteTypes();
+    return ReferenceDataSnapshot.current().map(ReferenceDataSnapshot::getHoldingsNoteTypes)
+      .filter(noteTypes -> !noteTypes.isEmpty())
+      .map(ReferenceDataSnapshot.Dictionary::getValues)
+      .orElseGet(holdingsReferenceService::getAllHoldingsNoteTypes);
   }
 
   public IllPolicy getIllPolicyNameById(String id) {
@@ -68,11 +85,13 @@ public class HoldingsReferenceHelper implements InitializingBean {
   }
 
   public StatisticalCode getStatisticalCodeById(String id) {
-    return holdingsReferenceService.getStatisticalCodeById(id);
+    return ReferenceDataSnapshot.current().flatMap(snapshot -> snapshot.getStatisticalCodes().findById(id))
+      .orElseGet(() -> holdingsReferenceService.getStatisticalCodeById(id));
   }
 
   public StatisticalCode getStatisticalCodeByName(String name) {
-    return holdingsReferenceService.getStatisticalCodeByName(name);
+    return ReferenceDataSnapshot.current().flatMap(snapshot -> snapshot.getStatisticalCodes().findByName(name))
+      .orElseGet(() -> holdingsReferenceService.getStatisticalCodeByName(name));
   }
 
   private static HoldingsReferenceHelper service;
@@ -45,21 +45,21 @@ public class HoldingsReferenceService {
   private final HoldingsSourceClient holdingsSourceClient;
   private final StatisticalCodeClient statisticalCodeClient;
 
-  @Cacheable(cacheNames = "holdings")
+  @Cacheable(cacheNames = "holdings", sync = true)
   public HoldingsRecord getHoldingsRecordById(String id) {
     return holdingsClient.getHoldingById(id);
   }
 
-  @Cacheable(cacheNames = "holdingsTypesNames")
+  @Cacheable(cacheNames = "holdingsTypesNames", sync = true)
   public HoldingsType getHoldingsTypeById(String id) {
     try {
       return holdingsTypeClient.getById(id);
-    } catch (Exception e) {
+    } catch (NotFoundException e) {
       throw new NotFoundException(format("Holdings type not found by id=%s", id));
     }
   }
 
-  @Cacheable(cacheNames = "holdingsTypeIds")
+  @Cacheable(cacheNames = "holdingsTypeIds", sync = true)
   public HoldingsType getHoldingsTypeByName(String name) {
     var holdingsTypes = holdingsTypeClient.getByQuery(format(QUERY_PATTERN_NAME, encode(name)));
     if (holdingsTypes.getHoldingsTypes().isEmpty()) {
@@ -68,15 +68,16 @@ public class HoldingsReferenceService {
     return holdingsTypes.getHoldingsTypes().get(0);
   }
 
-  @Cacheable(cacheNames = "holdingsLocationsNames")
+  @Cacheable(cacheNames = "holdingsLocationsNames", sync = true)
   public ItemLocation getLocationById(String id) {
     try {
       return locationClient.getLocationById(id);
-    } catch (Exception e) {
+    } catch (NotFoundException e) {
       throw new NotFoundException(format("Location not found by id=%s", id));
     }
   }
 
+  @Cacheable(cacheNames = "holdingsLocationIds", sync = true)
   public ItemLocation getLocationIdByName(String name) {
     var locations = locationClient.getByQuery(format(QUERY_PATTERN_NAME, encode(name)));
     if (locations.getLocations().isEmpty()) {
@@ -85,16 +86,16 @@ public class HoldingsReferenceService {
     return locations.getLocations().get(0);
   }
 
-  @Cacheable(cacheNames = "holdingsCallNumberTypesNames")
+  @Cacheable(cacheNames = "holdingsCallNumberTypesNames", sync = true)
   public String getCallNumberTypeNameById(String id) {
     try {
       return  callNumberTypeClient.getById(id).getName();
-    } catch (Exception e) {
+    } catch (NotFoundException e) {
       throw new NotFoundException(format("Call number type not found by id=%s", id));
     }
   }
 
-  @Cacheable(cacheNames = "holdingsCallNumberTypes")
+  @Cacheable(cacheNames = "holdingsCallNumberTypes", sync = true)
   public String getCallNumberTypeIdByName(String name) {
     var callNumberTypes = callNumberTypeClient.getByQuery(format(QUERY_PATTERN_NAME, encode(name)));
     if (callNumberTypes.getCallNumberTypes().isEmpty()) {
@@ -103,16 +104,16 @@ public class HoldingsReferenceService {
     return callNumberTypes.getCallNumberTypes().get(0).getId();
   }
 
-  @Cacheable(cacheNames = "holdingsNoteTypesNames")
+  @Cacheable(cacheNames = "holdingsNoteTypesNames", sync = true)
   public String getNoteTypeNameById(String id) {
     try {
       return holdingsNoteTypeClient.getNoteTypeById(id).getName();
-    } catch (Exception e) {
+    } catch (NotFoundException e) {
       throw new NotFoundException(format("Note type not found by id=%s", id));
     }
   }
 
-  @Cacheable(cacheNames = "holdingsNoteTypes")
+  @Cacheable(cacheNames = "holdingsNoteTypes", sync = true)
   public String getNoteTypeIdByName(String name) {
     var noteTypes = holdingsNoteTypeClient.getNoteTypesByQuery(format(QUERY_PATTERN_NAME, encode(name)), 1);
     if (noteTypes.getHoldingsNoteTypes().isEmpty()) {
@@ -121,16 +122,16 @@ public class HoldingsReferenceService {
     return noteTypes.getHoldingsNoteTypes().get(0).getId();
   }
 
-  @Cacheable(cacheNames = "illPolicyNames")
+  @Cacheable(cacheNames = "illPolicyNames", sync = true)
   public IllPolicy getIllPolicyById(String id) {
     try {
       return illPolicyClient.getById(id);
-    } catch (Exception e) {
+    } catch (NotFoundException e) {
       throw new NotFoundException(format("Ill policy not found by id=%s", id));
     }
   }
 
-  @Cacheable(cacheNames = "illPolicies")
+  @Cacheable(cacheNames = "illPolicies", sync = true)
   public IllPolicy getIllPolicyByName(String name) {
     if (isEmpty(name)) {
       return null;
@@ -142,18 +143,18 @@ public class HoldingsReferenceService {
     return illPolicies.getIllPolicies().get(0);
   }
 
-  @Cacheable(cacheNames = "holdingsSourceNames")
+  @Cacheable(cacheNames = "holdingsSourceNames", sync = true)
   public HoldingsRecordsSource getSourceById(String id) {
     try {
       return isEmpty(id) ?
         HoldingsRecordsSource.builder().name(EMPTY).build() :
         holdingsSourceClient.getById(id);
-    } catch (Exception e) {
+    } catch (NotFoundException e) {
       throw new NotFoundException(format("Holdings record source not found by id=%s", id));
     }
   }
 
-  @Cacheable(cacheNames = "holdingsSources")
+  @Cacheable(cacheNames = "holdingsSources", sync = true)
   public HoldingsRecordsSource getSourceByName(String name) {
     var sources = holdingsSourceClient.getByQuery(format(QUERY_PATTERN_NAME, encode(name)));
     if (ObjectUtils.isEmpty(sources) || ObjectUtils.isEmpty(sources.getHoldingsRecordsSources())) {
@@ -162,16 +163,16 @@ public class HoldingsReferenceService {
     return sources.getHoldingsRecordsSources().get(0);
   }
 
-  @Cacheable(cacheNames = "holdingsStatisticalCodeNames")
+  @Cacheable(cacheNames = "holdingsStatisticalCodeNames", sync = true)
   public StatisticalCode getStatisticalCodeById(String id) {
     try {
       return statisticalCodeClient.getById(id);
-    } catch (Exception e) {
+    } catch (NotFoundException e) {
       throw new NotFoundException(format("Statistical code not found by id=%s", id));
     }
   }
 
-  @Cacheable(cacheNames = "holdingsStatisticalCodes")
+  @Cacheable(cacheNames = "holdingsStatisticalCodes", sync = true)
   public StatisticalCode getStatisticalCodeByName(String name) {
     var statisticalCodes = statisticalCodeClient.getByQuery(format(QUERY_PATTERN_NAME, encode(name)));
     if (statisticalCodes.getStatisticalCodes().isEmpty()) {
@@ -180,7 +181,7 @@ public class HoldingsReferenceService {
     return statisticalCodes.getStatisticalCodes().get(0);
   }
 
-  @Cacheable(cacheNames = "holdingsNoteTypes")
+  @Cacheable(cacheNames = "holdingsNoteTypes", sync = true)
   public List<HoldingsNoteType> getAllHoldingsNoteTypes() {
     return holdingsNoteTypeClient.getNoteTypes(Integer.MAX_VALUE).getHoldingsNoteTypes();
   }
@@ -2,9 +2,18 @@ package org.folio.bulkops.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
+import org.folio.bulkops.domain.bean.InstanceFormat;
+import org.folio.bulkops.domain.bean.InstanceStatus;
+import org.folio.bulkops.domain.bean.InstanceType;
+import org.folio.bulkops.domain.bean.ModeOfIssuance;
+import org.folio.bulkops.domain.bean.NatureOfContentTerm;
 import org.springframework.beans.factory.InitializingBean;
 import org.springframework.stereotype.Service;
 
+/**
+ * Resolves instance reference data from the {@link ReferenceDataSnapshot} of the current bulk operation step before
+ * the cached lookups of {@link InstanceReferenceService}.
+ */
 @Service
 @Log4j2
 @RequiredArgsConstructor
@@ -12,43 +21,63 @@ public class InstanceReferenceHelper implements InitializingBean {
   private final InstanceReferenceService instanceReferenceService;
 
   public String getInstanceStatusNameById(String id) {
-    return instanceReferenceService.getInstanceStatusNameById(id);
+    return ReferenceDataSnapshot.current().flatMap(snapshot -> snapshot.getInstanceStatuses().findById(id))
+      .map(InstanceStatus::getName)
+      .orElseGet(() -> instanceReferenceService.getInstanceStatusNameById(id));
   }
 
   public String getInstanceStatusIdByName(String name) {
-    return instanceReferenceService.getInstanceStatusIdByName(name);
+    return ReferenceDataSnapshot.current().flatMap(snapshot -> snapshot.getInstanceStatuses().findByName(name))
+      .map(InstanceStatus::getId)
+      .orElseGet(() -> instanceReferenceService.getInstanceStatusIdByName(name));
   }
 
   public String getModeOfIssuanceNameById(String id) {
-    return instanceReferenceService.getModeOfIssuanceNameById(id);
+    return ReferenceDataSnapshot.current().flatMap(snapshot -> snapshot.getModesOfIssuance().findById(id))
+      .map(ModeOfIssuance::getName)
+      .orElseGet(() -> instanceReferenceService.getModeOfIssuanceNameById(id));
   }
 
   public String getModeOfIssuanceIdByName(String name) {
-    return instanceReferenceService.getModeOfIssuanceIdByName(name);
+    return ReferenceDataSnapshot.current().flatMap(snapshot -> snapshot.getModesOfIssuance().findByName(name))
+      .map(ModeOfIssuance::getId)
+      .orElseGet(() -> instanceReferenceService.getModeOfIssuanceIdByName(name));
   }
 
   public String getInstanceTypeNameById(String id) {
-    return instanceReferenceService.getInstanceTypeNameById(id);
+    return ReferenceDataSnapshot.current().flatMap(snapshot -> snapshot.getInstanceTypes().findById(id))
+      .map(InstanceType::getName)
+      .orElseGet(() -> instanceReferenceService.getInstanceTypeNameById(id));
   }
 
   public String getInstanceTypeIdByName(String name) {
-    return instanceReferenceService.getInstanceTypeIdByName(name);
+    return ReferenceDataSnapshot.current().flatMap(snapshot -> snapshot.getInstanceTypes().findByName(name))
+      .map(InstanceType::getId)
+      .orElseGet(() -> instanceReferenceService.getInstanceTypeIdByName(name));
   }
 
   public String getNatureOfContentTermNameById(String id) {
-    return instanceReferenceService.getNatureOfContentTermNameById(id);
+    return ReferenceDataSnapshot.current().flatMap(snapshot -> snapshot.getNatureOfContentTerms().findById(id))
+      .map(NatureOfContentTerm::getName)
+      .orElseGet(() -> instanceReferenceService.getNatureOfContentTermNameById(id));
   }
 
   public String getNatureOfContentTermIdByName(String name) {
-    return instanceReferenceService.getNatureOfContentTermIdByName(name);
+    return ReferenceDataSnapshot.current().flatMap(snapshot -> snapshot.getNatureOfContentTerms().findByName(name))
+      .map(NatureOfContentTerm::getId)
+      .orElseGet(() -> instanceReferenceService.getNatureOfContentTermIdByName(name));
   }
 
   public String getInstanceFormatNameById(String id) {
-    return instanceReferenceService.getInstanceFormatNameById(id);
+    return ReferenceDataSnapshot.current().flatMap(snapshot -> snapshot.getInstanceFormats().findById(id))
+      .map(InstanceFormat::getName)
+      .orElseGet(() -> instanceReferenceService.getInstanceFormatNameById(id));
   }
 
   public String getInstanceFormatIdByName(String name) {
-    return instanceReferenceService.getInstanceFormatIdByName(name);
+    return ReferenceDataSnapshot.current().flatMap(snapshot -> snapshot.getInstanceFormats().findByName(name))
+      .map(InstanceFormat::getId)
+      .orElseGet(() -> instanceReferenceService.getInstanceFormatIdByName(name));
   }
 
   public String getNoteTypeNameById(String id) {
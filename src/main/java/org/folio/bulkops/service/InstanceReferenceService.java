@@ -40,16 +40,16 @@ public class InstanceReferenceService {
   private final InstanceNoteTypesClient instanceNoteTypesClient;
   private final ContributorTypesClient contributorTypesClient;
 
-  @Cacheable(cacheNames = "instanceStatusNames")
+  @Cacheable(cacheNames = "instanceStatusNames", sync = true)
   public String getInstanceStatusNameById(String id) {
     try {
       return isEmpty(id) ? EMPTY : instanceStatusesClient.getById(id).getName();
-    } catch (Exception e) {
+    } catch (NotFoundException e) {
       throw new NotFoundException(format("Instance status was not found by id=%s", id));
     }
   }
 
-  @Cacheable(cacheNames = "instanceStatusIds")
+  @Cacheable(cacheNames = "instanceStatusIds", sync = true)
   public String getInstanceStatusIdByName(String name) {
     var response = instanceStatusesClient.getByQuery(String.format(QUERY_PATTERN_NAME, encode(name)), 1);
     if (response.getStatuses().isEmpty()) {
@@ -58,16 +58,16 @@ public class InstanceReferenceService {
     return response.getStatuses().get(0).getId();
   }
 
-  @Cacheable(cacheNames = "modesOfIssuanceNames")
+  @Cacheable(cacheNames = "modesOfIssuanceNames", sync = true)
   public String getModeOfIssuanceNameById(String id) {
     try {
       return isEmpty(id) ? EMPTY : modesOfIssuanceClient.getById(id).getName();
-    } catch (Exception e) {
+    } catch (NotFoundException e) {
       throw new NotFoundException(format("Mode of issuance was not found by id=%s", id));
     }
   }
 
-  @Cacheable(cacheNames = "modesOfIssuanceIds")
+  @Cacheable(cacheNames = "modesOfIssuanceIds", sync = true)
   public String getModeOfIssuanceIdByName(String name) {
     var response = modesOfIssuanceClient.getByQuery(String.format(QUERY_PATTERN_NAME, encode(name)), 1);
     if (response.getModes().isEmpty()) {
@@ -76,16 +76,16 @@ public class InstanceReferenceService {
     return response.getModes().get(0).getId();
   }
 
-  @Cacheable(cacheNames = "instanceTypeNames")
+  @Cacheable(cacheNames = "instanceTypeNames", sync = true)
   public String getInstanceTypeNameById(String id) {
     try {
       return isEmpty(id) ? EMPTY : instanceTypesClient.getById(id).getName();
-    } catch (Exception e) {
+    } catch (NotFoundException e) {
       throw new NotFoundException(format("Instance type was not found by id=%s", id));
     }
   }
 
-  @Cacheable(cacheNames = "instanceTypeIds")
+  @Cacheable(cacheNames = "instanceTypeIds", sync = true)
   public String getInstanceTypeIdByName(String name) {
     var response = instanceTypesClient.getByQuery(String.format(QUERY_PATTERN_NAME, encode(name)), 1);
     if (response.getTypes().isEmpty()) {
@@ -94,16 +94,16 @@ public class InstanceReferenceService {
     return response.getTypes().get(0).getId();
   }
 
-  @Cacheable(cacheNames = "natureOfContentTermNames")
+  @Cacheable(cacheNames = "natureOfContentTermNames", sync = true)
   public String getNatureOfContentTermNameById(String id) {
     try {
       return isEmpty(id) ? EMPTY : natureOfContentTermsClient.getById(id).getName();
-    } catch (Exception e) {
+    } catch (NotFoundException e) {
       throw new NotFoundException(format("Nature of content term was not found by id=%s", id));
     }
   }
 
-  @Cacheable(cacheNames = "natureOfContentTermIds")
+  @Cacheable(cacheNames = "natureOfContentTermIds", sync = true)
   public String getNatureOfContentTermIdByName(String name) {
     var response = natureOfContentTermsClient.getByQuery(String.format(QUERY_PATTERN_NAME, encode(name)), 1);
     if (response.getTerms().isEmpty()) {
@@ -112,16 +112,16 @@ public class InstanceReferenceService {
     return response.getTerms().get(0).getId();
   }
 
-  @Cacheable(cacheNames = "instanceFormatNames")
+  @Cacheable(cacheNames = "instanceFormatNames", sync = true)
   public String getInstanceFormatNameById(String id) {
     try {
       return isEmpty(id) ? EMPTY : instanceFormatsClient.getById(id).getName();
-    } catch (Exception e) {
+    } catch (NotFoundException e) {
       throw new NotFoundException(format("Instance format was not found by id=%s", id));
     }
   }
 
-  @Cacheable(cacheNames = "instanceFormatIds")
+  @Cacheable(cacheNames = "instanceFormatIds", sync = true)
   public String getInstanceFormatIdByName(String name) {
     var response = instanceFormatsClient.getByQuery(String.format(QUERY_PATTERN_NAME, encode(name)), 1);
     if (response.getFormats().isEmpty()) {
@@ -130,23 +130,23 @@ public class InstanceReferenceService {
     return response.getFormats().get(0).getId();
   }
 
-  @Cacheable(cacheNames = "instanceFormats")
+  @Cacheable(cacheNames = "instanceFormats", sync = true)
   public InstanceFormats getInstanceFormatsByCode(String code) {
     return isNull(code) ?
       InstanceFormats.builder().formats(Collections.emptyList()).totalRecords(0).build() :
       instanceFormatsClient.getByQuery(String.format(QUERY_PATTERN_NAME, encode(code)), 1);
   }
 
-  @Cacheable(cacheNames = "instanceNoteTypesNames")
+  @Cacheable(cacheNames = "instanceNoteTypesNames", sync = true)
   public String getNoteTypeNameById(String id) {
     try {
       return instanceNoteTypesClient.getNoteTypeById(id).getName();
-    } catch (Exception e) {
+    } catch (NotFoundException e) {
       throw new NotFoundException(format("Note type not found by id=%s", id));
     }
   }
 
-  @Cacheable(cacheNames = "instanceNoteTypes")
+  @Cacheable(cacheNames = "instanceNoteTypes", sync = true)
   public String getNoteTypeIdByName(String name) {
     var noteTypes = instanceNoteTypesClient.getNoteTypesByQuery(format(QUERY_PATTERN_NAME, encode(name)), 1);
     if (noteTypes.getInstanceNoteTypes().isEmpty()) {
@@ -155,33 +155,33 @@ public class InstanceReferenceService {
     return noteTypes.getInstanceNoteTypes().get(0).getId().toString();
   }
 
-  @Cacheable(cacheNames = "allInstanceNoteTypes")
+  @Cacheable(cacheNames = "allInstanceNoteTypes", sync = true)
   public List<InstanceNoteType> getAllInstanceNoteTypes() {
     return instanceNoteTypesClient.getInstanceNoteTypes(Integer.MAX_VALUE).getInstanceNoteTypes();
   }
 
-  @Cacheable(cacheNames = "contributorTypesByName")
+  @Cacheable(cacheNames = "contributorTypesByName", sync = true)
   public ContributorTypeCollection getContributorTypesByName(String name) {
     return isNull(name) ?
       new ContributorTypeCollection().contributorTypes(Collections.emptyList()).totalRecords(0) :
       contributorTypesClient.getByQuery(String.format(QUERY_PATTERN_NAME, name), 1);
   }
 
-  @Cacheable(cacheNames = "contributorTypesByCode")
+  @Cacheable(cacheNames = "contributorTypesByCode", sync = true)
   public ContributorTypeCollection getContributorTypesByCode(String code) {
     return isNull(code) ?
       new ContributorTypeCollection().contributorTypes(Collections.emptyList()).totalRecords(0) :
       contributorTypesClient.getByQuery(String.format(QUERY_PATTERN_CODE, code), 1);
   }
 
-  @Cacheable(cacheNames = "instanceTypesByNames")
+  @Cacheable(cacheNames = "instanceTypesByNames", sync = true)
   public InstanceTypes getInstanceTypesByName(String name) {
     return isNull(name) ?
       InstanceTypes.builder().types(Collections.emptyList()).totalRecords(0).build() :
       instanceTypesClient.getByQuery(String.format(QUERY_PATTERN_NAME, name), 1);
   }
 
-  @Cacheable(cacheNames = "instanceTypesByCodes")
+  @Cacheable(cacheNames = "instanceTypesByCodes", sync = true)
   public InstanceTypes getInstanceTypesByCode(String code) {
     return isNull(code) ?
       InstanceTypes.builder().types(Collections.emptyList()).totalRecords(0).build() :
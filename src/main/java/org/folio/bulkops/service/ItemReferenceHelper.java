@@ -2,14 +2,23 @@ package org.folio.bulkops.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
+import org.folio.bulkops.domain.bean.CallNumberType;
 import org.folio.bulkops.domain.bean.DamagedStatus;
 import org.folio.bulkops.domain.bean.ItemLocation;
 import org.folio.bulkops.domain.bean.LoanType;
 import org.folio.bulkops.domain.bean.MaterialType;
+import org.folio.bulkops.domain.bean.NoteType;
 import org.folio.bulkops.domain.bean.ServicePoint;
+import org.folio.bulkops.domain.bean.StatisticalCode;
 import org.springframework.beans.factory.InitializingBean;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
+
+/**
+ * Resolves item reference data from the {@link ReferenceDataSnapshot} of the current bulk operation step before
+ * the cached lookups of {@link ItemReferenceService}, so a cached value does not hide the snapshot one.
+ */
 @Service
 @Log4j2
 @RequiredArgsConstructor
@@ -17,7 +26,9 @@ public class ItemReferenceHelper implements InitializingBean {
   private final ItemReferenceService itemReferenceService;
 
   public String getCallNumberTypeNameById(String callNumberTypeId) {
-    return itemReferenceService.getCallNumberTypeNameById(callNumberTypeId);
+    return ReferenceDataSnapshot.current().flatMap(snapshot -> snapshot.getCallNumberTypes().findById(callNumberTypeId))
+      .map(CallNumberType::getName)
+      .orElseGet(() -> itemReferenceService.getCallNumberTypeNameById(callNumberTypeId));
   }
 
   public DamagedStatus getDamagedStatusById(String damagedStatusId) {
@@ -29,27 +40,37 @@ public class ItemReferenceHelper implements InitializingBean {
   }
 
   public String getNoteTypeNameById(String noteTypeId) {
-    return itemReferenceService.getNoteTypeNameById(noteTypeId);
+    return ReferenceDataSnapshot.current().flatMap(snapshot -> snapshot.getItemNoteTypes().findById(noteTypeId))
+      .map(NoteType::getName)
+      .orElseGet(() -> itemReferenceService.getNoteTypeNameById(noteTypeId));
   }
 
   public String getNoteTypeIdByName(String name) {
-    return itemReferenceService.getNoteTypeIdByName(name);
+    return ReferenceDataSnapshot.current().flatMap(snapshot -> snapshot.getItemNoteTypes().findByName(name))
+      .map(NoteType::getId)
+      .orElseGet(() -> itemReferenceService.getNoteTypeIdByName(name));
   }
 
   public ServicePoint getServicePointById(String servicePointId) {
-    return itemReferenceService.getServicePointById(servicePointId);
+    return ReferenceDataSnapshot.current().flatMap(snapshot -> snapshot.getServicePoints().findById(servicePointId))
+      .orElseGet(() -> itemReferenceService.getServicePointById(servicePointId));
   }
 
   public ServicePoint getServicePointByName(String name) {
-    return itemReferenceService.getServicePointByName(name);
+    return ReferenceDataSnapshot.current().flatMap(snapshot -> snapshot.getServicePoints().findByName(name))
+      .orElseGet(() -> itemReferenceService.getServicePointByName(name));
   }
 
   public String getStatisticalCodeById(String statisticalCodeId) {
-    return itemReferenceService.getStatisticalCodeById(statisticalCodeId);
+    return ReferenceDataSnapshot.current().flatMap(snapshot -> snapshot.getStatisticalCodesByCode().findById(statisticalCodeId))
+      .map(StatisticalCode::getCode)
+      .orElseGet(() -> itemReferenceService.getStatisticalCodeById(statisticalCodeId));
   }
 
   public String getStatisticalCodeIdByCode(String code) {
-    return itemReferenceService.getStatisticalCodeIdByCode(code);
+    return ReferenceDataSnapshot.current().flatMap(snapshot -> snapshot.getStatisticalCodesByCode().findByName(code))
+      .map(StatisticalCode::getId)
+      .orElseGet(() -> itemReferenceService.getStatisticalCodeIdByCode(code));
   }
 
   public String getUserNameById(String userId) {
@@ -60,16 +81,36 @@ public class ItemReferenceHelper implements InitializingBean {
     return itemReferenceService.getUserIdByUserName(name);
   }
 
+  public ItemLocation getLocationById(String id) {
+    return ReferenceDataSnapshot.current().flatMap(snapshot -> snapshot.getLocations().findById(id))
+      .orElseGet(() -> itemReferenceService.getLocationById(id));
+  }
+
   public ItemLocation getLocationByName(String name) {
-    return itemReferenceService.getLocationByName(name);
+    return ReferenceDataSnapshot.current().flatMap(snapshot -> snapshot.getLocations().findByName(name))
+      .orElseGet(() -> itemReferenceService.getLocationByName(name));
   }
 
   public MaterialType getMaterialTypeByName(String name) {
-    return itemReferenceService.getMaterialTypeByName(name);
+    return ReferenceDataSnapshot.current().flatMap(snapshot -> snapshot.getMaterialTypes().findByName(name))
+      .orElseGet(() -> itemReferenceService.getMaterialTypeByName(name));
+  }
+
+  public LoanType getLoanTypeById(String id) {
+    return ReferenceDataSnapshot.current().flatMap(snapshot -> snapshot.getLoanTypes().findById(id))
+      .orElseGet(() -> itemReferenceService.getLoanTypeById(id));
   }
 
   public LoanType getLoanTypeByName(String name) {
-    return itemReferenceService.getLoanTypeByName(name);
+    return ReferenceDataSnapshot.current().flatMap(snapshot -> snapshot.getLoanTypes().findByName(name))
+      .orElseGet(() -> itemReferenceService.getLoanTypeByName(name));
+  }
+
+  public List<NoteType> getItemNoteTypes() {
+    return ReferenceDataSnapshot.current().map(ReferenceDataSnapshot::getItemNoteTypes)
+      .filter(noteTypes -> !noteTypes.isEmpty())
+      .map(ReferenceDataSnapshot.Dictionary::getValues)
+      .orElseGet(itemReferenceService::getAllItemNoteTypes);
   }
 
   private static ItemReferenceHelper service;
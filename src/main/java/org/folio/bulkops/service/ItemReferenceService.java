@@ -63,25 +63,25 @@ public class ItemReferenceService {
 
   private final ObjectMapper objectMapper;
 
-  @Cacheable(cacheNames = "callNumberTypeNames")
+  @Cacheable(cacheNames = "callNumberTypeNames", sync = true)
   public String getCallNumberTypeNameById(String callNumberTypeId) {
     try {
       return isEmpty(callNumberTypeId) ? EMPTY : callNumberTypeClient.getById(callNumberTypeId).getName();
-    } catch (Exception e) {
+    } catch (NotFoundException e) {
       throw new NotFoundException(format("Call number type was not found by id=%s", callNumberTypeId));
     }
   }
 
-  @Cacheable(cacheNames = "damagedStatusNames")
+  @Cacheable(cacheNames = "damagedStatusNames", sync = true)
   public DamagedStatus getDamagedStatusById(String damagedStatusId) {
     try {
       return damagedStatusClient.getById(damagedStatusId);
-    } catch (Exception e) {
+    } catch (NotFoundException e) {
       throw new NotFoundException(format("Damaged status was not found by id=%s", damagedStatusId));
     }
   }
 
-  @Cacheable(cacheNames = "damagedStatusIds")
+  @Cacheable(cacheNames = "damagedStatusIds", sync = true)
   public DamagedStatus getDamagedStatusByName(String name) {
     var response = damagedStatusClient.getByQuery(String.format(QUERY_PATTERN_NAME, encode(name)));
     if (response.getItemDamageStatuses().isEmpty()) {
@@ -90,16 +90,16 @@ public class ItemReferenceService {
     return response.getItemDamageStatuses().get(0);
   }
 
-  @Cacheable(cacheNames = "noteTypeNames")
+  @Cacheable(cacheNames = "noteTypeNames", sync = true)
   public String getNoteTypeNameById(String noteTypeId) {
     try {
       return isEmpty(noteTypeId) ? EMPTY : itemNoteTypeClient.getNoteTypeById(noteTypeId).getName();
-    } catch (Exception e) {
+    } catch (NotFoundException e) {
       throw new NotFoundException(format("Note type was not found by id=%s", noteTypeId));
     }
   }
 
-  @Cacheable(cacheNames = "noteTypeIds")
+  @Cacheable(cacheNames = "noteTypeIds", sync = true)
   public String getNoteTypeIdByName(String name) {
     var response = itemNoteTypeClient.getNoteTypesByQuery(String.format(QUERY_PATTERN_NAME, encode(name)), 1);
     if (response.getItemNoteTypes().isEmpty()) {
@@ -108,16 +108,16 @@ public class ItemReferenceService {
     return response.getItemNoteTypes().get(0).getId();
   }
 
-  @Cacheable(cacheNames = "servicePointNames")
+  @Cacheable(cacheNames = "servicePointNames", sync = true)
   public ServicePoint getServicePointById(String servicePointId) {
     try {
       return servicePointClient.getById(servicePointId);
-    } catch (Exception e) {
+    } catch (NotFoundException e) {
       throw new NotFoundException(format("Service point was not found by id=%s", servicePointId));
     }
   }
 
-  @Cacheable(cacheNames = "servicePointIds")
+  @Cacheable(cacheNames = "servicePointIds", sync = true)
   public ServicePoint getServicePointByName(String name) {
     var response = servicePointClient.getByQuery(String.format(QUERY_PATTERN_NAME, encode(name)), 1L);
     if (response.getServicepoints().isEmpty()) {
@@ -126,16 +126,16 @@ public class ItemReferenceService {
     return response.getServicepoints().get(0);
   }
 
-  @Cacheable(cacheNames = "statisticalCodeNames")
+  @Cacheable(cacheNames = "statisticalCodeNames", sync = true)
   public String getStatisticalCodeById(String statisticalCodeId) {
     try {
       return statisticalCodeClient.getById(statisticalCodeId).getCode();
-    } catch (Exception e) {
+    } catch (NotFoundException e) {
       throw new NotFoundException(format("Statistical code was not found by id=%s", statisticalCodeId));
     }
   }
 
-  @Cacheable(cacheNames = "statisticalCodeIds")
+  @Cacheable(cacheNames = "statisticalCodeIds", sync = true)
   public String getStatisticalCodeIdByCode(String code) {
     var response = statisticalCodeClient.getByQuery(String.format(QUERY_PATTERN_CODE, encode(code)));
     if (response.getStatisticalCodes().isEmpty()) {
@@ -144,16 +144,16 @@ public class ItemReferenceService {
     return response.getStatisticalCodes().get(0).getId();
   }
 
-  @Cacheable(cacheNames = "userNames")
+  @Cacheable(cacheNames = "userNames", sync = true)
   public String getUserNameById(String userId) {
     try {
       return userClient.getUserById(userId).getUsername();
-    } catch (Exception e) {
+    } catch (NotFoundException e) {
       throw new NotFoundException(format("User name was not found by id=%s", userId));
     }
   }
 
-  @Cacheable(cacheNames = "userIds")
+  @Cacheable(cacheNames = "userIds", sync = true)
   public String getUserIdByUserName(String name) {
     var response = userClient.getByQuery(String.format(QUERY_PATTERN_USERNAME, encode(name)), 1L);
     if (response.getUsers().isEmpty()) {
@@ -162,15 +162,16 @@ public class ItemReferenceService {
     return response.getUsers().get(0).getId();
   }
 
-  @Cacheable(cacheNames = "locations")
+  @Cacheable(cacheNames = "locations", sync = true)
   public ItemLocation getLocationById(String id) {
     try {
       return locationClient.getLocationById(id);
-    } catch (Exception e) {
+    } catch (NotFoundException e) {
       throw new NotFoundException(format("Location was not found by id=%s", id));
     }
   }
 
+  @Cacheable(cacheNames = "locationIds", sync = true)
   public ItemLocation getLocationByName(String name) {
     var locations = locationClient.getByQuery(String.format(QUERY_PATTERN_NAME, encode(name)));
     if (ObjectUtils.isEmpty(locations) || ObjectUtils.isEmpty(locations.getLocations())) {
@@ -179,6 +180,7 @@ public class ItemReferenceService {
     return locations.getLocations().get(0);
   }
 
+  @Cacheable(cacheNames = "materialTypeIds", sync = true)
   public MaterialType getMaterialTypeByName(String name) {
     var types = materialTypeClient.getByQuery(String.format(QUERY_PATTERN_NAME, encode(name)));
     if (types.getMtypes().isEmpty()) {
@@ -187,15 +189,16 @@ public class ItemReferenceService {
     return types.getMtypes().get(0);
   }
 
-  @Cacheable(cacheNames = "loanTypes")
+  @Cacheable(cacheNames = "loanTypes", sync = true)
   public LoanType getLoanTypeById(String id) {
     try {
       return loanTypeClient.getLoanTypeById(id);
-    } catch (Exception e) {
+    } catch (NotFoundException e) {
       throw new NotFoundException(format("Loan type not found by id=%s", id));
     }
   }
 
+  @Cacheable(cacheNames = "loanTypeIds", sync = true)
   public LoanType getLoanTypeByName(String name) {
     var loanTypes = loanTypeClient.getByQuery(String.format(QUERY_PATTERN_NAME, encode(name)));
     if (loanTypes.getLoantypes().isEmpty()) {
@@ -204,7 +207,7 @@ public class ItemReferenceService {
     return loanTypes.getLoantypes().get(0);
   }
 
-  @Cacheable(cacheNames = "statusMapping")
+  @Cacheable(cacheNames = "statusMapping", sync = true)
   public List<String> getAllowedStatuses(String statusName) {
     var configurations = configurationClient
       .getByQuery(format(BULK_EDIT_CONFIGURATIONS_QUERY_TEMPLATE, MODULE_NAME, STATUSES_CONFIG_NAME));
@@ -222,7 +225,7 @@ public class ItemReferenceService {
     }
   }
 
-  @Cacheable(cacheNames = "itemNoteTypes")
+  @Cacheable(cacheNames = "itemNoteTypes", sync = true)
   public List<NoteType> getAllItemNoteTypes() {
     return itemNoteTypeClient.getNoteTypes(Integer.MAX_VALUE).getItemNoteTypes();
   }
@@ -1,36 +1,44 @@
 package org.folio.bulkops.service;
 
-import static java.lang.String.format;
+import static java.lang.Math.min;
+import static java.util.function.Function.identity;
 
 import java.util.Objects;
 import java.util.UUID;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
-import org.folio.bulkops.client.UserClient;
+import org.apache.commons.collections4.ListUtils;
 import org.folio.bulkops.domain.bean.Personal;
 import org.folio.bulkops.domain.bean.User;
 import org.folio.bulkops.domain.dto.Users;
-import org.folio.bulkops.domain.entity.BulkOperation;
-import org.folio.spring.cql.JpaCqlRepository;
-import org.folio.spring.data.OffsetRequest;
+import org.folio.bulkops.repository.BulkOperationUsersRepository;
 import org.springframework.stereotype.Service;
 
 @Service
 @RequiredArgsConstructor
 public class ListUsersService {
 
-  private static final String QUERY = "id==%s";
+  private static final int USERS_BATCH_SIZE = 50;
 
-  private final JpaCqlRepository<BulkOperation, UUID> bulkOperationCqlRepository;
-  private final UserClient userClient;
+  private final BulkOperationUsersRepository bulkOperationUsersRepository;
+  private final UserReferenceService userReferenceService;
 
   public Users getListUsers(String query, Integer offset, Integer limit) {
-    var allBulkOperations = bulkOperationCqlRepository.findByCql(query, OffsetRequest.of(Objects.isNull(offset) ? 0 : offset,
-      Objects.isNull(limit) ? Integer.MAX_VALUE : limit));
-    var distinctUsers = allBulkOperations.stream().map(op -> userClient.getByQuery(format(QUERY, op.getUserId().toString()), 1).getUsers())
-      .filter(users -> !users.isEmpty()).map(users -> users.get(0)).collect(Collectors.toSet());
-    var usersToReturn = distinctUsers.stream().map(this::mapUserToUserDto).toList();
-    return new Users().users(usersToReturn).totalRecords(distinctUsers.size());
+    var userIds = bulkOperationUsersRepository.findDistinctUserIdsByCql(query).stream()
+      .map(UUID::toString)
+      .toList();
+    var from = min(Objects.isNull(offset) ? 0 : offset, userIds.size());
+    var to = Objects.isNull(limit) ? userIds.size() : min(userIds.size(), from + limit);
+    var pageOfUserIds = userIds.subList(from, to);
+    var usersById = ListUtils.partition(pageOfUserIds, USERS_BATCH_SIZE).stream()
+      .flatMap(batch -> userReferenceService.getUsersByIds(batch).stream())
+      .collect(Collectors.toMap(User::getId, identity(), (first, second) -> first));
+    var usersToReturn = pageOfUserIds.stream()
+      .map(usersById::get)
+      .filter(Objects::nonNull)
+      .map(this::mapUserToUserDto)
+      .toList();
+    return new Users().users(usersToReturn).totalRecords(userIds.size());
   }
 
   private org.folio.bulkops.domain.dto.User mapUserToUserDto(User user) {
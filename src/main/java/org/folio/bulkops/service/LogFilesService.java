@@ -59,6 +59,10 @@ public class LogFilesService {
       remoteFileSystemClient.remove(bulkOperation.getLinkToCommittedRecordsCsvFile());
       bulkOperation.setLinkToCommittedRecordsCsvFile(null);
     }
+    if (isNotEmpty(bulkOperation.getLinkToCommittedRecordsDownloadCsvFile())) {
+      remoteFileSystemClient.remove(bulkOperation.getLinkToCommittedRecordsDownloadCsvFile());
+      bulkOperation.setLinkToCommittedRecordsDownloadCsvFile(null);
+    }
     if (isNotEmpty(bulkOperation.getLinkToPreviewRecordsJsonFile())) {
       remoteFileSystemClient.remove(bulkOperation.getLinkToPreviewRecordsJsonFile());
       bulkOperation.setLinkToPreviewRecordsJsonFile(null);
@@ -83,6 +87,10 @@ public class LogFilesService {
       remoteFileSystemClient.remove(bulkOperation.getLinkToMatchedRecordsCsvFile());
       bulkOperation.setLinkToMatchedRecordsCsvFile(null);
     }
+    if (isNotEmpty(bulkOperation.getLinkToMatchedRecordsDownloadCsvFile())) {
+      remoteFileSystemClient.remove(bulkOperation.getLinkToMatchedRecordsDownloadCsvFile());
+      bulkOperation.setLinkToMatchedRecordsDownloadCsvFile(null);
+    }
     if (isNotEmpty(bulkOperation.getLinkToMatchedRecordsJsonFile())) {
       remoteFileSystemClient.remove(bulkOperation.getLinkToMatchedRecordsJsonFile());
       bulkOperation.setLinkToMatchedRecordsJsonFile(null);
@@ -103,5 +111,9 @@ public class LogFilesService {
       remoteFileSystemClient.remove(bulkOperation.getLinkToModifiedRecordsCsvFile());
       bulkOperation.setLinkToModifiedRecordsCsvFile(null);
     }
+    if (isNotEmpty(bulkOperation.getLinkToModifiedRecordsDownloadCsvFile())) {
+      remoteFileSystemClient.remove(bulkOperation.getLinkToModifiedRecordsDownloadCsvFile());
+      bulkOperation.setLinkToModifiedRecordsDownloadCsvFile(null);
+    }
   }
 }
\ No newline at end of file
@@ -0,0 +1,90 @@
+package org.folio.bulkops.service;
+
+import static org.apache.commons.lang3.StringUtils.EMPTY;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import org.apache.commons.lang3.StringUtils;
+import org.folio.bulkops.domain.bean.StateType;
+import org.folio.bulkops.domain.entity.BulkOperationProcessingContent;
+import org.folio.bulkops.util.Constants;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Parses lines of the record matching errors file (identifier and message separated by comma) written to the stream
+ * and passes them to the consumer in batches, so errors can be saved while the file is being copied to the storage.
+ */
+@RequiredArgsConstructor
+public class MatchingErrorsOutputStream extends OutputStream {
+  private final UUID bulkOperationId;
+  private final int batchSize;
+  private final Consumer<List<BulkOperationProcessingContent>> batchConsumer;
+
+  private final ByteArrayOutputStream line = new ByteArrayOutputStream();
+  private final List<BulkOperationProcessingContent> batch = new ArrayList<>();
+  private boolean closed;
+
+  @Override
+  public void write(int b) {
+    if (b == '\n') {
+      completeLine();
+    } else {
+      line.write(b);
+    }
+  }
+
+  @Override
+  public void write(byte[] bytes, int offset, int length) {
+    var start = offset;
+    for (var i = offset; i < offset + length; i++) {
+      if (bytes[i] == '\n') {
+        line.write(bytes, start, i - start);
+        completeLine();
+        start = i + 1;
+      }
+    }
+    line.write(bytes, start, offset + length - start);
+  }
+
+  @Override
+  public void close() {
+    if (closed) {
+      return;
+    }
+    closed = true;
+    completeLine();
+    flushBatch();
+  }
+
+  private void completeLine() {
+    var text = StringUtils.removeEnd(line.toString(StandardCharsets.UTF_8), "\r");
+    line.reset();
+    if (StringUtils.isBlank(text)) {
+      return;
+    }
+    var delimiterIndex = text.indexOf(Constants.COMMA_DELIMETER);
+    batch.add(BulkOperationProcessingContent.builder()
+      .bulkOperationId(bulkOperationId)
+      .identifier(delimiterIndex < 0 ? text : text.substring(0, delimiterIndex))
+      .state(StateType.FAILED)
+      .errorMessage(delimiterIndex < 0 ? EMPTY : text.substring(delimiterIndex + 1))
+      .build());
+    if (batch.size() >= batchSize) {
+      flushBatch();
+    }
+  }
+
+  private void flushBatch() {
+    if (!batch.isEmpty()) {
+      batchConsumer.accept(List.copyOf(batch));
+      batch.clear();
+    }
+  }
+}
@@ -5,10 +5,11 @@ import static org.apache.commons.lang3.StringUtils.EMPTY;
 import static org.apache.commons.lang3.StringUtils.SPACE;
 import static org.apache.commons.lang3.StringUtils.isEmpty;
 import static org.apache.commons.lang3.StringUtils.isNotEmpty;
+import static org.folio.bulkops.domain.format.Tokenizer.split;
 import static org.folio.bulkops.util.Constants.ARRAY_DELIMITER;
 import static org.folio.bulkops.util.Constants.HOLDINGS_NOTE_POSITION;
 import static org.folio.bulkops.util.Constants.INSTANCE_NOTE_POSITION;
-import static org.folio.bulkops.util.Constants.ITEM_DELIMITER_PATTERN;
+import static org.folio.bulkops.util.Constants.ITEM_DELIMITER;
 import static org.folio.bulkops.util.Constants.ITEM_DELIMITER_SPACED;
 import static org.folio.bulkops.util.Constants.ITEM_NOTE_POSITION;
 import static org.folio.bulkops.util.Constants.STAFF_ONLY;
@@ -24,13 +25,14 @@ import org.folio.bulkops.domain.format.SpecialCharacterEscaper;
 import org.springframework.stereotype.Component;
 
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 @Component
 @RequiredArgsConstructor
 public class NoteTableUpdater {
-  private static final int NON_EXISTING_POSITION = -1;
   private static final int NUMBER_OF_NOTE_FIELDS = 3;
   private static final int NOTE_TYPE_POS = 0;
   private static final int NOTE_VALUE_POS = 1;
@@ -93,14 +95,43 @@ public class NoteTableUpdater {
   }
 
   public List<String> enrichWithNotesByType(List<String> list, int notesPosition, List<String> noteTypeNames) {
-    var notesArray = new String[noteTypeNames.size()];
-    var notesString = list.get(notesPosition);
+    var notesArray = splitNotesByType(list.get(notesPosition), buildNoteTypeIndex(noteTypeNames), noteTypeNames.size());
+    list.remove(notesPosition);
+    list.addAll(notesPosition, Arrays.asList(notesArray));
+    return list;
+  }
+
+  /**
+   * Replaces notes column with one column per note type, noteTypeIndex is expected to be built from distinct names.
+   */
+  public String[] enrichWithNotesByType(String[] line, int notesPosition, Map<String, Integer> noteTypeIndex) {
+    var notesArray = splitNotesByType(line[notesPosition], noteTypeIndex, noteTypeIndex.size());
+    var result = new String[line.length - 1 + notesArray.length];
+    System.arraycopy(line, 0, result, 0, notesPosition);
+    System.arraycopy(notesArray, 0, result, notesPosition, notesArray.length);
+    System.arraycopy(line, notesPosition + 1, result, notesPosition + notesArray.length, line.length - notesPosition - 1);
+    return result;
+  }
+
+  /**
+   * Builds note type name to column offset index, first occurrence wins as it was with {@link List#indexOf(Object)}.
+   */
+  public Map<String, Integer> buildNoteTypeIndex(List<String> noteTypeNames) {
+    var index = new HashMap<String, Integer>(noteTypeNames.size() * 2);
+    for (var i = 0; i < noteTypeNames.size(); i++) {
+      index.putIfAbsent(noteTypeNames.get(i), i);
+    }
+    return index;
+  }
+
+  private String[] splitNotesByType(String notesString, Map<String, Integer> noteTypeIndex, int numberOfColumns) {
+    var notesArray = new String[numberOfColumns];
     if (isNotEmpty(notesString)) {
-      for (var note : notesString.split(ITEM_DELIMITER_PATTERN)) {
-        var noteFields = note.trim().split(ARRAY_DELIMITER);
+      for (var note : split(notesString, ITEM_DELIMITER)) {
+        var noteFields = split(note.trim(), ARRAY_DELIMITER);
         if (noteFields.length == NUMBER_OF_NOTE_FIELDS) {
-          var position = noteTypeNames.indexOf(noteFields[NOTE_TYPE_POS]);
-          if (position != NON_EXISTING_POSITION) {
+          var position = noteTypeIndex.get(noteFields[NOTE_TYPE_POS]);
+          if (position != null) {
             var staffOnlyPostfix = TRUE.equals(Boolean.parseBoolean(noteFields[STAFF_ONLY_FLAG_POS])) ? SPACE + STAFF_ONLY : EMPTY;
             var value = SpecialCharacterEscaper.restore(noteFields[NOTE_VALUE_POS]) + staffOnlyPostfix;
             notesArray[position] = isEmpty(notesArray[position]) ? value : String.join(ITEM_DELIMITER_SPACED, notesArray[position], value);
@@ -108,8 +139,6 @@ public class NoteTableUpdater {
         }
       }
     }
-    list.remove(notesPosition);
-    list.addAll(notesPosition, Arrays.asList(notesArray));
-    return list;
+    return notesArray;
   }
 }
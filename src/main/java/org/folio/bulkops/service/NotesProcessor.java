@@ -0,0 +1,175 @@
+package org.folio.bulkops.service;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.isNull;
+import static org.apache.commons.lang3.StringUtils.EMPTY;
+import static org.apache.commons.lang3.StringUtils.isNotEmpty;
+import static org.folio.bulkops.util.Constants.HOLDINGS_NOTE_POSITION;
+import static org.folio.bulkops.util.Constants.INSTANCE_NOTE_POSITION;
+import static org.folio.bulkops.util.Constants.ITEM_NOTE_POSITION;
+import static org.folio.bulkops.util.Utils.resolveEntityClass;
+
+import com.opencsv.CSVReader;
+import com.opencsv.CSVReaderBuilder;
+import com.opencsv.RFC4180ParserBuilder;
+import com.opencsv.exceptions.CsvValidationException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.folio.bulkops.domain.bean.HoldingsNoteType;
+import org.folio.bulkops.domain.bean.HoldingsRecord;
+import org.folio.bulkops.domain.bean.Instance;
+import org.folio.bulkops.domain.bean.Item;
+import org.folio.bulkops.domain.bean.NoteType;
+import org.folio.bulkops.domain.dto.EntityType;
+import org.folio.bulkops.domain.dto.InstanceNoteType;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Expands notes column of downloaded csv files into one column per note type, the same way as it is done for preview.
+ * Content is transformed row by row while being read, so the whole file is never held in memory.
+ */
+@Component
+@RequiredArgsConstructor
+@Log4j2
+public class NotesProcessor {
+  private final ItemReferenceService itemReferenceService;
+  private final HoldingsReferenceService holdingsReferenceService;
+  private final InstanceReferenceService instanceReferenceService;
+  private final NoteTableUpdater noteTableUpdater;
+
+  public InputStream processNotes(InputStream input, EntityType entityType) {
+    if (isNull(entityType)) {
+      return input;
+    }
+    var clazz = resolveEntityClass(entityType);
+    if (clazz == Item.class) {
+      return processNotes(input, ITEM_NOTE_POSITION, itemReferenceService.getAllItemNoteTypes().stream()
+        .map(NoteType::getName).toList());
+    } else if (clazz == HoldingsRecord.class) {
+      return processNotes(input, HOLDINGS_NOTE_POSITION, holdingsReferenceService.getAllHoldingsNoteTypes().stream()
+        .map(HoldingsNoteType::getName).toList());
+    } else if (clazz == Instance.class) {
+      return processNotes(input, INSTANCE_NOTE_POSITION, instanceReferenceService.getAllInstanceNoteTypes().stream()
+        .map(InstanceNoteType::getName).toList());
+    }
+    return input;
+  }
+
+  private InputStream processNotes(InputStream input, int notesPosition, List<String> names) {
+    var noteTypeNames = names.stream()
+      .filter(Objects::nonNull)
+      .distinct()
+      .sorted()
+      .toList();
+    if (noteTypeNames.isEmpty()) {
+      return input;
+    }
+    var noteTypeHeaders = noteTypeNames.stream()
+      .map(noteTableUpdater::concatNotePostfixIfRequired)
+      .toList();
+    var reader = new CSVReaderBuilder(new InputStreamReader(input, UTF_8))
+      .withCSVParser(new RFC4180ParserBuilder().build()).build();
+    return new NotesExpandingInputStream(reader, notesPosition, noteTypeHeaders, noteTableUpdater.buildNoteTypeIndex(noteTypeNames));
+  }
+
+  private String processSpecialCharacters(String line) {
+    if (isNotEmpty(line)) {
+      line = line.contains("\"") ? line.replace("\"", "\"\"") : line;
+      return line.contains(",") || line.contains("\n") ? "\"" + line + "\"" : line;
+    }
+    return EMPTY;
+  }
+
+  private class NotesExpandingInputStream extends InputStream {
+    private final CSVReader reader;
+    private final int notesPosition;
+    private final List<String> noteTypeHeaders;
+    private final Map<String, Integer> noteTypeIndex;
+    private final StringBuilder lineBuilder = new StringBuilder();
+    private byte[] buffer = new byte[0];
+    private int position;
+    private boolean headerProcessed;
+    private boolean finished;
+
+    NotesExpandingInputStream(CSVReader reader, int notesPosition, List<String> noteTypeHeaders, Map<String, Integer> noteTypeIndex) {
+      this.reader = reader;
+      this.notesPosition = notesPosition;
+      this.noteTypeHeaders = noteTypeHeaders;
+      this.noteTypeIndex = noteTypeIndex;
+    }
+
+    @Override
+    public int read() throws IOException {
+      return fillBuffer() ? buffer[position++] & 0xFF : -1;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+      if (len == 0) {
+        return 0;
+      }
+      if (!fillBuffer()) {
+        return -1;
+      }
+      var count = Math.min(len, buffer.length - position);
+      System.arraycopy(buffer, position, b, off, count);
+      position += count;
+      return count;
+    }
+
+    @Override
+    public void close() throws IOException {
+      reader.close();
+    }
+
+    private boolean fillBuffer() throws IOException {
+      while (position >= buffer.length) {
+        if (finished) {
+          return false;
+        }
+        String[] line;
+        try {
+          line = reader.readNext();
+        } catch (CsvValidationException e) {
+          log.error(e.getMessage());
+          throw new IOException(e);
+        }
+        if (isNull(line)) {
+          finished = true;
+          return false;
+        }
+        buffer = toBytes(headerProcessed ? noteTableUpdater.enrichWithNotesByType(line, notesPosition, noteTypeIndex) : processHeaders(line));
+        position = 0;
+      }
+      return true;
+    }
+
+    private String[] processHeaders(String[] line) {
+      headerProcessed = true;
+      var headers = new ArrayList<>(Arrays.asList(line));
+      headers.remove(notesPosition);
+      headers.addAll(notesPosition, noteTypeHeaders);
+      return headers.toArray(String[]::new);
+    }
+
+    private byte[] toBytes(String[] line) {
+      lineBuilder.setLength(0);
+      for (var i = 0; i < line.length; i++) {
+        if (i > 0) {
+          lineBuilder.append(',');
+        }
+        lineBuilder.append(processSpecialCharacters(line[i]));
+      }
+      return lineBuilder.append('\n').toString().getBytes(UTF_8);
+    }
+  }
+}
@@ -0,0 +1,138 @@
+package org.folio.bulkops.service;
+
+import static java.util.Objects.isNull;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.folio.bulkops.repository.BulkOperationExecutionContentRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Keeps fingerprints of identifiers having execution content within the bulk operation being committed, so checking
+ * whether an identifier was already processed needs no database query unless the fingerprint matches. Operations not
+ * being tracked are always checked against the database.
+ */
+@Service
+@Log4j2
+@RequiredArgsConstructor
+public class ProcessedIdentifierService {
+  private final BulkOperationExecutionContentRepository executionContentRepository;
+  private final Map<UUID, Fingerprints> fingerprintsByOperation = new ConcurrentHashMap<>();
+
+  /**
+   * Starts tracking identifiers of the bulk operation, seeded with identifiers of the already saved execution content.
+   *
+   * @param bulkOperationId bulk operation id
+   * @return scope stopping the tracking when closed
+   */
+  @Transactional(readOnly = true)
+  public Scope track(UUID bulkOperationId) {
+    var fingerprints = new Fingerprints();
+    try (var identifiers = executionContentRepository.streamIdentifiersByBulkOperationId(bulkOperationId)) {
+      identifiers.forEach(fingerprints::add);
+    }
+    fingerprintsByOperation.put(bulkOperationId, fingerprints);
+    log.debug("Tracking processed identifiers of bulk operation {}, seeded with {}", bulkOperationId, fingerprints.size());
+    return () -> fingerprintsByOperation.remove(bulkOperationId, fingerprints);
+  }
+
+  public void add(UUID bulkOperationId, String identifier) {
+    var fingerprints = fingerprintsByOperation.get(bulkOperationId);
+    if (fingerprints != null) {
+      fingerprints.add(identifier);
+    }
+  }
+
+  public boolean isProcessed(UUID bulkOperationId, String identifier) {
+    var fingerprints = fingerprintsByOperation.get(bulkOperationId);
+    if (fingerprints != null && !fingerprints.mightContain(identifier)) {
+      return false;
+    }
+    return executionContentRepository.findFirstByBulkOperationIdAndIdentifier(bulkOperationId, identifier).isPresent();
+  }
+
+  /**
+   * Open addressing set of 64-bit identifier hashes. False positives are possible on hash collision and are resolved
+   * by the caller against the database, false negatives are not.
+   */
+  static class Fingerprints {
+    private static final int INITIAL_CAPACITY = 1024;
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private long[] table = new long[INITIAL_CAPACITY];
+    private int size;
+
+    synchronized void add(String identifier) {
+      if (insert(table, fingerprint(identifier))) {
+        size++;
+        if (size * 2 > table.length) {
+          resize();
+        }
+      }
+    }
+
+    synchronized boolean mightContain(String identifier) {
+      var fingerprint = fingerprint(identifier);
+      var mask = table.length - 1;
+      for (var i = mix(fingerprint) & mask; table[i] != 0; i = (i + 1) & mask) {
+        if (table[i] == fingerprint) {
+          return true;
+        }
+      }
+      return false;
+    }
+
+    synchronized int size() {
+      return size;
+    }
+
+    private void resize() {
+      var resized = new long[table.length * 2];
+      for (var fingerprint : table) {
+        if (fingerprint != 0) {
+          insert(resized, fingerprint);
+        }
+      }
+      table = resized;
+    }
+
+    private static boolean insert(long[] table, long fingerprint) {
+      var mask = table.length - 1;
+      var i = mix(fingerprint) & mask;
+      while (table[i] != 0) {
+        if (table[i] == fingerprint) {
+          return false;
+        }
+        i = (i + 1) & mask;
+      }
+      table[i] = fingerprint;
+      return true;
+    }
+
+    private static int mix(long fingerprint) {
+      return (int) (fingerprint ^ (fingerprint >>> 32));
+    }
+
+    /**
+     * FNV-1a hash of the identifier, zero is reserved for empty slots.
+     */
+    private static long fingerprint(String identifier) {
+      if (isNull(identifier)) {
+        return 1;
+      }
+      var hash = FNV_OFFSET_BASIS;
+      for (var i = 0; i < identifier.length(); i++) {
+        hash ^= identifier.charAt(i);
+        hash *= FNV_PRIME;
+      }
+      return hash == 0 ? 1 : hash;
+    }
+  }
+}
@@ -65,7 +65,7 @@ public class QueryService {
         .map(UUID::toString)
         .collect(Collectors.joining(NEW_LINE_SEPARATOR));
       var path = String.format(QUERY_FILENAME_TEMPLATE, bulkOperation.getId());
-      remoteFileSystemClient.put(new ByteArrayInputStream(identifiersString.getBytes()), path);
+      remoteFileSystemClient.putForDownload(new ByteArrayInputStream(identifiersString.getBytes()), path);
       bulkOperation.setLinkToTriggeringCsvFile(path);
       bulkOperation.setStatus(SAVED_IDENTIFIERS);
       bulkOperationRepository.save(bulkOperation);
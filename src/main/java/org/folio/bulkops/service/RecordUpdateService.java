@@ -22,6 +22,7 @@ public class RecordUpdateService {
   private final UpdateProcessorFactory updateProcessorFactory;
   private final BulkOperationExecutionContentRepository executionContentRepository;
   private final EntityPathResolver entityPathResolver;
+  private final ProcessedIdentifierService processedIdentifierService;
 
   public BulkOperationsEntity updateEntity(BulkOperationsEntity original, BulkOperationsEntity modified, BulkOperation operation) {
     var isEqual = original.hashCode() == modified.hashCode() && original.equals(modified);
@@ -37,11 +38,13 @@ public class RecordUpdateService {
         }
         throw e;
       }
+      var identifier = modified.getIdentifier(operation.getIdentifierType());
       executionContentRepository.save(BulkOperationExecutionContent.builder()
         .bulkOperationId(operation.getId())
-        .identifier(modified.getIdentifier(operation.getIdentifierType()))
+        .identifier(identifier)
         .state(StateType.PROCESSED)
         .build());
+      processedIdentifierService.add(operation.getId(), identifier);
       operation.setCommittedNumOfRecords(operation.getCommittedNumOfRecords() + 1);
     }
     updater.updateAssociatedRecords(modified, operation, isEqual);
@@ -0,0 +1,113 @@
+package org.folio.bulkops.service;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+import static org.folio.bulkops.service.ReferenceDataSnapshot.Dictionary.normalizeName;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+import org.folio.bulkops.configs.NegativeCachingCaffeineCache;
+import org.folio.bulkops.configs.TenantCacheKey;
+import org.folio.bulkops.domain.bean.ReferenceDataEvent;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.stereotype.Service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Evicts cached reference data of the tenant affected by a reference data change event. Entries cached by id, name
+ * or code of the changed record are evicted individually, while caches holding whole collections (note type lists,
+ * reference data snapshots) are evicted for the tenant.
+ */
+@Service
+@Log4j2
+@RequiredArgsConstructor
+public class ReferenceDataCacheService {
+  private static final List<String> LOOKUP_FIELDS = List.of("id", "name", "code", "username");
+  private static final String REFERENCE_DATA_SNAPSHOTS = "referenceDataSnapshots";
+
+  private static final Map<String, List<String>> CACHES_BY_RESOURCE = Map.of(
+    "inventory.location", List.of("locations", "locationIds", "holdingsLocationsNames", "holdingsLocationIds"),
+    "inventory.loan-type", List.of("loanTypes", "loanTypeIds"),
+    "inventory.material-type", List.of("materialTypeIds"),
+    "inventory.call-number-type", List.of("callNumberTypeNames", "holdingsCallNumberTypesNames", "holdingsCallNumberTypes"),
+    "inventory.item-note-type", List.of("noteTypeNames", "noteTypeIds"),
+    "inventory.holdings-note-type", List.of("holdingsNoteTypesNames"),
+    "inventory.service-point", List.of("servicePointNames", "servicePointIds"),
+    "inventory.statistical-code", List.of("statisticalCodeNames", "statisticalCodeIds", "holdingsStatisticalCodeNames", "holdingsStatisticalCodes"),
+    "users.users", List.of("userNames", "userIds", "usersByIds"));
+
+  private static final Map<String, List<String>> COLLECTION_CACHES_BY_RESOURCE = Map.of(
+    "inventory.location", List.of(REFERENCE_DATA_SNAPSHOTS),
+    "inventory.loan-type", List.of(REFERENCE_DATA_SNAPSHOTS),
+    "inventory.material-type", List.of(REFERENCE_DATA_SNAPSHOTS),
+    "inventory.call-number-type", List.of(REFERENCE_DATA_SNAPSHOTS),
+    "inventory.item-note-type", List.of("itemNoteTypes", REFERENCE_DATA_SNAPSHOTS),
+    "inventory.holdings-note-type", List.of("holdingsNoteTypes", REFERENCE_DATA_SNAPSHOTS),
+    "inventory.service-point", List.of(REFERENCE_DATA_SNAPSHOTS),
+    "inventory.statistical-code", List.of(REFERENCE_DATA_SNAPSHOTS));
+
+  private final CacheManager cacheManager;
+
+  public void invalidate(String tenantId, String resource, ReferenceDataEvent event) {
+    var cacheNames = CACHES_BY_RESOURCE.getOrDefault(resource, List.of());
+    var collectionCacheNames = COLLECTION_CACHES_BY_RESOURCE.getOrDefault(resource, List.of());
+    if (cacheNames.isEmpty() && collectionCacheNames.isEmpty()) {
+      log.debug("No cached reference data for resource {}", resource);
+      return;
+    }
+    if (ReferenceDataEvent.DELETE_ALL.equals(event.getType())) {
+      cacheNames.forEach(cacheName -> evict(cacheName, key -> tenantId.equals(key.getTenantId())));
+    } else {
+      var values = getLookupValues(event);
+      cacheNames.forEach(cacheName -> evict(cacheName, key -> tenantId.equals(key.getTenantId()) && matches(key, values)));
+    }
+    collectionCacheNames.forEach(cacheName -> evict(cacheName, key -> tenantId.equals(key.getTenantId())));
+    log.info("Evicted cached {} for tenant {}", resource, tenantId);
+  }
+
+  private void evict(String cacheName, Predicate<TenantCacheKey> predicate) {
+    Predicate<Object> keyPredicate = key -> key instanceof TenantCacheKey tenantCacheKey && predicate.test(tenantCacheKey);
+    var cache = cacheManager.getCache(cacheName);
+    if (cache instanceof CaffeineCache caffeineCache) {
+      caffeineCache.getNativeCache().asMap().keySet().removeIf(keyPredicate);
+    }
+    if (cache instanceof NegativeCachingCaffeineCache negativeCachingCache) {
+      negativeCachingCache.getNotFoundEntries().asMap().keySet().removeIf(keyPredicate);
+    }
+  }
+
+  private boolean matches(TenantCacheKey key, Set<String> values) {
+    return nonNull(key.getParams()) && Arrays.stream(key.getParams())
+      .flatMap(param -> param instanceof Collection<?> collection ? collection.stream() : Stream.of(param))
+      .anyMatch(param -> param instanceof String value && values.contains(normalizeName(value)));
+  }
+
+  private Set<String> getLookupValues(ReferenceDataEvent event) {
+    var values = new HashSet<String>();
+    addLookupValues(event.getOldValue(), values);
+    addLookupValues(event.getNewValue(), values);
+    return values;
+  }
+
+  private void addLookupValues(JsonNode record, Set<String> values) {
+    if (isNull(record)) {
+      return;
+    }
+    LOOKUP_FIELDS.stream()
+      .map(record::get)
+      .filter(node -> nonNull(node) && node.isTextual())
+      .forEach(node -> values.add(normalizeName(node.asText())));
+  }
+}
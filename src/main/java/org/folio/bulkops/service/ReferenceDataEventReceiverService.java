@@ -0,0 +1,42 @@
+package org.folio.bulkops.service;
+
+import java.util.regex.Pattern;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.folio.bulkops.configs.kafka.KafkaService;
+import org.folio.bulkops.domain.bean.ReferenceDataEvent;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.messaging.handler.annotation.Header;
+import org.springframework.messaging.handler.annotation.Payload;
+import org.springframework.stereotype.Service;
+
+@Service
+@Log4j2
+@RequiredArgsConstructor
+public class ReferenceDataEventReceiverService {
+
+  /**
+   * Topic name in the format - `{env}.{tenant}.{resource}`, e.g. `folio.diku.inventory.location`.
+   */
+  private static final Pattern TOPIC_PATTERN = Pattern.compile("^[^.]+\\.([^.]+)\\.(.+)$");
+
+  private final ReferenceDataCacheService referenceDataCacheService;
+
+  @KafkaListener(
+    id = KafkaService.REFERENCE_DATA_EVENT_LISTENER_ID,
+    containerFactory = "referenceDataListenerContainerFactory",
+    topicPattern = "${application.kafka.reference-data-topic-pattern}",
+    groupId = "${application.kafka.reference-data-group-id}")
+  public void receiveReferenceDataEvent(@Payload ReferenceDataEvent event, @Header(KafkaHeaders.RECEIVED_TOPIC) String topic) {
+    var matcher = TOPIC_PATTERN.matcher(topic);
+    if (!matcher.matches()) {
+      log.warn("Unexpected reference data topic name: {}", topic);
+      return;
+    }
+    var tenantId = matcher.group(1);
+    log.debug("Received reference data event {} for tenant {} from {}", event.getType(), tenantId, topic);
+    referenceDataCacheService.invalidate(tenantId, matcher.group(2), event);
+  }
+}
@@ -0,0 +1,203 @@
+package org.folio.bulkops.service;
+
+import static java.lang.String.format;
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import org.apache.commons.lang3.StringUtils;
+import org.folio.bulkops.domain.bean.AddressType;
+import org.folio.bulkops.domain.bean.CallNumberType;
+import org.folio.bulkops.domain.bean.Department;
+import org.folio.bulkops.domain.bean.HoldingsNoteType;
+import org.folio.bulkops.domain.bean.InstanceFormat;
+import org.folio.bulkops.domain.bean.InstanceStatus;
+import org.folio.bulkops.domain.bean.InstanceType;
+import org.folio.bulkops.domain.bean.ItemLocation;
+import org.folio.bulkops.domain.bean.LoanType;
+import org.folio.bulkops.domain.bean.MaterialType;
+import org.folio.bulkops.domain.bean.ModeOfIssuance;
+import org.folio.bulkops.domain.bean.NatureOfContentTerm;
+import org.folio.bulkops.domain.bean.NoteType;
+import org.folio.bulkops.domain.bean.ServicePoint;
+import org.folio.bulkops.domain.bean.StatisticalCode;
+import org.folio.bulkops.domain.bean.UserGroup;
+import org.folio.bulkops.exception.DuplicateNameException;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Immutable set of reference data dictionaries loaded at the start of bulk operation step. While activated for the
+ * current thread, reference services resolve values from it and call remote modules only for values missing here.
+ */
+@Getter
+@Builder
+@Log4j2
+public class ReferenceDataSnapshot {
+  public static final ReferenceDataSnapshot EMPTY = ReferenceDataSnapshot.builder().build();
+
+  private static final ThreadLocal<ReferenceDataSnapshot> CURRENT = new ThreadLocal<>();
+
+  @Builder.Default
+  private final Dictionary<ItemLocation> locations = Dictionary.empty();
+  @Builder.Default
+  private final Dictionary<LoanType> loanTypes = Dictionary.empty();
+  @Builder.Default
+  private final Dictionary<MaterialType> materialTypes = Dictionary.empty();
+  @Builder.Default
+  private final Dictionary<NoteType> itemNoteTypes = Dictionary.empty();
+  @Builder.Default
+  private final Dictionary<HoldingsNoteType> holdingsNoteTypes = Dictionary.empty();
+  @Builder.Default
+  private final Dictionary<StatisticalCode> statisticalCodes = Dictionary.empty();
+  @Builder.Default
+  private final Dictionary<StatisticalCode> statisticalCodesByCode = Dictionary.empty();
+  @Builder.Default
+  private final Dictionary<CallNumberType> callNumberTypes = Dictionary.empty();
+  @Builder.Default
+  private final Dictionary<ServicePoint> servicePoints = Dictionary.empty();
+  @Builder.Default
+  private final Dictionary<UserGroup> patronGroups = Dictionary.empty();
+  @Builder.Default
+  private final Dictionary<AddressType> addressTypes = Dictionary.empty();
+  @Builder.Default
+  private final Dictionary<Department> departments = Dictionary.empty();
+  @Builder.Default
+  private final Dictionary<InstanceStatus> instanceStatuses = Dictionary.empty();
+  @Builder.Default
+  private final Dictionary<ModeOfIssuance> modesOfIssuance = Dictionary.empty();
+  @Builder.Default
+  private final Dictionary<InstanceType> instanceTypes = Dictionary.empty();
+  @Builder.Default
+  private final Dictionary<NatureOfContentTerm> natureOfContentTerms = Dictionary.empty();
+  @Builder.Default
+  private final Dictionary<InstanceFormat> instanceFormats = Dictionary.empty();
+
+  public static Optional<ReferenceDataSnapshot> current() {
+    return Optional.ofNullable(CURRENT.get());
+  }
+
+  /**
+   * Activates snapshot for the current thread until returned scope is closed. If the snapshot cannot be loaded,
+   * the step proceeds without it.
+   */
+  public static Scope activate(Supplier<ReferenceDataSnapshot> loader) {
+    ReferenceDataSnapshot snapshot;
+    try {
+      snapshot = loader.get();
+    } catch (Exception e) {
+      log.error("Failed to load reference data snapshot, reason: {}", e.getMessage());
+      snapshot = EMPTY;
+    }
+    var previous = CURRENT.get();
+    CURRENT.set(snapshot);
+    return () -> {
+      if (nonNull(previous)) {
+        CURRENT.set(previous);
+      } else {
+        CURRENT.remove();
+      }
+    };
+  }
+
+  public static class Dictionary<T> {
+    private final List<T> values;
+    private final Map<String, T> byId;
+    private final Map<String, T> byName;
+    private final Map<String, List<String>> duplicateNames;
+
+    private Dictionary(List<T> values, Map<String, T> byId, Map<String, T> byName, Map<String, List<String>> duplicateNames) {
+      this.values = values;
+      this.byId = byId;
+      this.byName = byName;
+      this.duplicateNames = duplicateNames;
+    }
+
+    public static <T> Dictionary<T> empty() {
+      return new Dictionary<>(Collections.emptyList(), Collections.emptyMap(), Collections.emptyMap(), Collections.emptyMap());
+    }
+
+    /**
+     * Builds dictionary indexed by id and normalized name, if several values have the same name the first one is used
+     * as it was with the first element of query result.
+     */
+    public static <T> Dictionary<T> of(List<T> values, Function<T, String> idFunction, Function<T, String> nameFunction) {
+      return build(values, idFunction, nameFunction, false);
+    }
+
+    /**
+     * Builds dictionary for reference data with unique names: lookup of a name shared by several values fails with
+     * {@link DuplicateNameException} instead of picking one of them.
+     */
+    public static <T> Dictionary<T> ofUniqueNames(List<T> values, Function<T, String> idFunction, Function<T, String> nameFunction) {
+      return build(values, idFunction, nameFunction, true);
+    }
+
+    private static <T> Dictionary<T> build(List<T> values, Function<T, String> idFunction, Function<T, String> nameFunction,
+                                           boolean uniqueNames) {
+      var byId = new HashMap<String, T>();
+      var byName = new HashMap<String, T>();
+      var idsByName = new HashMap<String, List<String>>();
+      values.forEach(value -> {
+        var id = idFunction.apply(value);
+        var name = normalizeName(nameFunction.apply(value));
+        if (nonNull(id)) {
+          byId.putIfAbsent(id, value);
+        }
+        if (nonNull(name)) {
+          byName.putIfAbsent(name, value);
+          idsByName.computeIfAbsent(name, k -> new ArrayList<>()).add(id);
+        }
+      });
+      var duplicateNames = uniqueNames ? idsByName.entrySet().stream()
+        .filter(entry -> entry.getValue().size() > 1)
+        .collect(Collectors.toMap(Map.Entry::getKey, entry -> List.copyOf(entry.getValue()))) : Map.<String, List<String>>of();
+      return new Dictionary<>(List.copyOf(values), Map.copyOf(byId), Map.copyOf(byName), duplicateNames);
+    }
+
+    /**
+     * Normalizes name the same way as it is compared by "==" CQL relation: case, accents and repeated whitespaces
+     * are ignored.
+     */
+    public static String normalizeName(String name) {
+      return isNull(name) ? null : StringUtils.stripAccents(StringUtils.normalizeSpace(name)).toLowerCase(Locale.ROOT);
+    }
+
+    public Optional<T> findById(String id) {
+      return nonNull(id) ? Optional.ofNullable(byId.get(id)) : Optional.empty();
+    }
+
+    public Optional<T> findByName(String name) {
+      var normalizedName = normalizeName(name);
+      if (isNull(normalizedName)) {
+        return Optional.empty();
+      }
+      var duplicateIds = duplicateNames.get(normalizedName);
+      if (nonNull(duplicateIds)) {
+        throw new DuplicateNameException(format("Name \"%s\" is ambiguous, it matches several records with ids: %s",
+          name, String.join(", ", duplicateIds)));
+      }
+      return Optional.ofNullable(byName.get(normalizedName));
+    }
+
+    public List<T> getValues() {
+      return values;
+    }
+
+    public boolean isEmpty() {
+      return values.isEmpty();
+    }
+  }
+}
@@ -0,0 +1,167 @@
+package org.folio.bulkops.service;
+
+import static java.util.Objects.isNull;
+import static org.folio.bulkops.util.Utils.resolveEntityClass;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import org.folio.bulkops.client.AddressTypeClient;
+import org.folio.bulkops.client.CallNumberTypeClient;
+import org.folio.bulkops.client.DepartmentClient;
+import org.folio.bulkops.client.GroupClient;
+import org.folio.bulkops.client.HoldingsNoteTypeClient;
+import org.folio.bulkops.client.InstanceFormatsClient;
+import org.folio.bulkops.client.InstanceStatusesClient;
+import org.folio.bulkops.client.InstanceTypesClient;
+import org.folio.bulkops.client.ItemNoteTypeClient;
+import org.folio.bulkops.client.LoanTypeClient;
+import org.folio.bulkops.client.LocationClient;
+import org.folio.bulkops.client.MaterialTypeClient;
+import org.folio.bulkops.client.ModesOfIssuanceClient;
+import org.folio.bulkops.client.NatureOfContentTermsClient;
+import org.folio.bulkops.client.ServicePointClient;
+import org.folio.bulkops.client.StatisticalCodeClient;
+import org.folio.bulkops.domain.bean.AddressType;
+import org.folio.bulkops.domain.bean.AddressTypeCollection;
+import org.folio.bulkops.domain.bean.CallNumberType;
+import org.folio.bulkops.domain.bean.CallNumberTypeCollection;
+import org.folio.bulkops.domain.bean.Department;
+import org.folio.bulkops.domain.bean.DepartmentCollection;
+import org.folio.bulkops.domain.bean.HoldingsNoteType;
+import org.folio.bulkops.domain.bean.HoldingsNoteTypeCollection;
+import org.folio.bulkops.domain.bean.HoldingsRecord;
+import org.folio.bulkops.domain.bean.Instance;
+import org.folio.bulkops.domain.bean.InstanceFormat;
+import org.folio.bulkops.domain.bean.InstanceFormats;
+import org.folio.bulkops.domain.bean.InstanceStatus;
+import org.folio.bulkops.domain.bean.InstanceStatuses;
+import org.folio.bulkops.domain.bean.InstanceType;
+import org.folio.bulkops.domain.bean.InstanceTypes;
+import org.folio.bulkops.domain.bean.Item;
+import org.folio.bulkops.domain.bean.ItemLocation;
+import org.folio.bulkops.domain.bean.ItemLocationCollection;
+import org.folio.bulkops.domain.bean.LoanType;
+import org.folio.bulkops.domain.bean.LoanTypeCollection;
+import org.folio.bulkops.domain.bean.MaterialType;
+import org.folio.bulkops.domain.bean.MaterialTypeCollection;
+import org.folio.bulkops.domain.bean.ModeOfIssuance;
+import org.folio.bulkops.domain.bean.ModesOfIssuance;
+import org.folio.bulkops.domain.bean.NatureOfContentTerm;
+import org.folio.bulkops.domain.bean.NatureOfContentTerms;
+import org.folio.bulkops.domain.bean.NoteType;
+import org.folio.bulkops.domain.bean.NoteTypeCollection;
+import org.folio.bulkops.domain.bean.ServicePoint;
+import org.folio.bulkops.domain.bean.ServicePoints;
+import org.folio.bulkops.domain.bean.StatisticalCode;
+import org.folio.bulkops.domain.bean.StatisticalCodeCollection;
+import org.folio.bulkops.domain.bean.User;
+import org.folio.bulkops.domain.bean.UserGroup;
+import org.folio.bulkops.domain.bean.UserGroupCollection;
+import org.folio.bulkops.domain.dto.EntityType;
+import org.folio.bulkops.service.ReferenceDataSnapshot.Dictionary;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+
+@Service
+@Log4j2
+@RequiredArgsConstructor
+public class ReferenceDataSnapshotService {
+  private static final int PAGE_SIZE = 1000;
+
+  private final LocationClient locationClient;
+  private final LoanTypeClient loanTypeClient;
+  private final MaterialTypeClient materialTypeClient;
+  private final ItemNoteTypeClient itemNoteTypeClient;
+  private final HoldingsNoteTypeClient holdingsNoteTypeClient;
+  private final StatisticalCodeClient statisticalCodeClient;
+  private final CallNumberTypeClient callNumberTypeClient;
+  private final ServicePointClient servicePointClient;
+  private final GroupClient groupClient;
+  private final AddressTypeClient addressTypeClient;
+  private final DepartmentClient departmentClient;
+  private final InstanceStatusesClient instanceStatusesClient;
+  private final ModesOfIssuanceClient modesOfIssuanceClient;
+  private final InstanceTypesClient instanceTypesClient;
+  private final NatureOfContentTermsClient natureOfContentTermsClient;
+  private final InstanceFormatsClient instanceFormatsClient;
+
+  @Cacheable(cacheNames = "referenceDataSnapshots", sync = true)
+  public ReferenceDataSnapshot getSnapshot(EntityType entityType) {
+    var clazz = resolveEntityClass(entityType);
+    if (clazz == Item.class) {
+      log.info("Loading items reference data snapshot");
+      var statisticalCodes = loadStatisticalCodes();
+      return ReferenceDataSnapshot.builder()
+        .locations(loadLocations())
+        .loanTypes(Dictionary.ofUniqueNames(loadAll(loanTypeClient::getLoanTypes, LoanTypeCollection::getLoantypes), LoanType::getId, LoanType::getName))
+        .materialTypes(Dictionary.ofUniqueNames(loadAll(materialTypeClient::getMaterialTypes, MaterialTypeCollection::getMtypes), MaterialType::getId, MaterialType::getName))
+        .itemNoteTypes(Dictionary.of(loadAll(itemNoteTypeClient::getNoteTypes, NoteTypeCollection::getItemNoteTypes), NoteType::getId, NoteType::getName))
+        .statisticalCodes(Dictionary.of(statisticalCodes, StatisticalCode::getId, StatisticalCode::getName))
+        .statisticalCodesByCode(Dictionary.of(statisticalCodes, StatisticalCode::getId, StatisticalCode::getCode))
+        .callNumberTypes(loadCallNumberTypes())
+        .servicePoints(Dictionary.of(loadAll(servicePointClient::getServicePoints, ServicePoints::getServicepoints), ServicePoint::getId, ServicePoint::getName))
+        .build();
+    } else if (clazz == HoldingsRecord.class) {
+      log.info("Loading holdings records reference data snapshot");
+      var statisticalCodes = loadStatisticalCodes();
+      return ReferenceDataSnapshot.builder()
+        .locations(loadLocations())
+        .holdingsNoteTypes(Dictionary.of(loadAll(holdingsNoteTypeClient::getNoteTypes, HoldingsNoteTypeCollection::getHoldingsNoteTypes), HoldingsNoteType::getId, HoldingsNoteType::getName))
+        .statisticalCodes(Dictionary.of(statisticalCodes, StatisticalCode::getId, StatisticalCode::getName))
+        .statisticalCodesByCode(Dictionary.of(statisticalCodes, StatisticalCode::getId, StatisticalCode::getCode))
+        .callNumberTypes(loadCallNumberTypes())
+        .build();
+    } else if (clazz == User.class) {
+      log.info("Loading users reference data snapshot");
+      return ReferenceDataSnapshot.builder()
+        .patronGroups(Dictionary.of(loadAll(groupClient::getGroups, UserGroupCollection::getUsergroups), UserGroup::getId, UserGroup::getGroup))
+        .addressTypes(Dictionary.of(loadAll(addressTypeClient::getAddressTypes, AddressTypeCollection::getAddressTypes), AddressType::getId, AddressType::getAddressType))
+        .departments(Dictionary.of(loadAll(departmentClient::getDepartments, DepartmentCollection::getDepartments), Department::getId, Department::getName))
+        .build();
+    } else if (clazz == Instance.class) {
+      log.info("Loading instances reference data snapshot");
+      return ReferenceDataSnapshot.builder()
+        .instanceStatuses(Dictionary.of(loadAll(instanceStatusesClient::getInstanceStatuses, InstanceStatuses::getStatuses), InstanceStatus::getId, InstanceStatus::getName))
+        .modesOfIssuance(Dictionary.of(loadAll(modesOfIssuanceClient::getModesOfIssuance, ModesOfIssuance::getModes), ModeOfIssuance::getId, ModeOfIssuance::getName))
+        .instanceTypes(Dictionary.of(loadAll(instanceTypesClient::getInstanceTypes, InstanceTypes::getTypes), InstanceType::getId, InstanceType::getName))
+        .natureOfContentTerms(Dictionary.of(loadAll(natureOfContentTermsClient::getNatureOfContentTerms, NatureOfContentTerms::getTerms), NatureOfContentTerm::getId, NatureOfContentTerm::getName))
+        .instanceFormats(Dictionary.of(loadAll(instanceFormatsClient::getInstanceFormats, InstanceFormats::getFormats), InstanceFormat::getId, InstanceFormat::getName))
+        .build();
+    }
+    return ReferenceDataSnapshot.EMPTY;
+  }
+
+  private Dictionary<ItemLocation> loadLocations() {
+    return Dictionary.ofUniqueNames(loadAll(locationClient::getLocations, ItemLocationCollection::getLocations), ItemLocation::getId, ItemLocation::getName);
+  }
+
+  private Dictionary<CallNumberType> loadCallNumberTypes() {
+    return Dictionary.of(loadAll(callNumberTypeClient::getCallNumberTypes, CallNumberTypeCollection::getCallNumberTypes), CallNumberType::getId, CallNumberType::getName);
+  }
+
+  private List<StatisticalCode> loadStatisticalCodes() {
+    return loadAll(statisticalCodeClient::getStatisticalCodes, StatisticalCodeCollection::getStatisticalCodes);
+  }
+
+  private <C, T> List<T> loadAll(BiFunction<Integer, Integer, C> pageLoader, Function<C, List<T>> valuesExtractor) {
+    var result = new ArrayList<T>();
+    var offset = 0;
+    List<T> page;
+    do {
+      var collection = pageLoader.apply(offset, PAGE_SIZE);
+      page = isNull(collection) ? null : valuesExtractor.apply(collection);
+      if (isNull(page)) {
+        break;
+      }
+      result.addAll(page);
+      offset += PAGE_SIZE;
+    } while (page.size() == PAGE_SIZE);
+    return result;
+  }
+}
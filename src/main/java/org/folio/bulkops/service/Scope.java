@@ -0,0 +1,10 @@
+package org.folio.bulkops.service;
+
+/**
+ * Thread or operation bound state activated for the duration of a bulk operation step and released when closed.
+ * Unlike {@link AutoCloseable}, closing never throws checked exceptions.
+ */
+public interface Scope extends AutoCloseable {
+  @Override
+  void close();
+}
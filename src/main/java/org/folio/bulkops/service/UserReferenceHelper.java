@@ -11,6 +11,10 @@ import org.springframework.stereotype.Service;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 
+/**
+ * Resolves user reference data from the {@link ReferenceDataSnapshot} of the current bulk operation step before
+ * the cached lookups of {@link UserReferenceService}.
+ */
 @Service
 @RequiredArgsConstructor
 @Log4j2
@@ -18,27 +22,33 @@ public class UserReferenceHelper implements InitializingBean {
   private final UserReferenceService userReferenceService;
 
   public AddressType getAddressTypeByAddressTypeValue(String addressTypeValue) {
-    return userReferenceService.getAddressTypeByAddressTypeValue(addressTypeValue);
+    return ReferenceDataSnapshot.current().flatMap(snapshot -> snapshot.getAddressTypes().findByName(addressTypeValue))
+      .orElseGet(() -> userReferenceService.getAddressTypeByAddressTypeValue(addressTypeValue));
   }
 
   public AddressType getAddressTypeById(String id) {
-    return userReferenceService.getAddressTypeById(id);
+    return ReferenceDataSnapshot.current().flatMap(snapshot -> snapshot.getAddressTypes().findById(id))
+      .orElseGet(() -> userReferenceService.getAddressTypeById(id));
   }
 
   public Department getDepartmentById(String id) {
-    return userReferenceService.getDepartmentById(id);
+    return ReferenceDataSnapshot.current().flatMap(snapshot -> snapshot.getDepartments().findById(id))
+      .orElseGet(() -> userReferenceService.getDepartmentById(id));
   }
 
   public Department getDepartmentByName(String name) {
-    return userReferenceService.getDepartmentByName(name);
+    return ReferenceDataSnapshot.current().flatMap(snapshot -> snapshot.getDepartments().findByName(name))
+      .orElseGet(() -> userReferenceService.getDepartmentByName(name));
   }
 
   public UserGroup getPatronGroupById(String id) {
-    return userReferenceService.getPatronGroupById(id);
+    return ReferenceDataSnapshot.current().flatMap(snapshot -> snapshot.getPatronGroups().findById(id))
+      .orElseGet(() -> userReferenceService.getPatronGroupById(id));
   }
 
   public UserGroup getPatronGroupByName(String name) {
-    return userReferenceService.getPatronGroupByName(name);
+    return ReferenceDataSnapshot.current().flatMap(snapshot -> snapshot.getPatronGroups().findByName(name))
+      .orElseGet(() -> userReferenceService.getPatronGroupByName(name));
   }
 
   public CustomField getCustomFieldByRefId(String refId) {
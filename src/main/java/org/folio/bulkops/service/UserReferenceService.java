@@ -1,13 +1,16 @@
 package org.folio.bulkops.service;
 
 import static java.lang.String.format;
+import static org.folio.bulkops.util.Constants.OR_DELIMITER;
 import static org.folio.bulkops.util.Constants.QUERY_PATTERN_ADDRESS_TYPE;
 import static org.folio.bulkops.util.Constants.QUERY_PATTERN_GROUP;
+import static org.folio.bulkops.util.Constants.QUERY_PATTERN_IDS;
 import static org.folio.bulkops.util.Constants.QUERY_PATTERN_NAME;
 import static org.folio.bulkops.util.Constants.QUERY_PATTERN_REF_ID;
 import static org.folio.bulkops.util.Utils.encode;
 
 import java.net.URI;
+import java.util.List;
 
 import org.apache.commons.lang3.ObjectUtils;
 import org.folio.bulkops.client.AddressTypeClient;
@@ -15,10 +18,12 @@ import org.folio.bulkops.client.CustomFieldsClient;
 import org.folio.bulkops.client.DepartmentClient;
 import org.folio.bulkops.client.GroupClient;
 import org.folio.bulkops.client.OkapiClient;
+import org.folio.bulkops.client.UserClient;
 import org.folio.bulkops.domain.bean.AddressType;
 import org.folio.bulkops.domain.bean.CustomField;
 import org.folio.bulkops.domain.bean.Department;
 import org.folio.bulkops.domain.bean.PreferredContactType;
+import org.folio.bulkops.domain.bean.User;
 import org.folio.bulkops.domain.bean.UserGroup;
 import org.folio.bulkops.exception.NotFoundException;
 import org.folio.spring.FolioExecutionContext;
@@ -41,8 +46,9 @@ public class UserReferenceService {
   private final CustomFieldsClient customFieldsClient;
   private final FolioExecutionContext folioExecutionContext;
   private final OkapiClient okapiClient;
+  private final UserClient userClient;
 
-  @Cacheable(cacheNames = "addressTypeIds")
+  @Cacheable(cacheNames = "addressTypeIds", sync = true)
   public AddressType getAddressTypeByAddressTypeValue(String addressTypeValue) {
     var response = addressTypeClient.getByQuery(String.format(QUERY_PATTERN_ADDRESS_TYPE, encode(addressTypeValue)));
     if (response.getAddressTypes().isEmpty()) {
@@ -51,25 +57,25 @@ public class UserReferenceService {
     return response.getAddressTypes().get(0);
   }
 
-  @Cacheable(cacheNames = "addressTypeDesc")
+  @Cacheable(cacheNames = "addressTypeDesc", sync = true)
   public AddressType getAddressTypeById(String id) {
     try {
       return addressTypeClient.getAddressTypeById(id);
-    } catch (Exception e) {
+    } catch (NotFoundException e) {
       throw new NotFoundException(format("Address type was not found by id=%s", id));
     }
   }
 
-  @Cacheable(cacheNames = "departmentNames")
+  @Cacheable(cacheNames = "departmentNames", sync = true)
   public Department getDepartmentById(String id) {
     try {
       return departmentClient.getDepartmentById(id);
-    } catch (Exception e) {
+    } catch (NotFoundException e) {
       throw new NotFoundException(format("Department was not found by id=%s", id));
     }
   }
 
-  @Cacheable(cacheNames = "departmentIds")
+  @Cacheable(cacheNames = "departmentIds", sync = true)
   public Department getDepartmentByName(String name) {
     var response = departmentClient.getByQuery(String.format(QUERY_PATTERN_NAME, encode(name)));
     if (response.getDepartments().isEmpty()) {
@@ -78,16 +84,16 @@ public class UserReferenceService {
     return response.getDepartments().get(0);
   }
 
-  @Cacheable(cacheNames = "patronGroupNames")
+  @Cacheable(cacheNames = "patronGroupNames", sync = true)
   public UserGroup getPatronGroupById(String id) {
     try {
       return groupClient.getGroupById(id);
-    } catch (Exception e) {
+    } catch (NotFoundException e) {
       throw new NotFoundException(format("Patron group was not found by id=%s", id));
     }
   }
 
-  @Cacheable(cacheNames = "patronGroupIds")
+  @Cacheable(cacheNames = "patronGroupIds", sync = true)
   public UserGroup getPatronGroupByName(String name) {
     var response = groupClient.getByQuery(String.format(QUERY_PATTERN_GROUP, encode(name)));
     if (ObjectUtils.isEmpty(response) || ObjectUtils.isEmpty(response.getUsergroups())) {
@@ -97,7 +103,7 @@ public class UserReferenceService {
   }
 
 
-  @Cacheable(cacheNames = "customFields")
+  @Cacheable(cacheNames = "customFields", sync = true)
   public CustomField getCustomFieldByName(String name)  {
     return customFieldsClient.getByQuery(getModuleId(MOD_USERS), format(QUERY_PATTERN_NAME, encode(name)))
       .getCustomFields().stream().filter(customField -> customField.getName().equals(name))
@@ -105,14 +111,14 @@ public class UserReferenceService {
       .orElseThrow(() -> new NotFoundException(format("Custom field with name=%s not found", name)));
   }
 
-  @Cacheable(cacheNames = "customFields")
+  @Cacheable(cacheNames = "customFields", sync = true)
   public CustomField getCustomFieldByRefId(String refId) {
     return customFieldsClient.getByQuery(getModuleId(MOD_USERS), format(QUERY_PATTERN_REF_ID, encode(refId)))
       .getCustomFields().stream().filter(customField -> customField.getRefId().equals(refId)).findFirst()
       .orElseThrow(() -> new NotFoundException(format("Custom field with refId=%s not found", refId)));
   }
 
-  @Cacheable(cacheNames = "moduleIds")
+  @Cacheable(cacheNames = "moduleIds", sync = true)
   public String getModuleId(String moduleName) {
     var tenantId = folioExecutionContext.getTenantId();
     var moduleNamesJson = okapiClient.getModuleIds(URI.create(OKAPI_URL), tenantId, moduleName);
@@ -129,4 +135,13 @@ public class UserReferenceService {
     }
     throw new NotFoundException(format("Invalid Preferred contact value: %s", id));
   }
+
+  /**
+   * Fetches users by ids with a single "id==(a or b ...)" query, so the number of ids has to be limited by caller.
+   */
+  @Cacheable(cacheNames = "usersByIds", sync = true)
+  public List<User> getUsersByIds(List<String> ids) {
+    return ids.isEmpty() ? List.of() :
+      userClient.getByQuery(format(QUERY_PATTERN_IDS, String.join(OR_DELIMITER, ids)), ids.size()).getUsers();
+  }
 }
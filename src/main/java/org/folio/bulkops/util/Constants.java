@@ -35,10 +35,13 @@ public class Constants {
   public static final String BULK_EDIT_CONFIGURATIONS_QUERY_TEMPLATE = "module==%s and configName==%s";
   public static final String QUERY_PATTERN_CODE = "code==%s";
   public static final String QUERY_PATTERN_USERNAME = "username==%s";
+  public static final String QUERY_PATTERN_IDS = "id==(%s)";
+  public static final String OR_DELIMITER = " or ";
   public static final String QUERY_PATTERN_ADDRESS_TYPE = "addressType==%s";
   public static final String QUERY_PATTERN_GROUP = "group==%s";
   public static final String QUERY_PATTERN_REF_ID = "refId==%s";
   public static final String FIELD_ERROR_MESSAGE_PATTERN = "Field \"%s\" : %s";
+  public static final String CSV_LINE_ERROR_MESSAGE_PATTERN = "%s (line %d)";
   public static final String MSG_NO_CHANGE_REQUIRED = "No change in value required";
   public static final String MSG_HOLDING_NO_CHANGE_REQUIRED_UNSUPPRESSED_ITEMS_UPDATED = "No change in value for holdings record required, associated unsuppressed item(s) have been updated.";
   public static final String MSG_HOLDING_NO_CHANGE_REQUIRED_SUPPRESSED_ITEMS_UPDATED = "No change in value for holdings record required, associated suppressed item(s) have been updated.";
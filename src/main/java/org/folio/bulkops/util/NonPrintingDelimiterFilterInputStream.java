@@ -0,0 +1,60 @@
+package org.folio.bulkops.util;
+
+import static org.folio.bulkops.util.Constants.NON_PRINTING_DELIMITER;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Skips {@link Constants#NON_PRINTING_DELIMITER} bytes while reading, replaces removal from the fully loaded content.
+ */
+public class NonPrintingDelimiterFilterInputStream extends FilterInputStream {
+  private static final byte DELIMITER = (byte) NON_PRINTING_DELIMITER;
+
+  public NonPrintingDelimiterFilterInputStream(InputStream in) {
+    super(in);
+  }
+
+  @Override
+  public int read() throws IOException {
+    int b;
+    do {
+      b = super.read();
+    } while (b == DELIMITER);
+    return b;
+  }
+
+  @Override
+  public int read(byte[] b, int off, int len) throws IOException {
+    int read;
+    int count;
+    do {
+      read = super.read(b, off, len);
+      if (read <= 0) {
+        return read;
+      }
+      count = 0;
+      for (var i = off; i < off + read; i++) {
+        if (b[i] != DELIMITER) {
+          b[off + count++] = b[i];
+        }
+      }
+    } while (count == 0);
+    return count;
+  }
+
+  @Override
+  public long skip(long n) throws IOException {
+    var skipped = 0L;
+    while (skipped < n && read() != -1) {
+      skipped++;
+    }
+    return skipped;
+  }
+
+  @Override
+  public boolean markSupported() {
+    return false;
+  }
+}
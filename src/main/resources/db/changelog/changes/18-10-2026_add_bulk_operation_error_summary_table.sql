@@ -0,0 +1,10 @@
+CREATE TABLE IF NOT EXISTS bulk_operation_error_summary (
+  id UUID PRIMARY KEY,
+  bulk_operation_id UUID NOT NULL,
+  message TEXT NOT NULL,
+  error_count INTEGER NOT NULL DEFAULT 0,
+  sample_identifiers JSONB NOT NULL DEFAULT '[]'::jsonb,
+  constraint fk_error_summary_to_operation foreign key (bulk_operation_id)
+    references bulk_operation(id) ON DELETE CASCADE,
+  constraint uq_error_summary_operation_message unique (bulk_operation_id, message)
+);
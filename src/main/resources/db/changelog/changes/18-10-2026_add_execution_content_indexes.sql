@@ -0,0 +1,13 @@
+CREATE INDEX CONCURRENTLY IF NOT EXISTS bulk_operation_execution_content_operation_id_identifier_idx
+  ON bulk_operation_execution_content (bulk_operation_id, identifier);
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS bulk_operation_execution_content_operation_id_errors_idx
+  ON bulk_operation_execution_content (bulk_operation_id)
+  WHERE error_message IS NOT NULL;
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS bulk_operation_processing_content_operation_id_idx
+  ON bulk_operation_processing_content (bulk_operation_id);
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS bulk_operation_processing_content_operation_id_errors_idx
+  ON bulk_operation_processing_content (bulk_operation_id)
+  WHERE error_message IS NOT NULL;
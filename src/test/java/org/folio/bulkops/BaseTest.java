@@ -50,7 +50,9 @@ import org.folio.bulkops.client.MaterialTypeClient;
 import org.folio.bulkops.client.ModesOfIssuanceClient;
 import org.folio.bulkops.client.NatureOfContentTermsClient;
 import org.folio.bulkops.client.OkapiClient;
+import org.folio.bulkops.client.LocalFileCache;
 import org.folio.bulkops.client.RemoteFileSystemClient;
+import org.folio.bulkops.client.S3FileStorage;
 import org.folio.bulkops.client.ServicePointClient;
 import org.folio.bulkops.client.StatisticalCodeClient;
 import org.folio.bulkops.client.UserClient;
@@ -121,14 +123,14 @@ public abstract class BaseTest {
     s3.start();
     MINIO_ENDPOINT = format("http://%s:%s", s3.getHost(), s3.getFirstMappedPort());
     client =
-        new RemoteFileSystemClient(S3ClientFactory.getS3Client(S3ClientProperties.builder()
+        new RemoteFileSystemClient(new S3FileStorage(S3ClientFactory.getS3Client(S3ClientProperties.builder()
             .endpoint(MINIO_ENDPOINT)
             .secretKey(S3_SECRET_KEY)
             .accessKey(S3_ACCESS_KEY)
             .bucket(BUCKET)
             .awsSdk(false)
             .region(REGION)
-            .build()));
+            .build())), LocalFileCache.disabled());
   }
 
   public static LocalDateTimeDeserializer localDateTimeDeserializer = new LocalDateTimeDeserializer(DateTimeFormatter.ofPattern(DATE_TIME_FORMAT));
@@ -0,0 +1,136 @@
+package org.folio.bulkops.client;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import lombok.SneakyThrows;
+
+class LocalFileCacheTest {
+
+  @TempDir
+  private Path directory;
+  private LocalFileCache cache;
+  private Function<String, InputStream> loader;
+
+  @BeforeEach
+  @SuppressWarnings("unchecked")
+  void setUp() {
+    cache = new LocalFileCache(directory, 10);
+    loader = mock(Function.class);
+  }
+
+  @Test
+  @SneakyThrows
+  void shouldLoadFileOnce() {
+    when(loader.apply("a")).thenAnswer(invocation -> content("12345"));
+
+    assertThat(read(cache.get("a", loader))).isEqualTo("12345");
+    assertThat(read(cache.get("a", loader))).isEqualTo("12345");
+
+    verify(loader, times(1)).apply("a");
+  }
+
+  @Test
+  @SneakyThrows
+  void shouldReadUploadedFileWithoutLoading() {
+    cache.put("a", file("12345"));
+
+    assertThat(read(cache.get("a", loader))).isEqualTo("12345");
+
+    verify(loader, times(0)).apply("a");
+  }
+
+  @Test
+  @SneakyThrows
+  void shouldEvictLeastRecentlyUsedFiles() {
+    cache.put("a", file("1234"));
+    cache.put("b", file("1234"));
+    read(cache.get("a", loader));
+    cache.put("c", file("1234"));
+    when(loader.apply("b")).thenAnswer(invocation -> content("loaded"));
+
+    assertThat(read(cache.get("a", loader))).isEqualTo("1234");
+    assertThat(read(cache.get("c", loader))).isEqualTo("1234");
+    assertThat(read(cache.get("b", loader))).isEqualTo("loaded");
+    try (var files = Files.list(directory)) {
+      assertThat(files.mapToLong(this::size).sum()).isLessThanOrEqualTo(10);
+    }
+  }
+
+  @Test
+  @SneakyThrows
+  void shouldNotCacheFileLargerThanMaxSize() {
+    when(loader.apply("a")).thenAnswer(invocation -> content("12345678901"));
+
+    assertThat(read(cache.get("a", loader))).isEqualTo("12345678901");
+    assertThat(read(cache.get("a", loader))).isEqualTo("12345678901");
+
+    verify(loader, times(2)).apply("a");
+    try (var files = Files.list(directory)) {
+      assertThat(files).isEmpty();
+    }
+  }
+
+  @Test
+  @SneakyThrows
+  void shouldReplaceAndRemoveFiles() {
+    cache.put("a", file("old"));
+    cache.put("a", file("new"));
+
+    assertThat(read(cache.get("a", loader))).isEqualTo("new");
+
+    cache.remove("a");
+    when(loader.apply("a")).thenAnswer(invocation -> content("loaded"));
+
+    assertThat(read(cache.get("a", loader))).isEqualTo("loaded");
+  }
+
+  @Test
+  @SneakyThrows
+  void shouldNotCacheWhenDisabled() {
+    when(loader.apply("a")).thenAnswer(invocation -> content("12345"));
+    var disabled = LocalFileCache.disabled();
+
+    read(disabled.get("a", loader));
+    read(disabled.get("a", loader));
+
+    verify(loader, times(2)).apply("a");
+  }
+
+  private InputStream content(String content) {
+    return new ByteArrayInputStream(content.getBytes(UTF_8));
+  }
+
+  @SneakyThrows
+  private Path file(String content) {
+    var file = cache.createTempFile();
+    Files.writeString(file, content);
+    return file;
+  }
+
+  @SneakyThrows
+  private String read(InputStream inputStream) {
+    try (inputStream) {
+      return new String(inputStream.readAllBytes(), UTF_8);
+    }
+  }
+
+  @SneakyThrows
+  private long size(Path file) {
+    return Files.size(file);
+  }
+}
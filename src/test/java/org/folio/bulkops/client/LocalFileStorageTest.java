@@ -0,0 +1,101 @@
+package org.folio.bulkops.client;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayInputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import lombok.SneakyThrows;
+
+class LocalFileStorageTest {
+
+  @TempDir
+  private Path directory;
+  private LocalFileStorage storage;
+
+  @BeforeEach
+  void setUp() {
+    storage = new LocalFileStorage(directory);
+  }
+
+  @Test
+  @SneakyThrows
+  void shouldWriteAndReadFile() {
+    storage.write("operation/json/records.json", new ByteArrayInputStream("content".getBytes(UTF_8)));
+
+    try (var inputStream = storage.read("operation/json/records.json")) {
+      assertThat(inputStream.readAllBytes()).asString(UTF_8).isEqualTo("content");
+    }
+    assertThat(directory.resolve("operation/json")).isDirectoryContaining(path -> path.endsWith("records.json"));
+  }
+
+  @Test
+  @SneakyThrows
+  void shouldUploadAndReplaceFile(@TempDir Path source) {
+    var file = Files.writeString(source.resolve("upload.csv"), "a,b\n".repeat(10000));
+    storage.write("operation/file.csv", new ByteArrayInputStream("old".getBytes(UTF_8)));
+
+    storage.upload("operation/file.csv", file);
+
+    try (var inputStream = storage.read("operation/file.csv")) {
+      assertThat(inputStream.readAllBytes()).isEqualTo(Files.readAllBytes(file));
+    }
+    assertThat(file).exists();
+    try (var files = Files.list(directory.resolve("operation"))) {
+      assertThat(files).hasSize(1);
+    }
+  }
+
+  @Test
+  void shouldRemoveFiles() {
+    storage.write("a.csv", new ByteArrayInputStream(new byte[0]));
+    storage.write("b.csv", new ByteArrayInputStream(new byte[0]));
+
+    storage.remove("a.csv", "b.csv", "missing.csv");
+
+    assertThat(directory).isEmptyDirectory();
+    assertThatThrownBy(() -> storage.read("a.csv")).isInstanceOf(UncheckedIOException.class);
+  }
+
+  @Test
+  void shouldRejectPathOutsideOfDirectory() {
+    var content = new ByteArrayInputStream(new byte[0]);
+
+    assertThatThrownBy(() -> storage.write("../outside.csv", content))
+      .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void shouldNotSupportPresignedUrls() {
+    assertThat(storage.isPresignedUrlSupported()).isFalse();
+    assertThatThrownBy(() -> storage.getPresignedUrl("operation/file.csv"))
+      .isInstanceOf(UnsupportedOperationException.class);
+  }
+
+  @Test
+  @SneakyThrows
+  void shouldStoreFilesOfRemoteFileSystemClient() {
+    var client = new RemoteFileSystemClient(storage, LocalFileCache.disabled());
+    ReflectionTestUtils.setField(client, "compression", StorageCompression.GZIP);
+
+    try (var writer = client.writer("operation/json/records.json")) {
+      writer.write("content");
+    }
+    client.putForDownload(new ByteArrayInputStream("id\n".getBytes(UTF_8)), "operation/file.csv");
+
+    try (var inputStream = client.get("operation/json/records.json")) {
+      assertThat(inputStream.readAllBytes()).asString(UTF_8).isEqualTo("content");
+    }
+    assertThat(directory.resolve("operation/file.csv")).hasContent("id");
+    assertThat(client.getNumOfLines("operation/file.csv")).isEqualTo(1);
+  }
+}
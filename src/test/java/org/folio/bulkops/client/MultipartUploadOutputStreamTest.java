@@ -0,0 +1,156 @@
+package org.folio.bulkops.client;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import lombok.SneakyThrows;
+
+class MultipartUploadOutputStreamTest {
+
+  private final ExecutorService executor = Executors.newCachedThreadPool();
+  private final InMemoryFileStorage fileStorage = new InMemoryFileStorage();
+
+  @AfterEach
+  void tearDown() {
+    executor.shutdownNow();
+  }
+
+  @Test
+  @SneakyThrows
+  void shouldWriteContentSmallerThanPartWithoutMultipartUpload() {
+    try (var outputStream = new MultipartUploadOutputStream(fileStorage, "file.csv", 16, 2, executor)) {
+      outputStream.write("id,title".getBytes(UTF_8));
+    }
+
+    assertThat(fileStorage.files).containsEntry("file.csv", "id,title");
+    assertThat(fileStorage.multipartUploads).hasValue(0);
+  }
+
+  @Test
+  @SneakyThrows
+  void shouldUploadPartsInOrderWithBoundedParallelism() {
+    fileStorage.partDelayMillis = 5;
+    var content = new StringBuilder();
+    try (var outputStream = new MultipartUploadOutputStream(fileStorage, "file.csv", 16, 2, executor)) {
+      for (var i = 0; i < 100; i++) {
+        var line = "line " + i + "\n";
+        content.append(line);
+        outputStream.write(line.getBytes(UTF_8));
+        outputStream.write('#');
+        content.append('#');
+      }
+    }
+
+    assertThat(fileStorage.files).containsEntry("file.csv", content.toString());
+    assertThat(fileStorage.multipartUploads).hasValue(1);
+    assertThat(fileStorage.maxConcurrentParts).hasValueBetween(1, 2);
+  }
+
+  @Test
+  void shouldAbortUploadWhenPartFails() {
+    fileStorage.failingPart = 2;
+    var outputStream = new MultipartUploadOutputStream(fileStorage, "file.csv", 4, 2, executor);
+
+    assertThatThrownBy(() -> {
+      try (outputStream) {
+        outputStream.write("0123456789".getBytes(UTF_8));
+      }
+    }).isInstanceOf(IOException.class).hasRootCauseMessage("Part 2 failed");
+    assertThat(fileStorage.aborted).hasValue(1);
+    assertThat(fileStorage.files).doesNotContainKey("file.csv");
+  }
+
+  private static class InMemoryFileStorage implements FileStorage {
+    private final Map<String, String> files = new ConcurrentHashMap<>();
+    private final AtomicInteger multipartUploads = new AtomicInteger();
+    private final AtomicInteger aborted = new AtomicInteger();
+    private final AtomicInteger concurrentParts = new AtomicInteger();
+    private final AtomicInteger maxConcurrentParts = new AtomicInteger();
+    private long partDelayMillis;
+    private int failingPart;
+
+    @Override
+    @SneakyThrows
+    public String write(String path, InputStream inputStream) {
+      files.put(path, new String(inputStream.readAllBytes(), UTF_8));
+      return path;
+    }
+
+    @Override
+    public String upload(String path, Path file) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public InputStream read(String path) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void remove(String... paths) {
+      Arrays.stream(paths).forEach(files::remove);
+    }
+
+    @Override
+    public String getPresignedUrl(String path) {
+      return path;
+    }
+
+    @Override
+    public boolean isMultipartUploadSupported() {
+      return true;
+    }
+
+    @Override
+    public MultipartUpload createMultipartUpload(String path) {
+      multipartUploads.incrementAndGet();
+      var parts = new ConcurrentHashMap<String, byte[]>();
+      return new MultipartUpload() {
+        @Override
+        @SneakyThrows
+        public String uploadPart(int partNumber, byte[] part, int length) {
+          maxConcurrentParts.accumulateAndGet(concurrentParts.incrementAndGet(), Math::max);
+          try {
+            Thread.sleep(partDelayMillis);
+            if (partNumber == failingPart) {
+              throw new IllegalStateException("Part " + partNumber + " failed");
+            }
+            var tag = "tag-" + partNumber;
+            parts.put(tag, Arrays.copyOf(part, length));
+            return tag;
+          } finally {
+            concurrentParts.decrementAndGet();
+          }
+        }
+
+        @Override
+        public void complete(List<String> partTags) {
+          var content = new ByteArrayOutputStream();
+          partTags.forEach(tag -> content.writeBytes(parts.get(tag)));
+          files.put(path, content.toString(UTF_8));
+        }
+
+        @Override
+        public void abort() {
+          aborted.incrementAndGet();
+        }
+      };
+    }
+  }
+}
@@ -0,0 +1,141 @@
+package org.folio.bulkops.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import lombok.SneakyThrows;
+
+class ReadAheadInputStreamTest {
+
+  private final ExecutorService executor = Executors.newCachedThreadPool();
+  private final byte[] content = new byte[1000];
+  private final RangedFileStorage fileStorage = new RangedFileStorage();
+
+  {
+    new Random(42).nextBytes(content);
+  }
+
+  @AfterEach
+  void tearDown() {
+    executor.shutdownNow();
+  }
+
+  @Test
+  @SneakyThrows
+  void shouldReadFileInChunksWithBoundedParallelism() {
+    fileStorage.delayMillis = 2;
+    var result = new ByteArrayOutputStream();
+    try (var inputStream = new ReadAheadInputStream(fileStorage, "file.json", content.length, 64, 3, executor)) {
+      var buffer = new byte[50];
+      for (var i = 0; ; i++) {
+        if (i % 2 == 0) {
+          var b = inputStream.read();
+          if (b == -1) {
+            break;
+          }
+          result.write(b);
+        } else {
+          var count = inputStream.read(buffer, 0, buffer.length);
+          if (count == -1) {
+            break;
+          }
+          result.write(buffer, 0, count);
+        }
+      }
+    }
+
+    assertThat(result.toByteArray()).isEqualTo(content);
+    assertThat(fileStorage.reads).hasValue(16);
+    assertThat(fileStorage.maxConcurrentReads).hasValueBetween(1, 3);
+  }
+
+  @Test
+  @SneakyThrows
+  void shouldReadEmptyFile() {
+    try (var inputStream = new ReadAheadInputStream(fileStorage, "file.json", 0, 64, 3, executor)) {
+      assertThat(inputStream.read()).isEqualTo(-1);
+    }
+  }
+
+  @Test
+  void shouldFailWhenChunkFails() {
+    fileStorage.failingOffset = 128;
+    var inputStream = new ReadAheadInputStream(fileStorage, "file.json", content.length, 64, 2, executor);
+
+    assertThatThrownBy(inputStream::readAllBytes)
+      .isInstanceOf(IOException.class)
+      .hasMessage("Range from 128 failed");
+  }
+
+  private class RangedFileStorage implements FileStorage {
+    private final AtomicInteger reads = new AtomicInteger();
+    private final AtomicInteger concurrentReads = new AtomicInteger();
+    private final AtomicInteger maxConcurrentReads = new AtomicInteger();
+    private long delayMillis;
+    private long failingOffset = -1;
+
+    @Override
+    public String write(String path, InputStream inputStream) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public String upload(String path, Path file) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public InputStream read(String path) {
+      return new ByteArrayInputStream(content);
+    }
+
+    @Override
+    public void remove(String... paths) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public String getPresignedUrl(String path) {
+      return path;
+    }
+
+    @Override
+    public boolean isRangedReadSupported() {
+      return true;
+    }
+
+    @Override
+    public long size(String path) {
+      return content.length;
+    }
+
+    @Override
+    @SneakyThrows
+    public InputStream read(String path, long offset, long length) {
+      reads.incrementAndGet();
+      maxConcurrentReads.accumulateAndGet(concurrentReads.incrementAndGet(), Math::max);
+      try {
+        Thread.sleep(delayMillis);
+        if (offset == failingOffset) {
+          throw new IOException("Range from " + offset + " failed");
+        }
+        return new ByteArrayInputStream(content, (int) offset, (int) length);
+      } finally {
+        concurrentReads.decrementAndGet();
+      }
+    }
+  }
+}
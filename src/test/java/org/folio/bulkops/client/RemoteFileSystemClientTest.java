@@ -1,15 +1,24 @@
 package org.folio.bulkops.client;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.concurrent.Executors;
 
 import org.apache.commons.io.IOUtils;
 import org.folio.bulkops.BaseTest;
 import org.folio.bulkops.configs.RemoteRepositoryConfig;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.unit.DataSize;
 
 import lombok.SneakyThrows;
 import lombok.extern.log4j.Log4j2;
@@ -19,6 +28,10 @@ class RemoteFileSystemClientTest extends BaseTest {
 
   private static final String INITIAL_FILE = "initial.txt";
   private static final String WRONG_FILE = "wrong.txt";
+  private static final String BINARY_FILE = "binary.smile";
+  private static final String COMPRESSED_FILE = "compressed.csv";
+  private static final String CACHED_FILE = "cached.csv";
+  private static final String MULTIPART_FILE = "multipart.json";
 
   @Autowired
   private RemoteFileSystemClient remoteFileSystemClient;
@@ -26,6 +39,9 @@ class RemoteFileSystemClientTest extends BaseTest {
   @Autowired
   private RemoteRepositoryConfig remoteRepositoryConfig;
 
+  @Autowired
+  private FileStorage fileStorage;
+
   @SneakyThrows
   @Test
   void shouldRetrieveInitialContentAfterGetAndUpdateAfterPut() {
@@ -38,6 +54,77 @@ class RemoteFileSystemClientTest extends BaseTest {
     assertEquals("updated content", IOUtils.toString(content, StandardCharsets.UTF_8).trim());
   }
 
+  @SneakyThrows
+  @Test
+  void shouldUploadOutputStreamContentOnClose() {
+    var content = new byte[] {'B', 0, 1, (byte) 0xFF};
+    try (var outputStream = client.outputStream(BINARY_FILE)) {
+      outputStream.write(content);
+    }
+    assertArrayEquals(content, client.get(BINARY_FILE).readAllBytes());
+  }
+
+  @Test
+  void shouldRejectMultipartUploadPartSizeBelowS3Minimum() {
+    var multipartClient = new RemoteFileSystemClient(client.fileStorage, LocalFileCache.disabled());
+    ReflectionTestUtils.setField(multipartClient, "multipartUploadEnabled", true);
+    ReflectionTestUtils.setField(multipartClient, "multipartUploadPartSize", DataSize.ofMegabytes(4));
+
+    assertThrows(IllegalStateException.class, multipartClient::validateMultipartUploadPartSize);
+
+    ReflectionTestUtils.setField(multipartClient, "multipartUploadPartSize", DataSize.ofMegabytes(5));
+    multipartClient.validateMultipartUploadPartSize();
+  }
+
+  @SneakyThrows
+  @Test
+  void shouldCompressStoredFilesExceptDownloads() {
+    var compressingClient = new RemoteFileSystemClient(client.fileStorage, LocalFileCache.disabled());
+    ReflectionTestUtils.setField(compressingClient, "compression", StorageCompression.GZIP);
+    var content = "id,title\n".repeat(1000);
+
+    compressingClient.put(IOUtils.toInputStream(content, StandardCharsets.UTF_8), COMPRESSED_FILE);
+    compressingClient.putForDownload(IOUtils.toInputStream(content, StandardCharsets.UTF_8), INITIAL_FILE);
+
+    assertEquals(content, IOUtils.toString(compressingClient.get(COMPRESSED_FILE), StandardCharsets.UTF_8));
+    assertEquals(content, IOUtils.toString(client.get(COMPRESSED_FILE), StandardCharsets.UTF_8));
+    assertTrue(client.fileStorage.read(COMPRESSED_FILE).readAllBytes().length < content.length() / 10);
+    assertEquals(content, IOUtils.toString(client.fileStorage.read(INITIAL_FILE), StandardCharsets.UTF_8));
+  }
+
+  @SneakyThrows
+  @Test
+  void shouldReadWrittenFilesFromLocalCache(@TempDir Path cacheDirectory) {
+    var cachingClient = new RemoteFileSystemClient(client.fileStorage, new LocalFileCache(cacheDirectory, 1024));
+    cachingClient.putForDownload(IOUtils.toInputStream("content", StandardCharsets.UTF_8), CACHED_FILE);
+    client.fileStorage.remove(CACHED_FILE);
+
+    assertEquals("content", IOUtils.toString(cachingClient.get(CACHED_FILE), StandardCharsets.UTF_8));
+
+    cachingClient.remove(CACHED_FILE);
+
+    assertThrows(Exception.class, () -> cachingClient.get(CACHED_FILE));
+  }
+
+  @SneakyThrows
+  @Test
+  void shouldUploadAndReadFileInParts() {
+    var content = new byte[11 * 1024 * 1024];
+    new Random(42).nextBytes(content);
+    var executor = Executors.newCachedThreadPool();
+    try (var outputStream = new MultipartUploadOutputStream(fileStorage, MULTIPART_FILE, 5 * 1024 * 1024, 2, executor)) {
+      outputStream.write(content);
+    }
+
+    assertArrayEquals(content, client.get(MULTIPART_FILE).readAllBytes());
+    try (var inputStream = new ReadAheadInputStream(fileStorage, MULTIPART_FILE, fileStorage.size(MULTIPART_FILE),
+      2 * 1024 * 1024, 3, executor)) {
+      assertArrayEquals(content, inputStream.readAllBytes());
+    } finally {
+      executor.shutdown();
+    }
+  }
+
   @Test
   void shouldThrowExceptionIfFileNameNotFound() {
     assertThrows(Exception.class, () -> client.get(WRONG_FILE));
@@ -0,0 +1,47 @@
+package org.folio.bulkops.client;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import lombok.SneakyThrows;
+
+class StorageCompressionTest {
+
+  @ParameterizedTest
+  @EnumSource(StorageCompression.class)
+  @SneakyThrows
+  void shouldDecodeContentWrittenWithAnyCompression(StorageCompression compression) {
+    var content = "id,title\n".repeat(1000).getBytes(UTF_8);
+    var stored = new ByteArrayOutputStream();
+    try (var outputStream = compression.encode(stored, 512)) {
+      outputStream.write(content);
+    }
+
+    try (var inputStream = StorageCompression.decode(new ByteArrayInputStream(stored.toByteArray()), 512)) {
+      assertThat(inputStream.readAllBytes()).isEqualTo(content);
+    }
+    if (compression == StorageCompression.GZIP) {
+      assertThat(stored.size()).isLessThan(content.length / 10);
+    }
+  }
+
+  @ParameterizedTest
+  @EnumSource(StorageCompression.class)
+  @SneakyThrows
+  void shouldDecodeShortContent(StorageCompression compression) {
+    var stored = new ByteArrayOutputStream();
+    try (var outputStream = compression.encode(stored, 512)) {
+      outputStream.write('a');
+    }
+
+    try (var inputStream = StorageCompression.decode(new ByteArrayInputStream(stored.toByteArray()), 512)) {
+      assertThat(inputStream.readAllBytes()).containsExactly('a');
+    }
+  }
+}
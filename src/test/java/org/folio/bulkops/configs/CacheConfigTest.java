@@ -0,0 +1,170 @@
+package org.folio.bulkops.configs;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import org.folio.bulkops.client.LocationClient;
+import org.folio.bulkops.domain.bean.ItemLocation;
+import org.folio.bulkops.exception.NotFoundException;
+import org.folio.bulkops.exception.ServerErrorException;
+import org.folio.bulkops.service.ItemReferenceService;
+import org.folio.spring.FolioExecutionContext;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cache.caffeine.CaffeineCache;
+
+import com.github.benmanes.caffeine.cache.Policy;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.SneakyThrows;
+
+class CacheConfigTest {
+  private final AtomicInteger counter = new AtomicInteger();
+
+  public String getValue(String id) {
+    return id + counter.incrementAndGet();
+  }
+
+  @Test
+  @SneakyThrows
+  void shouldSeparateCachedValuesByTenant() {
+    var folioExecutionContext = mock(FolioExecutionContext.class);
+    var cacheConfig = new CacheConfig(new CacheProperties(), folioExecutionContext, emptyProvider());
+    var keyGenerator = cacheConfig.keyGenerator();
+    var cache = cacheConfig.cacheManager().getCache("values");
+    var method = CacheConfigTest.class.getMethod("getValue", String.class);
+
+    when(folioExecutionContext.getTenantId()).thenReturn("diku");
+    var dikuKey = keyGenerator.generate(this, method, "id");
+    var dikuValue = cache.get(dikuKey, () -> getValue("id"));
+
+    when(folioExecutionContext.getTenantId()).thenReturn("college");
+    var collegeKey = keyGenerator.generate(this, method, "id");
+    var collegeValue = cache.get(collegeKey, () -> getValue("id"));
+
+    assertThat(dikuKey).isNotEqualTo(collegeKey);
+    assertThat(dikuValue).isEqualTo("id1");
+    assertThat(collegeValue).isEqualTo("id2");
+    assertThat(cache.get(keyGenerator.generate(this, method, "id"), String.class)).isEqualTo("id2");
+  }
+
+  @Test
+  void shouldApplyPerCacheSettings() {
+    var properties = new CacheProperties();
+    var spec = new CacheProperties.CacheSpec();
+    spec.setExpireAfterWrite(Duration.ofMinutes(10));
+    spec.setMaximumSize(5L);
+    properties.getCaches().put("locations", spec);
+    var cacheManager = new CacheConfig(properties, mock(FolioExecutionContext.class), emptyProvider()).cacheManager();
+
+    var locationsPolicy = ((CaffeineCache) cacheManager.getCache("locations")).getNativeCache().policy();
+    assertThat(locationsPolicy.expireAfterWrite().map(Policy.FixedExpiration::getExpiresAfter)).contains(Duration.ofMinutes(10));
+    assertThat(locationsPolicy.eviction().map(Policy.Eviction::getMaximum)).contains(5L);
+    assertThat(locationsPolicy.isRecordingStats()).isTrue();
+
+    var defaultPolicy = ((CaffeineCache) cacheManager.getCache("other")).getNativeCache().policy();
+    assertThat(defaultPolicy.expireAfterWrite().map(Policy.FixedExpiration::getExpiresAfter)).contains(Duration.ofSeconds(30));
+    assertThat(defaultPolicy.refreshAfterWrite()).isEmpty();
+  }
+
+  @Test
+  void shouldApplyDefaultsNotSetPerCache() {
+    var properties = new CacheProperties();
+    properties.getDefaults().setExpireAfterWrite(Duration.ofMinutes(10));
+    properties.getDefaults().setMaximumSize(1000L);
+    properties.getDefaults().setNotFoundExpireAfterWrite(Duration.ofSeconds(30));
+    var spec = new CacheProperties.CacheSpec();
+    spec.setMaximumSize(10000L);
+    properties.getCaches().put("userIds", spec);
+    var cacheManager = new CacheConfig(properties, mock(FolioExecutionContext.class), emptyProvider()).cacheManager();
+
+    var userIdsPolicy = ((CaffeineCache) cacheManager.getCache("userIds")).getNativeCache().policy();
+    assertThat(userIdsPolicy.expireAfterWrite().map(Policy.FixedExpiration::getExpiresAfter)).contains(Duration.ofMinutes(10));
+    assertThat(userIdsPolicy.eviction().map(Policy.Eviction::getMaximum)).contains(10000L);
+    assertThat(cacheManager.getCache("userIds")).isInstanceOf(NegativeCachingCaffeineCache.class);
+  }
+
+  @Test
+  void shouldCacheNotFoundResults() {
+    var properties = new CacheProperties();
+    properties.getDefaults().setNotFoundExpireAfterWrite(Duration.ofMinutes(1));
+    var cache = new CacheConfig(properties, mock(FolioExecutionContext.class), emptyProvider()).cacheManager().getCache("noteTypeIds");
+    var loads = new AtomicInteger();
+    Callable<String> loader = () -> {
+      loads.incrementAndGet();
+      throw new NotFoundException("Note type was not found by name=Unknown");
+    };
+
+    assertThatThrownBy(() -> cache.get("Unknown", loader)).hasRootCauseInstanceOf(NotFoundException.class);
+    assertThatThrownBy(() -> cache.get("Unknown", loader)).isInstanceOf(NotFoundException.class)
+      .hasMessage("Note type was not found by name=Unknown");
+    assertThat(loads.get()).isEqualTo(1);
+
+    cache.evict("Unknown");
+    assertThatThrownBy(() -> cache.get("Unknown", loader)).hasRootCauseInstanceOf(NotFoundException.class);
+    assertThat(loads.get()).isEqualTo(2);
+  }
+
+  @Test
+  void shouldRetryLookupFailedWithOtherErrorThanNotFound() {
+    var properties = new CacheProperties();
+    properties.getDefaults().setNotFoundExpireAfterWrite(Duration.ofMinutes(1));
+    var cache = new CacheConfig(properties, mock(FolioExecutionContext.class), emptyProvider()).cacheManager().getCache("locations");
+    var locationClient = mock(LocationClient.class);
+    var itemReferenceService = new ItemReferenceService(null, null, null, null, null, null, null, locationClient, null, null, null);
+    var location = new ItemLocation().withId("id").withName("Main");
+    when(locationClient.getLocationById("id"))
+      .thenThrow(new ServerErrorException("http://localhost/locations/id"))
+      .thenReturn(location);
+
+    assertThatThrownBy(() -> cache.get("id", () -> itemReferenceService.getLocationById("id")))
+      .hasRootCauseInstanceOf(ServerErrorException.class);
+    assertThat(cache.get("id", () -> itemReferenceService.getLocationById("id"))).isEqualTo(location);
+    verify(locationClient, times(2)).getLocationById("id");
+  }
+
+  @Test
+  @SneakyThrows
+  void shouldCoalesceConcurrentLoadsOfTheSameKey() {
+    var cache = new CacheConfig(new CacheProperties(), mock(FolioExecutionContext.class), emptyProvider()).cacheManager().getCache("locations");
+    var loads = new AtomicInteger();
+    var started = new CountDownLatch(1);
+    var release = new CountDownLatch(1);
+    var executor = Executors.newFixedThreadPool(4);
+    try {
+      var futures = IntStream.range(0, 4)
+        .mapToObj(i -> executor.submit(() -> cache.get("id", () -> {
+          loads.incrementAndGet();
+          started.countDown();
+          release.await();
+          return "location";
+        })))
+        .toList();
+      started.await();
+      Thread.sleep(100);
+      release.countDown();
+      for (var future : futures) {
+        assertThat(future.get()).isEqualTo("location");
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+    assertThat(loads.get()).isEqualTo(1);
+  }
+
+  @SuppressWarnings("unchecked")
+  private ObjectProvider<MeterRegistry> emptyProvider() {
+    return mock(ObjectProvider.class);
+  }
+}
@@ -0,0 +1,23 @@
+package org.folio.bulkops.configs.kafka;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.kafka.KafkaProperties;
+import org.springframework.kafka.listener.ContainerProperties;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+class KafkaConfigurationTest {
+
+  @Test
+  void shouldNotCommitOffsetsOfReferenceDataEvents() {
+    var factory = new KafkaConfiguration(new KafkaProperties()).referenceDataListenerContainerFactory(new ObjectMapper());
+
+    assertThat(factory.getConsumerFactory().getConfigurationProperties())
+      .containsEntry(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false)
+      .containsEntry(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "latest");
+    assertThat(factory.getContainerProperties().getAckMode()).isEqualTo(ContainerProperties.AckMode.MANUAL);
+  }
+}
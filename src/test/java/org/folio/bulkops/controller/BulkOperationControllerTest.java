@@ -1,7 +1,7 @@
 package org.folio.bulkops.controller;
 
 import static java.lang.String.format;
-import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.folio.bulkops.domain.dto.EntityType.USER;
 import static org.folio.bulkops.domain.dto.IdentifierType.BARCODE;
 import static org.folio.bulkops.domain.dto.OperationStatusType.NEW;
@@ -10,16 +10,23 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.springframework.http.HttpHeaders.LOCATION;
 import static org.springframework.http.MediaType.APPLICATION_JSON;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import java.io.ByteArrayInputStream;
 import java.io.InputStream;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.UUID;
 import java.util.stream.IntStream;
@@ -91,6 +98,52 @@ class BulkOperationControllerTest extends BaseTest {
     }
   }
 
+  @Test
+  void shouldRedirectToPresignedUrlOfDownloadFile() throws Exception {
+    try (var context =  new FolioExecutionContextSetter(folioExecutionContext)) {
+      var operationId = UUID.randomUUID();
+      var presignedUrl = "http://localhost:9000/bucket/B?X-Amz-Signature=signature";
+
+      when(remoteFileSystemClient.isPresignedUrlSupported()).thenReturn(true);
+      when(remoteFileSystemClient.getPresignedUrl("B")).thenReturn(presignedUrl);
+      when(bulkOperationService.getOperationById(any(UUID.class))).thenReturn(BulkOperation.builder()
+        .id(operationId)
+        .entityType(USER)
+        .linkToMatchedRecordsCsvFile("A")
+        .linkToMatchedRecordsDownloadCsvFile("B")
+        .build());
+
+      mockMvc.perform(get(format("/bulk-operations/%s/download?fileContentType=%s&redirect=true", operationId, FileContentType.MATCHED_RECORDS_FILE))
+          .headers(defaultHeaders())
+          .contentType(APPLICATION_JSON))
+        .andExpect(status().isFound())
+        .andExpect(header().string(LOCATION, presignedUrl));
+    }
+  }
+
+  @Test
+  void shouldStreamDownloadFileWhenPresignedUrlIsNotSupported() throws Exception {
+    try (var context =  new FolioExecutionContextSetter(folioExecutionContext)) {
+      var operationId = UUID.randomUUID();
+
+      when(remoteFileSystemClient.isPresignedUrlSupported()).thenReturn(false);
+      when(remoteFileSystemClient.get("B")).thenReturn(new ByteArrayInputStream("content".getBytes()));
+      when(bulkOperationService.getOperationById(any(UUID.class))).thenReturn(BulkOperation.builder()
+        .id(operationId)
+        .entityType(USER)
+        .linkToMatchedRecordsCsvFile("A")
+        .linkToMatchedRecordsDownloadCsvFile("B")
+        .build());
+
+      mockMvc.perform(get(format("/bulk-operations/%s/download?fileContentType=%s&redirect=true", operationId, FileContentType.MATCHED_RECORDS_FILE))
+          .headers(defaultHeaders())
+          .contentType(APPLICATION_JSON))
+        .andExpect(status().isOk())
+        .andExpect(content().string("content"));
+      verify(remoteFileSystemClient, never()).getPresignedUrl(any(String.class));
+    }
+  }
+
   @Test
   void shouldHaveHrIdWhenGetBulkOperationCollection() throws Exception {
     try (var context = new FolioExecutionContextSetter(folioExecutionContext)) {
@@ -121,6 +174,50 @@ class BulkOperationControllerTest extends BaseTest {
     }
   }
 
+  @Test
+  void shouldReturnBulkOperationCollectionPagesByCursor() throws Exception {
+    var userId = UUID.randomUUID();
+    try (var context = new FolioExecutionContextSetter(folioExecutionContext)) {
+      IntStream.range(0, 5).forEach(i -> bulkOperationRepository.save(BulkOperation.builder()
+        .id(UUID.randomUUID())
+        .userId(userId)
+        .entityType(USER)
+        .startTime(LocalDateTime.now())
+        .build()));
+
+      var hrIds = new ArrayList<Integer>();
+      String cursor = null;
+      var pages = 0;
+      do {
+        var request = get("/bulk-operations").param("query", "userId==" + userId).param("limit", "2");
+        if (cursor != null) {
+          request.param("cursor", cursor);
+        }
+        var response = new JSONObject(mockMvc.perform(request.headers(defaultHeaders()).contentType(APPLICATION_JSON))
+          .andExpect(status().isOk())
+          .andReturn().getResponse().getContentAsString());
+        assertThat(response.getInt("totalRecords")).isEqualTo(5);
+        var bulkOperations = response.getJSONArray("bulkOperations");
+        for (int i = 0; i < bulkOperations.length(); i++) {
+          hrIds.add(bulkOperations.getJSONObject(i).getInt("hrId"));
+        }
+        cursor = response.optString("nextCursor", null);
+        pages++;
+      } while (cursor != null);
+
+      assertThat(pages).isEqualTo(3);
+      assertThat(hrIds).hasSize(5).doesNotHaveDuplicates().isSortedAccordingTo(Comparator.reverseOrder());
+    }
+  }
+
+  @Test
+  void shouldRejectInvalidCursor() throws Exception {
+    mockMvc.perform(get("/bulk-operations").param("query", "cql.allRecords=1").param("cursor", "invalid")
+        .headers(defaultHeaders())
+        .contentType(APPLICATION_JSON))
+      .andExpect(status().isBadRequest());
+  }
+
   @Test
   void shouldReturnListUsers() throws Exception {
     var userIds = new UUID[]{UUID.randomUUID(), UUID.randomUUID()};
@@ -0,0 +1,102 @@
+package org.folio.bulkops.domain.converter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.folio.bulkops.domain.bean.CirculationNote.NoteTypeEnum.IN;
+import static org.folio.bulkops.domain.bean.CirculationNote.NoteTypeEnum.OUT;
+
+import lombok.SneakyThrows;
+import org.folio.bulkops.domain.bean.BulkOperationsEntity;
+import org.folio.bulkops.domain.bean.CirculationNote;
+import org.folio.bulkops.domain.bean.HoldingsRecord;
+import org.folio.bulkops.domain.bean.Instance;
+import org.folio.bulkops.domain.bean.Item;
+import org.folio.bulkops.domain.bean.Personal;
+import org.folio.bulkops.domain.bean.User;
+import org.folio.bulkops.exception.ConverterException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.FileInputStream;
+import java.io.StringWriter;
+import java.util.List;
+
+class CompiledEntityCsvWriterTest {
+
+  @Test
+  @SneakyThrows
+  void shouldSplitCirculationNotesForItem() {
+    var pathToExpectedCsv = "src/test/resources/files/item_with_split_circ_notes.csv";
+    var item = Item.builder()
+      .circulationNotes(List.of(
+        CirculationNote.builder().noteType(IN).note("Check in note 1").staffOnly(true).build(),
+        CirculationNote.builder().noteType(OUT).note("Check out note 1").staffOnly(true).build(),
+        CirculationNote.builder().noteType(OUT).note("Check out note 2").staffOnly(false).build(),
+        CirculationNote.builder().noteType(IN).note("Check in note 2").build()))
+      .build();
+
+    try (var expectedStream = new FileInputStream(pathToExpectedCsv)) {
+      assertThat(writeCompiled(Item.class, item)).isEqualTo(new String(expectedStream.readAllBytes()));
+    }
+  }
+
+  @ParameterizedTest
+  @ValueSource(classes = {User.class, Item.class, HoldingsRecord.class, Instance.class})
+  @SneakyThrows
+  void shouldWriteEmptyEntityAsOpenCsv(Class<? extends BulkOperationsEntity> clazz) {
+    var bean = clazz.getDeclaredConstructor().newInstance();
+
+    assertThat(writeCompiled(clazz, bean)).isEqualTo(writeOpenCsv(clazz, bean));
+  }
+
+  @Test
+  void shouldQuoteAndRecurseAsOpenCsv() {
+    var first = User.builder()
+      .username("smith, john")
+      .barcode("\"123\"")
+      .active(true)
+      .proxyFor(List.of("a", "b"))
+      .personal(Personal.builder().lastName("O\"Brien").firstName("John\nPaul").email("john@example.org").build())
+      .build();
+    var second = User.builder().username("doe").build();
+
+    var csv = writeCompiled(User.class, first, second);
+
+    assertThat(csv).isEqualTo(writeOpenCsv(User.class, first, second));
+    assertThat(csv.lines().skip(1).findFirst()).contains("\"smith, john\",,,\"\"\"123\"\"\",true,,,,a;b,\"O\"\"Brien\",\"John");
+  }
+
+  @Test
+  void shouldWriteFailedFieldInPlace() {
+    var user = User.builder().username("user").patronGroup("group-id").build();
+    var writer = new StringWriter();
+
+    var failures = new CompiledEntityCsvWriter(writer, User.class).write(user);
+
+    assertThat(failures).singleElement()
+      .extracting(ConverterException::getField)
+      .satisfies(field -> assertThat(field.getName()).isEqualTo("patronGroup"));
+    assertThat(writer.toString().lines().skip(1).findFirst()).hasValueSatisfying(line ->
+      assertThat(line).startsWith("user,,,,,,FAILED,"));
+    assertThat(writer.toString()).isEqualTo(writeOpenCsv(User.class, user));
+  }
+
+  private String writeCompiled(Class<? extends BulkOperationsEntity> clazz, BulkOperationsEntity... beans) {
+    var writer = new StringWriter();
+    var csvWriter = new CompiledEntityCsvWriter(writer, clazz);
+    for (var bean : beans) {
+      csvWriter.write(bean);
+    }
+    return writer.toString();
+  }
+
+  @SneakyThrows
+  private String writeOpenCsv(Class<? extends BulkOperationsEntity> clazz, BulkOperationsEntity... beans) {
+    var writer = new StringWriter();
+    var csvWriter = new BulkOperationsEntityCsvWriter(writer, clazz);
+    for (var bean : beans) {
+      csvWriter.write(bean);
+    }
+    return writer.toString();
+  }
+}
@@ -0,0 +1,90 @@
+package org.folio.bulkops.domain.converter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.folio.bulkops.domain.converter.BaseConverter.FAILED_FIELD_MARKER;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+
+import org.folio.bulkops.exception.ConverterException;
+import org.junit.jupiter.api.Test;
+
+import lombok.SneakyThrows;
+
+class ConversionContextTest {
+
+  private String value;
+
+  @Test
+  void shouldThrowWithoutOpenContext() {
+    var converter = converter();
+
+    assertThat(converter.convertToWrite("valid")).isEqualTo("valid");
+    assertThatThrownBy(() -> converter.convertToWrite("invalid"))
+      .isInstanceOf(ConverterException.class);
+  }
+
+  @Test
+  void shouldCollectFailuresOfNestedContextSeparately() {
+    var converter = converter();
+
+    try (var outer = ConversionContext.open()) {
+      assertThat(converter.convertToWrite("invalid")).isEqualTo(FAILED_FIELD_MARKER);
+      try (var inner = ConversionContext.open()) {
+        converter.convertToWrite("invalid");
+        converter.convertToWrite("invalid");
+        assertThat(inner.getFailures()).hasSize(2);
+      }
+      assertThat(outer.getFailures()).hasSize(1);
+    }
+    assertThatThrownBy(() -> converter.convertToWrite("invalid"))
+      .isInstanceOf(ConverterException.class);
+  }
+
+  @Test
+  @SneakyThrows
+  void shouldConfineFailuresToThreadSharingConverter() {
+    var converter = converter();
+    var executor = Executors.newFixedThreadPool(8);
+    try {
+      var tasks = IntStream.range(0, 64)
+        .mapToObj(i -> (Callable<Integer>) () -> {
+          try (var context = ConversionContext.open()) {
+            for (var j = 0; j < 100; j++) {
+              converter.convertToWrite(j < i ? "invalid" : "valid");
+            }
+            return context.getFailures().size();
+          }
+        })
+        .toList();
+      var results = executor.invokeAll(tasks);
+      for (var i = 0; i < results.size(); i++) {
+        assertThat(results.get(i).get()).isEqualTo(i);
+      }
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  @SneakyThrows
+  private BaseConverter<String> converter() {
+    var converter = new BaseConverter<String>() {
+      @Override
+      public String convertToObject(String value) {
+        return value;
+      }
+
+      @Override
+      public String convertToString(String object) {
+        if ("invalid".equals(object)) {
+          throw new IllegalArgumentException("Invalid value");
+        }
+        return object;
+      }
+    };
+    converter.setField(ConversionContextTest.class.getDeclaredField("value"));
+    return converter;
+  }
+}
@@ -0,0 +1,51 @@
+package org.folio.bulkops.domain.format;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+class SpecialCharacterEscaperTest {
+
+  @ParameterizedTest
+  @CsvSource(delimiter = '#', value = {
+    "a|b;c:d#a%7Cb%3Bc%3Ad",
+    "plain value#plain value",
+    "50%#50%",
+    "|;:#%7C%3B%3A"
+  })
+  void shouldEscapeAndRestore(String value, String escaped) {
+    assertThat(SpecialCharacterEscaper.escape(value)).isEqualTo(escaped);
+    assertThat(SpecialCharacterEscaper.restore(escaped)).isEqualTo(value);
+  }
+
+  @Test
+  void shouldReturnSameInstanceWithoutSpecialCharacters() {
+    var value = "plain value";
+
+    assertThat(SpecialCharacterEscaper.escape(value)).isSameAs(value);
+    assertThat(SpecialCharacterEscaper.restore(value)).isSameAs(value);
+  }
+
+  @Test
+  void shouldEscapeAndRestoreAsSequentialReplacement() {
+    var random = new Random(42);
+    var alphabet = new String[] {"a", "|", ";", ":", "%", "7", "C", "3", "B", "A", "%7C", "%3B", "%3A"};
+    for (var i = 0; i < 1000; i++) {
+      var value = new StringBuilder();
+      var length = 1 + random.nextInt(10);
+      for (var j = 0; j < length; j++) {
+        value.append(alphabet[random.nextInt(alphabet.length)]);
+      }
+      var string = value.toString();
+
+      assertThat(SpecialCharacterEscaper.escape(string))
+        .isEqualTo(string.replace("|", "%7C").replace(";", "%3B").replace(":", "%3A"));
+      assertThat(SpecialCharacterEscaper.restore(string))
+        .isEqualTo(string.replace("%7C", "|").replace("%3B", ";").replace("%3A", ":"));
+    }
+  }
+}
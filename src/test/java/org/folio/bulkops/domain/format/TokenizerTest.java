@@ -0,0 +1,50 @@
+package org.folio.bulkops.domain.format;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.folio.bulkops.util.Constants.ARRAY_DELIMITER;
+import static org.folio.bulkops.util.Constants.ITEM_DELIMITER;
+import static org.folio.bulkops.util.Constants.SPECIAL_ARRAY_DELIMITER;
+
+import java.util.Random;
+import java.util.regex.Pattern;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class TokenizerTest {
+
+  @ParameterizedTest
+  @CsvSource(delimiter = '#', value = {
+    "a|b|c#|#0",
+    "a|b||#|#0",
+    "||#|#0",
+    "''#|#0",
+    "|a#|#-1",
+    "a|b||#|#-1",
+    "a|b|c#|#2",
+    "a;b%3B;c#;#0"
+  })
+  void shouldSplitAsStringSplit(String value, String delimiter, int limit) {
+    assertThat(Tokenizer.split(value, delimiter, limit)).containsExactly(value.split(Pattern.quote(delimiter), limit));
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {ARRAY_DELIMITER, ITEM_DELIMITER, SPECIAL_ARRAY_DELIMITER})
+  void shouldSplitRandomValuesAsStringSplit(String delimiter) {
+    var random = new Random(42);
+    var alphabet = new String[] {"a", "bc", ARRAY_DELIMITER, ITEM_DELIMITER, SPECIAL_ARRAY_DELIMITER, "\u001f"};
+    for (var i = 0; i < 1000; i++) {
+      var value = new StringBuilder();
+      var length = random.nextInt(10);
+      for (var j = 0; j < length; j++) {
+        value.append(alphabet[random.nextInt(alphabet.length)]);
+      }
+      for (var limit = -1; limit < 4; limit++) {
+        assertThat(Tokenizer.split(value.toString(), delimiter, limit))
+          .as("split of '%s' with limit %d", value, limit)
+          .containsExactly(value.toString().split(Pattern.quote(delimiter), limit));
+      }
+    }
+  }
+}
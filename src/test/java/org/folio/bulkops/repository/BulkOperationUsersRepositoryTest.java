@@ -0,0 +1,63 @@
+package org.folio.bulkops.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.folio.bulkops.domain.dto.EntityType.ITEM;
+import static org.folio.bulkops.domain.dto.EntityType.USER;
+import static org.folio.bulkops.domain.dto.IdentifierType.BARCODE;
+import static org.folio.bulkops.domain.dto.OperationStatusType.NEW;
+import static org.folio.bulkops.domain.dto.OperationType.UPDATE;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import org.folio.bulkops.BaseTest;
+import org.folio.bulkops.domain.dto.EntityType;
+import org.folio.bulkops.domain.entity.BulkOperation;
+import org.folio.spring.scope.FolioExecutionContextSetter;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+class BulkOperationUsersRepositoryTest extends BaseTest {
+  @Autowired
+  private BulkOperationRepository bulkOperationRepository;
+  @Autowired
+  private BulkOperationUsersRepository bulkOperationUsersRepository;
+
+  @Test
+  void shouldFindDistinctUserIdsOfMatchingOperations() {
+    try (var context = new FolioExecutionContextSetter(folioExecutionContext)) {
+      var dataExportJobId = UUID.randomUUID();
+      var firstUserId = UUID.randomUUID();
+      var secondUserId = UUID.randomUUID();
+      bulkOperationRepository.save(createEntity(dataExportJobId, firstUserId, USER));
+      bulkOperationRepository.save(createEntity(dataExportJobId, secondUserId, USER));
+      bulkOperationRepository.save(createEntity(dataExportJobId, firstUserId, USER));
+      bulkOperationRepository.save(createEntity(dataExportJobId, UUID.randomUUID(), ITEM));
+      bulkOperationRepository.save(createEntity(dataExportJobId, null, USER));
+      bulkOperationRepository.save(createEntity(UUID.randomUUID(), UUID.randomUUID(), USER));
+
+      var userIds = bulkOperationUsersRepository.findDistinctUserIdsByCql(
+        "dataExportJobId==" + dataExportJobId + " and entityType==USER sortBy startTime/sort.descending");
+
+      assertThat(userIds).containsExactlyElementsOf(Stream.of(firstUserId, secondUserId)
+        .sorted(Comparator.comparing(UUID::toString))
+        .toList());
+    }
+  }
+
+  private BulkOperation createEntity(UUID dataExportJobId, UUID userId, EntityType entityType) {
+    return BulkOperation.builder()
+      .id(UUID.randomUUID())
+      .userId(userId)
+      .operationType(UPDATE)
+      .entityType(entityType)
+      .identifierType(BARCODE)
+      .status(NEW)
+      .dataExportJobId(dataExportJobId)
+      .executionChunkSize(5)
+      .startTime(LocalDateTime.now())
+      .build();
+  }
+}
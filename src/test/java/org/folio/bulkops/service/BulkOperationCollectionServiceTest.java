@@ -0,0 +1,80 @@
+package org.folio.bulkops.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.folio.bulkops.domain.entity.BulkOperation;
+import org.folio.bulkops.exception.InvalidCursorException;
+import org.folio.bulkops.mapper.BulkOperationMapper;
+import org.folio.bulkops.repository.BulkOperationScrollRepository;
+import org.folio.spring.cql.JpaCqlRepository;
+import org.folio.spring.data.OffsetRequest;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+class BulkOperationCollectionServiceTest {
+  private static final String QUERY = "cql.allRecords=1";
+
+  @SuppressWarnings("unchecked")
+  private final JpaCqlRepository<BulkOperation, UUID> bulkOperationCqlRepository = mock(JpaCqlRepository.class);
+  private final BulkOperationScrollRepository bulkOperationScrollRepository = mock(BulkOperationScrollRepository.class);
+  private final BulkOperationCollectionService service = new BulkOperationCollectionService(bulkOperationCqlRepository,
+    bulkOperationScrollRepository, mock(BulkOperationMapper.class), new ObjectMapper());
+
+  @Test
+  void shouldReturnWholeListWithoutLimit() {
+    when(bulkOperationCqlRepository.findByCql(eq(QUERY), any()))
+      .thenReturn(new PageImpl<>(List.of(operation(3), operation(2))));
+
+    var collection = service.getBulkOperationCollection(QUERY, null, null, null);
+
+    assertThat(collection.getTotalRecords()).isEqualTo(2);
+    assertThat(collection.getNextCursor()).isNull();
+    verify(bulkOperationCqlRepository).findByCql(QUERY, OffsetRequest.of(0, Integer.MAX_VALUE));
+    verify(bulkOperationScrollRepository, never()).scrollByCql(any(), any(), any(Integer.class));
+  }
+
+  @Test
+  void shouldCountTotalOnFirstPageOnly() {
+    when(bulkOperationCqlRepository.count(QUERY)).thenReturn(3L);
+    when(bulkOperationScrollRepository.scrollByCql(eq(QUERY), any(KeysetScrollPosition.class), eq(2)))
+      .thenReturn(Optional.of(Window.from(List.of(operation(3), operation(2)), index -> ScrollPosition.forward(Map.of("hrId", 3 - index)), true)))
+      .thenReturn(Optional.of(Window.from(List.of(operation(1)), index -> ScrollPosition.forward(Map.of("hrId", 1)), false)));
+
+    var firstPage = service.getBulkOperationCollection(QUERY, null, 2, null);
+    var secondPage = service.getBulkOperationCollection(QUERY, null, 2, firstPage.getNextCursor());
+
+    assertThat(firstPage.getTotalRecords()).isEqualTo(3);
+    assertThat(secondPage.getTotalRecords()).isEqualTo(3);
+    assertThat(secondPage.getNextCursor()).isNull();
+    verify(bulkOperationCqlRepository, times(1)).count(QUERY);
+    verify(bulkOperationScrollRepository).scrollByCql(QUERY, ScrollPosition.forward(Map.of("hrId", 2)), 2);
+  }
+
+  @Test
+  void shouldRejectInvalidCursor() {
+    assertThatThrownBy(() -> service.getBulkOperationCollection(QUERY, null, 2, "invalid"))
+      .isInstanceOf(InvalidCursorException.class);
+  }
+
+  private BulkOperation operation(int hrId) {
+    return BulkOperation.builder().id(UUID.randomUUID()).hrId(hrId).build();
+  }
+}
@@ -24,6 +24,8 @@ import org.folio.bulkops.domain.bean.Progress;
 import org.folio.bulkops.domain.dto.ApproachType;
 import org.folio.bulkops.domain.dto.OperationStatusType;
 import org.folio.bulkops.domain.entity.BulkOperation;
+import org.folio.bulkops.domain.entity.BulkOperationProcessingContent;
+import org.folio.bulkops.repository.BulkOperationProcessingContentRepository;
 import org.folio.bulkops.repository.BulkOperationRepository;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -42,6 +44,8 @@ class DataExportJobUpdateServiceTest extends BaseTest {
   private BulkOperationRepository bulkOperationRepository;
   @MockBean
   private RemoteFileSystemClient remoteFileSystemClient;
+  @MockBean
+  private BulkOperationProcessingContentRepository processingContentRepository;
 
   @ParameterizedTest
   @EnumSource(value = ApproachType.class, names = {"IN_APP" }, mode = EnumSource.Mode.INCLUDE)
@@ -70,7 +74,7 @@ class DataExportJobUpdateServiceTest extends BaseTest {
     when(remoteFileSystemClient.put(any(InputStream.class), eq(expectedMarcFileName)))
       .thenReturn(expectedMarcFileName);
 
-    when(remoteFileSystemClient.put(any(InputStream.class), eq(expectedCsvErrorsFileName)))
+    when(remoteFileSystemClient.putForDownload(any(InputStream.class), eq(expectedCsvErrorsFileName)))
       .thenReturn(expectedCsvErrorsFileName);
 
     when(remoteFileSystemClient.getNumOfLines(expectedCsvFileName))
@@ -97,6 +101,14 @@ class DataExportJobUpdateServiceTest extends BaseTest {
     assertEquals(expectedCsvFileName, operationCaptor.getAllValues().get(1).getLinkToMatchedRecordsCsvFile());
     assertEquals(expectedMarcFileName, operationCaptor.getAllValues().get(1).getLinkToMatchedRecordsMarcFile());
     assertEquals(expectedCsvErrorsFileName, operationCaptor.getAllValues().get(1).getLinkToMatchedRecordsErrorsCsvFile());
+
+    var errorsCaptor = ArgumentCaptor.forClass(List.class);
+    verify(processingContentRepository).deleteByBulkOperationId(bulkOperationId);
+    verify(processingContentRepository).saveAllAndFlush(errorsCaptor.capture());
+    var matchingError = (BulkOperationProcessingContent) errorsCaptor.getValue().get(0);
+    assertEquals(bulkOperationId, matchingError.getBulkOperationId());
+    assertEquals("12345678", matchingError.getIdentifier());
+    assertEquals("Not Found", matchingError.getErrorMessage());
   }
 
   @ParameterizedTest
@@ -0,0 +1,88 @@
+package org.folio.bulkops.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.folio.bulkops.domain.dto.EntityType.USER;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.io.StringWriter;
+import java.util.UUID;
+import java.util.function.BiConsumer;
+
+import org.folio.bulkops.client.RemoteFileSystemClient;
+import org.folio.bulkops.domain.entity.BulkOperation;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@ExtendWith(MockitoExtension.class)
+class DownloadFileServiceTest {
+  @Mock
+  private RemoteFileSystemClient remoteFileSystemClient;
+  @Mock
+  private NotesProcessor notesProcessor;
+
+  @InjectMocks
+  private DownloadFileService downloadFileService;
+
+  @Test
+  void shouldMaterializeDownloadFile() {
+    var operation = BulkOperation.builder().id(UUID.randomUUID()).entityType(USER).build();
+    var path = operation.getId() + "/2024-01-01-Matched-Records-users.csv";
+    var writer = new StringWriter();
+
+    when(remoteFileSystemClient.get(path)).thenReturn(new ByteArrayInputStream("User id,Name\n1,\u001fJohn\n".getBytes()));
+    when(remoteFileSystemClient.writerForDownload(operation.getId() + "/download/2024-01-01-Matched-Records-users.csv")).thenReturn(writer);
+    when(notesProcessor.processNotes(any(InputStream.class), eq(USER))).thenAnswer(invocation -> invocation.getArgument(0));
+
+    var downloadPath = downloadFileService.materialize(operation, path);
+
+    assertThat(downloadPath).isEqualTo(operation.getId() + "/download/2024-01-01-Matched-Records-users.csv");
+    assertThat(writer).hasToString("User id,Name\n1,John\n");
+  }
+
+  @Test
+  void shouldReturnNullIfFileCannotBeMaterialized() {
+    var operation = BulkOperation.builder().id(UUID.randomUUID()).entityType(USER).build();
+
+    when(remoteFileSystemClient.get(any())).thenThrow(new RuntimeException("Not found"));
+
+    assertThat(downloadFileService.materialize(operation, "path")).isNull();
+    assertThat(downloadFileService.materialize(operation, null)).isNull();
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void shouldMaterializeDownloadFileAfterCommit() {
+    var operation = BulkOperation.builder().id(UUID.randomUUID()).entityType(USER).build();
+    var path = operation.getId() + "/2024-01-01-Matched-Records-users.csv";
+    var downloadPath = operation.getId() + "/download/2024-01-01-Matched-Records-users.csv";
+    BiConsumer<UUID, String> linkUpdater = mock(BiConsumer.class);
+
+    when(remoteFileSystemClient.get(path)).thenReturn(new ByteArrayInputStream("User id,Name\n".getBytes()));
+    when(remoteFileSystemClient.writerForDownload(downloadPath)).thenReturn(new StringWriter());
+    when(notesProcessor.processNotes(any(InputStream.class), eq(USER))).thenAnswer(invocation -> invocation.getArgument(0));
+
+    TransactionSynchronizationManager.initSynchronization();
+    try {
+      downloadFileService.materializeAfterCommit(operation, path, linkUpdater);
+      verify(linkUpdater, after(100).never()).accept(any(), any());
+
+      TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+    } finally {
+      TransactionSynchronizationManager.clearSynchronization();
+    }
+    verify(linkUpdater, timeout(1000)).accept(operation.getId(), downloadPath);
+  }
+}
@@ -0,0 +1,103 @@
+package org.folio.bulkops.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FileInputStream;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+
+import org.folio.bulkops.domain.bean.Instance;
+import org.folio.bulkops.domain.bean.Item;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+
+import lombok.SneakyThrows;
+
+class EntityJsonMapperTest {
+  private final ObjectMapper objectMapper = new ObjectMapper()
+    .registerModule(new BlackbirdModule())
+    .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+  private final EntityJsonMapper entityJsonMapper = new EntityJsonMapper(objectMapper);
+
+  @Test
+  @SneakyThrows
+  void shouldWriteRecordsSeparatedByLineFeed() {
+    var item = objectMapper.readValue(new FileInputStream("src/test/resources/files/item.json"), Item.class);
+    var other = item.withId("other-id");
+    var target = new ClosingTrackingWriter();
+
+    try (var writer = entityJsonMapper.writeValues(target, Item.class)) {
+      writer.write(item);
+      writer.write(other);
+    }
+
+    assertThat(target.closed).isTrue();
+    assertThat(target).hasToString(objectMapper.writeValueAsString(item) + "\n" + objectMapper.writeValueAsString(other));
+  }
+
+  @Test
+  @SneakyThrows
+  void shouldReadWrittenRecords() {
+    var instance = objectMapper.readValue(new FileInputStream("src/test/resources/files/instance.json"), Instance.class);
+    var target = new StringWriter();
+    try (var writer = entityJsonMapper.writeValues(target, Instance.class)) {
+      writer.write(instance);
+      writer.write(instance.withTitle("Other title"));
+    }
+
+    var instances = new ArrayList<Instance>();
+    entityJsonMapper.readValues(new ByteArrayInputStream(target.toString().getBytes(StandardCharsets.UTF_8)), Instance.class)
+      .forEachRemaining(instances::add);
+
+    assertThat(instances).hasSize(2);
+    assertThat(instances.get(0)).isEqualTo(instance);
+    assertThat(instances.get(1).getTitle()).isEqualTo("Other title");
+  }
+
+  @Test
+  @SneakyThrows
+  void shouldReadRecordsOfInternalFormat() {
+    var instance = objectMapper.readValue(new FileInputStream("src/test/resources/files/instance.json"), Instance.class);
+    var target = new ByteArrayOutputStream();
+    try (var writer = entityJsonMapper.writeInternalValues(target, Instance.class)) {
+      writer.write(instance);
+      writer.write(instance.withTitle("Other title"));
+    }
+
+    var instances = new ArrayList<Instance>();
+    entityJsonMapper.readValues(new ByteArrayInputStream(target.toByteArray()), Instance.class)
+      .forEachRemaining(instances::add);
+
+    assertThat(target.toByteArray()).startsWith(EntityJsonMapper.INTERNAL_FORMAT_MARKER);
+    assertThat(target.size()).isLessThan(2 * objectMapper.writeValueAsBytes(instance).length);
+    assertThat(instances).hasSize(2);
+    assertThat(instances.get(0)).isEqualTo(instance);
+    assertThat(instances.get(1).getTitle()).isEqualTo("Other title");
+  }
+
+  @Test
+  void shouldRejectUnsupportedVersionOfInternalFormat() {
+    var content = EntityJsonMapper.INTERNAL_FORMAT_MARKER.clone();
+    content[content.length - 1]++;
+
+    assertThatThrownBy(() -> entityJsonMapper.readValues(new ByteArrayInputStream(content), Instance.class))
+      .isInstanceOf(IllegalStateException.class)
+      .hasMessage("Unsupported version of records file format: 2");
+  }
+
+  private static class ClosingTrackingWriter extends StringWriter {
+    private boolean closed;
+
+    @Override
+    public void close() {
+      closed = true;
+    }
+  }
+}
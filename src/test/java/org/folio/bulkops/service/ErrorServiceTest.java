@@ -8,18 +8,20 @@ import static org.folio.bulkops.service.ErrorService.IDENTIFIER;
 import static org.folio.bulkops.service.ErrorService.LINK;
 import static org.folio.bulkops.util.Constants.CSV_MSG_ERROR_TEMPLATE_OPTIMISTIC_LOCKING;
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
-import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static wiremock.org.hamcrest.MatcherAssert.assertThat;
 import static wiremock.org.hamcrest.Matchers.equalTo;
 import static wiremock.org.hamcrest.Matchers.hasSize;
 
-import java.io.InputStream;
+import java.io.StringWriter;
 import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.List;
@@ -49,7 +51,6 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.EnumSource;
 import org.junit.jupiter.params.provider.ValueSource;
-import org.mockito.ArgumentCaptor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.mock.mockito.MockBean;
 
@@ -109,6 +110,60 @@ class ErrorServiceTest extends BaseTest {
     }
   }
 
+  @Test
+  void shouldGroupErrorsByNormalizedMessage() {
+    try (var context =  new FolioExecutionContextSetter(folioExecutionContext)) {
+      IntStream.range(0, 12).forEach(i -> errorService.saveError(bulkOperationId, "id-" + i, format("Location %s was not found (line %d)", UUID.randomUUID(), i)));
+      errorService.saveError(bulkOperationId, "id-12", "Invalid barcode");
+      errorService.saveError(bulkOperationId, "id-13", "Error message", "Invalid  barcode", null);
+
+      var summaries = errorService.getErrorSummaryByBulkOperationId(bulkOperationId, 0, 10);
+
+      assertThat(summaries.getTotalRecords(), equalTo(2));
+      var first = summaries.getErrorSummaries().get(0);
+      assertThat(first.getMessage(), equalTo("Location <id> was not found"));
+      assertThat(first.getCount(), equalTo(12));
+      assertThat(first.getIdentifiers(), hasSize(10));
+      var second = summaries.getErrorSummaries().get(1);
+      assertThat(second.getMessage(), equalTo("Invalid barcode"));
+      assertThat(second.getCount(), equalTo(2));
+      assertThat(second.getIdentifiers(), equalTo(List.of("id-12", "id-13")));
+    }
+  }
+
+  @Test
+  void shouldSaveErrorSummaryInBatches() {
+    try (var context =  new FolioExecutionContextSetter(folioExecutionContext)) {
+      IntStream.range(0, 250).forEach(i -> errorService.saveError(bulkOperationId, "id-" + i, "Invalid barcode"));
+      errorService.flushErrorSummary(bulkOperationId);
+
+      var summaries = errorService.getErrorSummaryByBulkOperationId(bulkOperationId, 0, 10);
+
+      assertThat(summaries.getTotalRecords(), equalTo(1));
+      assertThat(summaries.getErrorSummaries().get(0).getCount(), equalTo(250));
+      assertThat(summaries.getErrorSummaries().get(0).getIdentifiers(), equalTo(IntStream.range(0, 10).mapToObj(i -> "id-" + i).toList()));
+    }
+  }
+
+  @Test
+  @SneakyThrows
+  void shouldSaveErrorSummaryOfMatchingErrors() {
+    try (var context =  new FolioExecutionContextSetter(folioExecutionContext)) {
+      try (var matchingErrors = errorService.matchingErrorsOutputStream(bulkOperationId)) {
+        matchingErrors.write("123,No match found\n456,No match found\n789,Duplicate entry\n".getBytes());
+      }
+
+      var summaries = errorService.getErrorSummaryByBulkOperationId(bulkOperationId, 0, 10);
+
+      assertThat(summaries.getTotalRecords(), equalTo(2));
+      assertThat(summaries.getErrorSummaries().get(0).getMessage(), equalTo("No match found"));
+      assertThat(summaries.getErrorSummaries().get(0).getCount(), equalTo(2));
+      assertThat(summaries.getErrorSummaries().get(0).getIdentifiers(), equalTo(List.of("123", "456")));
+      assertThat(summaries.getErrorSummaries().get(1).getMessage(), equalTo("Duplicate entry"));
+      assertThat(summaries.getErrorSummaries().get(1).getCount(), equalTo(1));
+    }
+  }
+
   @Test
   void shouldGetErrorsByCqlQuery() {
     try (var context =  new FolioExecutionContextSetter(folioExecutionContext)) {
@@ -122,28 +177,34 @@ class ErrorServiceTest extends BaseTest {
   }
 
   @Test
-  @SneakyThrows
   void shouldUploadErrorsAndReturnLinkToFile() {
     try (var context =  new FolioExecutionContextSetter(folioExecutionContext)) {
       errorService.saveError(bulkOperationId, "123", "Error message 123");
       errorService.saveError(bulkOperationId, "456", "Error message 456");
 
       var expectedFileName = bulkOperationId + "/" + LocalDate.now() + "-Committing-changes-Errors-records.csv";
-      when(remoteFileSystemClient.put(any(), eq(expectedFileName))).thenReturn(expectedFileName);
+      var writer = new StringWriter();
+      when(remoteFileSystemClient.writerForDownload(expectedFileName)).thenReturn(writer);
 
       var result = errorService.uploadErrorsToStorage(bulkOperationId);
       assertThat(result, equalTo(expectedFileName));
 
-      var streamCaptor = ArgumentCaptor.forClass(InputStream.class);
-      verify(remoteFileSystemClient).put(streamCaptor.capture(), eq(expectedFileName));
-      var actual = new String(streamCaptor.getValue().readAllBytes());
-      var actualArr = actual.split("\n");
+      verify(remoteFileSystemClient).writerForDownload(expectedFileName);
+      var actualArr = writer.toString().split("\n");
       Arrays.sort(actualArr);
       var expectedArr = new String[] {"123,Error message 123", "456,Error message 456"};
       assertArrayEquals(expectedArr, actualArr);
     }
   }
 
+  @Test
+  void shouldNotUploadErrorsFileWithoutErrors() {
+    try (var context =  new FolioExecutionContextSetter(folioExecutionContext)) {
+      assertNull(errorService.uploadErrorsToStorage(bulkOperationId));
+      verify(remoteFileSystemClient, never()).writerForDownload(anyString());
+    }
+  }
+
   @ParameterizedTest
   @EnumSource(value = OperationStatusType.class, names = { "DATA_MODIFICATION", "REVIEW_CHANGES", "COMPLETED" }, mode = EnumSource.Mode.INCLUDE)
   void shouldGetErrorsPreviewByBulkOperationId(OperationStatusType statusType) {
@@ -197,6 +258,31 @@ class ErrorServiceTest extends BaseTest {
     }
   }
 
+  @Test
+  void shouldGetMatchingErrorsFromDataExportIfNotSavedLocally() {
+    try (var context =  new FolioExecutionContextSetter(folioExecutionContext)) {
+      var operationId = bulkOperationRepository.save(BulkOperation.builder()
+        .id(UUID.randomUUID())
+        .dataExportJobId(UUID.randomUUID())
+        .status(DATA_MODIFICATION)
+        .matchedNumOfErrors(2)
+        .build()).getId();
+      when(bulkEditClient.getErrorsPreview(any(UUID.class), anyInt()))
+        .thenReturn(new Errors()
+          .errors(List.of(new Error().type("BULK_EDIT_ERROR").message("123,No match found"),
+            new Error().type("BULK_EDIT_ERROR").message("456,Invalid format")))
+          .totalRecords(2));
+
+      var errors = errorService.getErrorsPreviewByBulkOperationId(operationId, 10);
+
+      assertThat(errors.getErrors(), hasSize(2));
+      assertThat(errors.getErrors().get(0).getParameters().get(0).getValue(), equalTo("123"));
+      assertThat(errors.getErrors().get(0).getMessage(), equalTo("No match found"));
+
+      bulkOperationRepository.deleteById(operationId);
+    }
+  }
+
   @ParameterizedTest
   @EnumSource(value = OperationStatusType.class, names = { "DATA_MODIFICATION", "REVIEW_CHANGES", "COMPLETED", "COMPLETED_WITH_ERRORS" }, mode = EnumSource.Mode.EXCLUDE)
   void shouldRejectErrorsCsvOnWrongOperationStatus(OperationStatusType statusType) {
@@ -282,10 +368,16 @@ class ErrorServiceTest extends BaseTest {
 
   private void mockErrorsData(OperationStatusType statusType, UUID operationId) {
     if (DATA_MODIFICATION == statusType || COMPLETED_WITH_ERRORS == statusType) {
-      when(bulkEditClient.getErrorsPreview(any(UUID.class), anyInt()))
-        .thenReturn(new Errors()
-          .errors(List.of(new Error().type("BULK_EDIT_ERROR").message("123,No match found"),
-            new Error().type("BULK_EDIT_ERROR").message("456,Invalid format"))));
+      processingContentRepository.save(BulkOperationProcessingContent.builder()
+        .bulkOperationId(operationId)
+        .identifier("123")
+        .errorMessage("No match found")
+        .build());
+      processingContentRepository.save(BulkOperationProcessingContent.builder()
+        .bulkOperationId(operationId)
+        .identifier("456")
+        .errorMessage("Invalid format")
+        .build());
     } else {
       executionContentRepository.save(BulkOperationExecutionContent.builder()
         .bulkOperationId(operationId)
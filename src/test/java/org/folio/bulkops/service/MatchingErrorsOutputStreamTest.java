@@ -0,0 +1,34 @@
+package org.folio.bulkops.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.folio.bulkops.domain.entity.BulkOperationProcessingContent;
+import org.junit.jupiter.api.Test;
+
+class MatchingErrorsOutputStreamTest {
+
+  @Test
+  void shouldParseMatchingErrorsInBatches() {
+    var bulkOperationId = UUID.randomUUID();
+    var batches = new ArrayList<List<BulkOperationProcessingContent>>();
+    var content = "123,No match found\r\n456,Duplicate entry, check identifiers\n\n789,Invalid format";
+
+    try (var stream = new MatchingErrorsOutputStream(bulkOperationId, 2, batches::add)) {
+      var bytes = content.getBytes(StandardCharsets.UTF_8);
+      stream.write(bytes, 0, 10);
+      stream.write(bytes, 10, bytes.length - 10);
+    }
+
+    assertThat(batches).hasSize(2);
+    assertThat(batches.get(0)).extracting(BulkOperationProcessingContent::getIdentifier).containsExactly("123", "456");
+    assertThat(batches.get(0)).extracting(BulkOperationProcessingContent::getErrorMessage)
+      .containsExactly("No match found", "Duplicate entry, check identifiers");
+    assertThat(batches.get(1)).extracting(BulkOperationProcessingContent::getIdentifier).containsExactly("789");
+    assertThat(batches.get(1).get(0).getBulkOperationId()).isEqualTo(bulkOperationId);
+  }
+}
@@ -1,23 +1,34 @@
 package org.folio.bulkops.service;
 
+import static org.apache.commons.lang3.StringUtils.EMPTY;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.folio.bulkops.domain.dto.EntityType.HOLDINGS_RECORD;
+import static org.folio.bulkops.domain.dto.EntityType.ITEM;
+import static org.folio.bulkops.util.Constants.ITEM_NOTE_POSITION;
 import static org.mockito.Mockito.when;
 
+import lombok.SneakyThrows;
 import org.folio.bulkops.BaseTest;
 import org.folio.bulkops.domain.bean.HoldingsNoteType;
+import org.folio.bulkops.domain.bean.NoteType;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.mock.mockito.MockBean;
 
+import java.io.ByteArrayInputStream;
+import java.util.ArrayList;
 import java.util.List;
 
-class HoldingsNoteProcessorTest extends BaseTest {
+class NotesProcessorTest extends BaseTest {
   @MockBean
   private HoldingsReferenceService holdingsReferenceService;
+  @MockBean
+  private ItemReferenceService itemReferenceService;
   @Autowired
-  private HoldingsNotesProcessor holdingsNotesProcessor;
+  private NotesProcessor notesProcessor;
 
   @Test
+  @SneakyThrows
   void shouldEnrichPreviewWithHoldingsRecordsNoteTypeColumns() {
     var sourceCsv = "Holdings UUID,\"Instance (Title, Publisher, Publication date)\",Suppress from discovery,Holdings HRID,Source,Former holdings Id,Holdings type,Statistical codes,Administrative note,Holdings permanent location,Holdings temporary location,Shelving title,Holdings copy number,Holdings level call number type,Holdings level call number prefix,Holdings level call number,Holdings level call number suffix,Number of items,Holdings statement,Holdings statement for supplements,Holdings statement for indexes,ILL policy,Digitization policy,Retention policy,Notes,Electronic access,Acquisition method,Order format,Receipt status,Tags\n" +
       "59b36165-fcf2-49d2-bf7f-25fedbc07e44,Sample instance;123,,ho14,FOLIO,,,,,Main Library,,,,,,,,,,,,,,,Note type 3;note3;false|Note type 1;note1;true|Note type 2;note2;false,,,,,";
@@ -27,7 +38,7 @@ class HoldingsNoteProcessorTest extends BaseTest {
         new HoldingsNoteType().withName("Note type 1"),
         new HoldingsNoteType().withName("Note type 2")));
 
-    var res = holdingsNotesProcessor.processHoldingsNotes(sourceCsv.getBytes());
+    var res = notesProcessor.processNotes(new ByteArrayInputStream(sourceCsv.getBytes()), HOLDINGS_RECORD).readAllBytes();
 
     var lines = new String(res).split("\n");
     assertThat(lines).hasSize(2);
@@ -36,4 +47,27 @@ class HoldingsNoteProcessorTest extends BaseTest {
     var data = lines[1];
     assertThat(data).contains("note1 (staff only),note2,note3");
   }
+
+  @Test
+  @SneakyThrows
+  void shouldEnrichItemsWithNoteTypeColumns() {
+    var headers = new ArrayList<String>();
+    var row = new ArrayList<String>();
+    for (var i = 0; i <= ITEM_NOTE_POSITION + 1; i++) {
+      headers.add(i == ITEM_NOTE_POSITION ? "Notes" : "Header " + i);
+      row.add(i == ITEM_NOTE_POSITION ? "\"Note;note, with comma;true|Action note;action note;false\"" : EMPTY);
+    }
+    var sourceCsv = String.join(",", headers) + "\n" + String.join(",", row);
+
+    when(itemReferenceService.getAllItemNoteTypes())
+      .thenReturn(List.of(NoteType.builder().name("Note").build(),
+        NoteType.builder().name("Action note").build()));
+
+    var res = notesProcessor.processNotes(new ByteArrayInputStream(sourceCsv.getBytes()), ITEM).readAllBytes();
+
+    var lines = new String(res).split("\n");
+    assertThat(lines).hasSize(2);
+    assertThat(lines[0]).contains("Action note,Note,Header " + (ITEM_NOTE_POSITION + 1));
+    assertThat(lines[1]).endsWith("action note,\"note, with comma (staff only)\",");
+  }
 }
@@ -60,8 +60,10 @@ import org.folio.bulkops.domain.bean.TextField;
 import org.folio.bulkops.domain.bean.User;
 import org.folio.bulkops.domain.bean.UserGroup;
 import org.folio.bulkops.domain.bean.UserGroupCollection;
+import org.folio.bulkops.domain.converter.BulkOperationsEntityCsvWriter;
+import org.folio.bulkops.domain.converter.CompiledEntityCsvWriter;
+import org.folio.bulkops.domain.converter.ConversionContext;
 import org.folio.bulkops.domain.converter.CustomMappingStrategy;
-import org.folio.bulkops.exception.ConverterException;
 import org.folio.bulkops.exception.NotFoundException;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -174,6 +176,20 @@ class OpenCSVConverterTest extends BaseTest {
 
   }
 
+  @ParameterizedTest
+  @ArgumentsSource(BulkOperationEntityClassProvider.class)
+  void shouldWriteSameCsvWithCompiledWriter(Class<BulkOperationsEntity> clazz) throws Exception {
+    initMocks();
+
+    var bean = objectMapper.readValue(new FileInputStream(getPathToSample(clazz)), clazz);
+    var expected = new StringWriter();
+    new BulkOperationsEntityCsvWriter(expected, clazz).write(bean);
+    var actual = new StringWriter();
+    new CompiledEntityCsvWriter(actual, clazz).write(bean);
+
+    assertThat(actual).hasToString(expected.toString());
+  }
+
   @ParameterizedTest
   @ArgumentsSource(BulkOperationEntityClassProvider.class)
   void shouldConvertBadDataEntity(Class<BulkOperationsEntity> clazz) throws IOException {
@@ -220,11 +236,9 @@ class OpenCSVConverterTest extends BaseTest {
 
   @SneakyThrows
   public String process(StatefulBeanToCsv<BulkOperationsEntity> sbc, Writer writer, BulkOperationsEntity bean ) {
-    try {
+    try (var context = ConversionContext.open()) {
       sbc.write(bean);
       return writer.toString();
-    } catch (ConverterException e) {
-      return process(sbc, writer, bean);
     }
   }
 
@@ -0,0 +1,72 @@
+package org.folio.bulkops.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.folio.bulkops.domain.entity.BulkOperationExecutionContent;
+import org.folio.bulkops.repository.BulkOperationExecutionContentRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class ProcessedIdentifierServiceTest {
+  @Mock
+  private BulkOperationExecutionContentRepository executionContentRepository;
+  @InjectMocks
+  private ProcessedIdentifierService processedIdentifierService;
+
+  @Test
+  void shouldNotQueryDatabaseForUnknownIdentifierOfTrackedOperation() {
+    var operationId = UUID.randomUUID();
+    when(executionContentRepository.streamIdentifiersByBulkOperationId(operationId)).thenReturn(Stream.of("seeded"));
+    when(executionContentRepository.findFirstByBulkOperationIdAndIdentifier(any(UUID.class), anyString()))
+      .thenReturn(Optional.of(new BulkOperationExecutionContent()));
+
+    try (var scope = processedIdentifierService.track(operationId)) {
+      IntStream.range(0, 5000).forEach(i -> processedIdentifierService.add(operationId, "id-" + i));
+
+      assertThat(processedIdentifierService.isProcessed(operationId, "unknown")).isFalse();
+      verify(executionContentRepository, never()).findFirstByBulkOperationIdAndIdentifier(any(UUID.class), anyString());
+
+      assertThat(processedIdentifierService.isProcessed(operationId, "id-4999")).isTrue();
+      assertThat(processedIdentifierService.isProcessed(operationId, "seeded")).isTrue();
+      verify(executionContentRepository).findFirstByBulkOperationIdAndIdentifier(operationId, "id-4999");
+      verify(executionContentRepository).findFirstByBulkOperationIdAndIdentifier(operationId, "seeded");
+    }
+  }
+
+  @Test
+  void shouldQueryDatabaseForOperationNotTracked() {
+    var operationId = UUID.randomUUID();
+    when(executionContentRepository.findFirstByBulkOperationIdAndIdentifier(operationId, "123")).thenReturn(Optional.empty());
+
+    processedIdentifierService.add(operationId, "123");
+
+    assertThat(processedIdentifierService.isProcessed(operationId, "123")).isFalse();
+    verify(executionContentRepository).findFirstByBulkOperationIdAndIdentifier(operationId, "123");
+  }
+
+  @Test
+  void shouldStopTrackingOnClose() {
+    var operationId = UUID.randomUUID();
+    when(executionContentRepository.streamIdentifiersByBulkOperationId(operationId)).thenReturn(Stream.empty());
+    when(executionContentRepository.findFirstByBulkOperationIdAndIdentifier(operationId, "123")).thenReturn(Optional.empty());
+
+    processedIdentifierService.track(operationId).close();
+
+    assertThat(processedIdentifierService.isProcessed(operationId, "123")).isFalse();
+    verify(executionContentRepository).findFirstByBulkOperationIdAndIdentifier(operationId, "123");
+  }
+}
@@ -61,7 +61,7 @@ class QueryServiceTest extends BaseTest {
       queryService.checkQueryExecutionStatus(operation);
 
       await().untilAsserted(() ->
-        verify(remoteFileSystemClient).put(any(ByteArrayInputStream.class), eq(expectedPath)));
+        verify(remoteFileSystemClient).putForDownload(any(ByteArrayInputStream.class), eq(expectedPath)));
     }
   }
 
@@ -0,0 +1,118 @@
+package org.folio.bulkops.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.lang.reflect.Method;
+
+import org.folio.bulkops.configs.CacheConfig;
+import org.folio.bulkops.configs.CacheProperties;
+import org.folio.bulkops.domain.bean.ReferenceDataEvent;
+import org.folio.spring.FolioExecutionContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.interceptor.KeyGenerator;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.SneakyThrows;
+
+class ReferenceDataCacheServiceTest {
+  private final ObjectMapper objectMapper = new ObjectMapper();
+  private final FolioExecutionContext folioExecutionContext = mock(FolioExecutionContext.class);
+
+  private CacheManager cacheManager;
+  private KeyGenerator keyGenerator;
+  private ReferenceDataCacheService referenceDataCacheService;
+
+  public String lookup(String value) {
+    return value;
+  }
+
+  @BeforeEach
+  void setUp() {
+    var cacheConfig = new CacheConfig(new CacheProperties(), folioExecutionContext, emptyProvider());
+    cacheManager = cacheConfig.cacheManager();
+    keyGenerator = cacheConfig.keyGenerator();
+    referenceDataCacheService = new ReferenceDataCacheService(cacheManager);
+  }
+
+  @Test
+  @SneakyThrows
+  void shouldEvictEntriesOfChangedRecordForTenant() {
+    var locations = cacheManager.getCache("locations");
+    var locationIds = cacheManager.getCache("locationIds");
+    put(locations, "diku", "location-1");
+    put(locations, "diku", "location-2");
+    put(locations, "college", "location-1");
+    put(locationIds, "diku", "Main Library");
+
+    var event = objectMapper.readValue("""
+      {"type": "UPDATE", "tenant": "diku",
+       "old": {"id": "location-1", "name": "Main library"},
+       "new": {"id": "location-1", "name": "Main library (old building)"}}
+      """, ReferenceDataEvent.class);
+    referenceDataCacheService.invalidate("diku", "inventory.location", event);
+
+    assertThat(get(locations, "diku", "location-1")).isNull();
+    assertThat(get(locations, "diku", "location-2")).isNotNull();
+    assertThat(get(locations, "college", "location-1")).isNotNull();
+    assertThat(get(locationIds, "diku", "Main Library")).isNull();
+  }
+
+  @Test
+  void shouldEvictCollectionCachesOfTenant() {
+    var itemNoteTypes = cacheManager.getCache("itemNoteTypes");
+    var snapshots = cacheManager.getCache("referenceDataSnapshots");
+    put(itemNoteTypes, "diku", "all");
+    put(snapshots, "diku", "ITEM");
+    put(snapshots, "college", "ITEM");
+
+    var event = ReferenceDataEvent.builder().type("CREATE").newValue(objectMapper.createObjectNode().put("id", "note-type-1")).build();
+    referenceDataCacheService.invalidate("diku", "inventory.item-note-type", event);
+
+    assertThat(get(itemNoteTypes, "diku", "all")).isNull();
+    assertThat(get(snapshots, "diku", "ITEM")).isNull();
+    assertThat(get(snapshots, "college", "ITEM")).isNotNull();
+  }
+
+  @Test
+  void shouldEvictAllTenantEntriesOnDeleteAll() {
+    var userNames = cacheManager.getCache("userNames");
+    put(userNames, "diku", "user-1");
+    put(userNames, "diku", "user-2");
+    put(userNames, "college", "user-1");
+
+    referenceDataCacheService.invalidate("diku", "users.users", ReferenceDataEvent.builder().type(ReferenceDataEvent.DELETE_ALL).build());
+
+    assertThat(get(userNames, "diku", "user-1")).isNull();
+    assertThat(get(userNames, "diku", "user-2")).isNull();
+    assertThat(get(userNames, "college", "user-1")).isNotNull();
+  }
+
+  private void put(Cache cache, String tenantId, String param) {
+    cache.put(key(tenantId, param), param);
+  }
+
+  private Object get(Cache cache, String tenantId, String param) {
+    return ((CaffeineCache) cache).getNativeCache().getIfPresent(key(tenantId, param));
+  }
+
+  @SneakyThrows
+  private Object key(String tenantId, String param) {
+    when(folioExecutionContext.getTenantId()).thenReturn(tenantId);
+    Method method = ReferenceDataCacheServiceTest.class.getMethod("lookup", String.class);
+    return keyGenerator.generate(this, method, param);
+  }
+
+  @SuppressWarnings("unchecked")
+  private ObjectProvider<MeterRegistry> emptyProvider() {
+    return mock(ObjectProvider.class);
+  }
+}
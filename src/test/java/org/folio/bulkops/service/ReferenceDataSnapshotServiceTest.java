@@ -0,0 +1,133 @@
+package org.folio.bulkops.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.folio.bulkops.domain.dto.EntityType.HOLDINGS_RECORD;
+import static org.folio.bulkops.domain.dto.EntityType.USER;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import org.folio.bulkops.client.AddressTypeClient;
+import org.folio.bulkops.client.CallNumberTypeClient;
+import org.folio.bulkops.client.DepartmentClient;
+import org.folio.bulkops.client.GroupClient;
+import org.folio.bulkops.client.HoldingsNoteTypeClient;
+import org.folio.bulkops.client.InstanceFormatsClient;
+import org.folio.bulkops.client.InstanceStatusesClient;
+import org.folio.bulkops.client.InstanceTypesClient;
+import org.folio.bulkops.client.ItemNoteTypeClient;
+import org.folio.bulkops.client.LoanTypeClient;
+import org.folio.bulkops.client.LocationClient;
+import org.folio.bulkops.client.MaterialTypeClient;
+import org.folio.bulkops.client.ModesOfIssuanceClient;
+import org.folio.bulkops.client.NatureOfContentTermsClient;
+import org.folio.bulkops.client.ServicePointClient;
+import org.folio.bulkops.client.StatisticalCodeClient;
+import org.folio.bulkops.domain.bean.ItemLocation;
+import org.folio.bulkops.domain.bean.ItemLocationCollection;
+import org.folio.bulkops.domain.bean.UserGroup;
+import org.folio.bulkops.domain.bean.UserGroupCollection;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class ReferenceDataSnapshotServiceTest {
+  @Mock
+  private LocationClient locationClient;
+  @Mock
+  private LoanTypeClient loanTypeClient;
+  @Mock
+  private MaterialTypeClient materialTypeClient;
+  @Mock
+  private ItemNoteTypeClient itemNoteTypeClient;
+  @Mock
+  private HoldingsNoteTypeClient holdingsNoteTypeClient;
+  @Mock
+  private StatisticalCodeClient statisticalCodeClient;
+  @Mock
+  private CallNumberTypeClient callNumberTypeClient;
+  @Mock
+  private ServicePointClient servicePointClient;
+  @Mock
+  private GroupClient groupClient;
+  @Mock
+  private AddressTypeClient addressTypeClient;
+  @Mock
+  private DepartmentClient departmentClient;
+  @Mock
+  private InstanceStatusesClient instanceStatusesClient;
+  @Mock
+  private ModesOfIssuanceClient modesOfIssuanceClient;
+  @Mock
+  private InstanceTypesClient instanceTypesClient;
+  @Mock
+  private NatureOfContentTermsClient natureOfContentTermsClient;
+  @Mock
+  private InstanceFormatsClient instanceFormatsClient;
+  @InjectMocks
+  private ReferenceDataSnapshotService referenceDataSnapshotService;
+
+  @Test
+  void shouldLoadAllPagesOfReferenceData() {
+    var firstPage = IntStream.range(0, 1000)
+      .mapToObj(i -> ItemLocation.builder().id(UUID.randomUUID().toString()).name("Location " + i).build())
+      .toList();
+    var lastLocation = ItemLocation.builder().id(UUID.randomUUID().toString()).name("Last location").build();
+    when(locationClient.getLocations(0, 1000)).thenReturn(ItemLocationCollection.builder().locations(firstPage).build());
+    when(locationClient.getLocations(1000, 1000)).thenReturn(ItemLocationCollection.builder().locations(List.of(lastLocation)).build());
+
+    var snapshot = referenceDataSnapshotService.getSnapshot(HOLDINGS_RECORD);
+
+    assertThat(snapshot.getLocations().getValues()).hasSize(1001);
+    assertThat(snapshot.getLocations().findByName("Last location")).contains(lastLocation);
+    assertThat(snapshot.getLocations().findById(firstPage.get(0).getId())).contains(firstPage.get(0));
+  }
+
+  @Test
+  void shouldResolveUserReferenceDataFromSnapshot() {
+    var patronGroup = UserGroup.builder().id(UUID.randomUUID().toString()).group("Staff").build();
+    when(groupClient.getGroups(0, 1000)).thenReturn(UserGroupCollection.builder().usergroups(List.of(patronGroup)).build());
+    var userReferenceHelper = new UserReferenceHelper(new UserReferenceService(addressTypeClient, departmentClient, groupClient, null, null, null, null));
+
+    var snapshot = referenceDataSnapshotService.getSnapshot(USER);
+
+    try (var scope = ReferenceDataSnapshot.activate(() -> snapshot)) {
+      assertThat(userReferenceHelper.getPatronGroupByName("staff")).isEqualTo(patronGroup);
+      assertThat(userReferenceHelper.getPatronGroupById(patronGroup.getId())).isEqualTo(patronGroup);
+    }
+
+    verify(groupClient, never()).getByQuery(anyString());
+    verify(groupClient, never()).getGroupById(anyString());
+    verifyNoInteractions(locationClient);
+  }
+
+  @Test
+  void shouldResolveFromActiveSnapshotAndFallBackToRemoteCall() {
+    var location = ItemLocation.builder().id(UUID.randomUUID().toString()).name("Main library").build();
+    var snapshot = ReferenceDataSnapshot.builder()
+      .locations(ReferenceDataSnapshot.Dictionary.of(List.of(location), ItemLocation::getId, ItemLocation::getName))
+      .build();
+    var holdingsReferenceHelper = new HoldingsReferenceHelper(new HoldingsReferenceService(null, null, locationClient, null, null, null, null, null));
+    var missingId = UUID.randomUUID().toString();
+    var missing = ItemLocation.builder().id(missingId).name("Annex").build();
+    when(locationClient.getLocationById(missingId)).thenReturn(missing);
+
+    try (var scope = ReferenceDataSnapshot.activate(() -> snapshot)) {
+      assertThat(holdingsReferenceHelper.getLocationById(location.getId())).isEqualTo(location);
+      assertThat(holdingsReferenceHelper.getLocationById(missingId)).isEqualTo(missing);
+    }
+
+    verify(locationClient, never()).getLocationById(location.getId());
+    verify(locationClient, never()).getByQuery(anyString());
+    assertThat(ReferenceDataSnapshot.current()).isEmpty();
+  }
+}
@@ -0,0 +1,51 @@
+package org.folio.bulkops.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+
+import org.folio.bulkops.domain.bean.ItemLocation;
+import org.folio.bulkops.domain.bean.StatisticalCode;
+import org.folio.bulkops.exception.DuplicateNameException;
+import org.folio.bulkops.service.ReferenceDataSnapshot.Dictionary;
+import org.junit.jupiter.api.Test;
+
+class ReferenceDataSnapshotTest {
+
+  @Test
+  void shouldResolveNormalizedNamesAndIds() {
+    var location = ItemLocation.builder().id("id-1").name("Main  Library").build();
+    var dictionary = Dictionary.ofUniqueNames(List.of(location), ItemLocation::getId, ItemLocation::getName);
+
+    assertThat(dictionary.findByName("main library")).contains(location);
+    assertThat(dictionary.findByName(" MAIN LIBRARY ")).contains(location);
+    assertThat(dictionary.findById("id-1")).contains(location);
+    assertThat(dictionary.findByName("Annex")).isEmpty();
+    assertThat(dictionary.findByName(null)).isEmpty();
+  }
+
+  @Test
+  void shouldFailOnAmbiguousUniqueName() {
+    var dictionary = Dictionary.ofUniqueNames(List.of(
+        ItemLocation.builder().id("id-1").name("Annex").build(),
+        ItemLocation.builder().id("id-2").name("annex").build(),
+        ItemLocation.builder().id("id-3").name("Main").build()),
+      ItemLocation::getId, ItemLocation::getName);
+
+    assertThatThrownBy(() -> dictionary.findByName("Annex"))
+      .isInstanceOf(DuplicateNameException.class)
+      .hasMessage("Name \"Annex\" is ambiguous, it matches several records with ids: id-1, id-2");
+    assertThat(dictionary.findByName("Main")).isPresent();
+    assertThat(dictionary.findById("id-2")).isPresent();
+  }
+
+  @Test
+  void shouldUseFirstValueForDuplicateNonUniqueName() {
+    var first = StatisticalCode.builder().id("id-1").name("Book").build();
+    var second = StatisticalCode.builder().id("id-2").name("Book").build();
+    var dictionary = Dictionary.of(List.of(first, second), StatisticalCode::getId, StatisticalCode::getName);
+
+    assertThat(dictionary.findByName("book")).contains(first);
+  }
+}